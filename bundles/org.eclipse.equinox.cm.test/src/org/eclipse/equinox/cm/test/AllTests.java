@@ -20,7 +20,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({ ConfigurationAdminTest.class, ManagedServiceFactoryTest.class, ManagedServiceTest.class,
 		ConfigurationDictionaryTest.class, ConfigurationPluginTest.class, ConfigurationListenerTest.class,
-		ConfigurationEventAdapterTest.class })
+		ConfigurationEventAdapterTest.class, CoordinatedConfigurationTest.class })
 public class AllTests {
 	// see @SuitClasses
 }
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.cm.test;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.*;
+import org.osgi.framework.*;
+import org.osgi.service.cm.*;
+import org.osgi.service.coordinator.Coordination;
+import org.osgi.service.coordinator.Coordinator;
+
+/**
+ * Tests configuration changes made inside a coordination of the
+ * {@link Coordinator} service.
+ */
+public class CoordinatedConfigurationTest extends AbstractCMTest {
+
+	private static final long TIMEOUT = 5000;
+	// time to wait for events that must not be delivered
+	private static final long QUIET_TIME = 500;
+
+	private Coordinator coordinator;
+	private ServiceReference<Coordinator> coordinatorReference;
+	private final List<ServiceRegistration<?>> registrations = new ArrayList<>();
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		Bundle bundle = getBundle("org.eclipse.equinox.coordinator");
+		assertNotNull("Implementation org.eclipse.equinox.coordinator not found!", bundle);
+		bundle.start();
+		coordinatorReference = getBundleContext().getServiceReference(Coordinator.class);
+		coordinator = getBundleContext().getService(coordinatorReference);
+		super.setUp();
+	}
+
+	@Override
+	@After
+	public void tearDown() throws Exception {
+		for (ServiceRegistration<?> registration : registrations) {
+			registration.unregister();
+		}
+		Configuration[] configurations = cm.listConfigurations("(service.pid=coordinated.*)");
+		if (configurations != null) {
+			for (Configuration configuration : configurations) {
+				configuration.delete();
+			}
+		}
+		getBundleContext().ungetService(coordinatorReference);
+		super.tearDown();
+	}
+
+	@Test
+	public void testUpdateIsSavedInsideCoordination() throws Exception {
+		Coordination coordination = coordinator.begin("cm.test.save", 0);
+		try {
+			cm.getConfiguration("coordinated.save", null).update(dictionaryOf("key", "value"));
+			// the configuration is persisted by update(), before the coordination ends
+			restartConfigurationAdmin();
+			Dictionary<String, Object> properties = cm.getConfiguration("coordinated.save", null).getProperties();
+			assertNotNull("configuration was not saved", properties);
+			assertEquals("value", properties.get("key"));
+		} finally {
+			coordination.end();
+		}
+	}
+
+	@Test
+	public void testSaveFailureInsideCoordination() throws Exception {
+		Configuration config = cm.getConfiguration("coordinated.fail", null);
+		List<ConfigurationEvent> events = new CopyOnWriteArrayList<>();
+		registerListener(events);
+		File store = getBundle("org.eclipse.equinox.cm").getBundleContext().getDataFile("store");
+		File moved = new File(store.getParentFile(), "store.moved");
+		assertTrue(store.renameTo(moved));
+		Coordination coordination = coordinator.begin("cm.test.fail", 0);
+		try {
+			// a file in place of the store directory makes saving a new configuration fail
+			assertTrue(store.createNewFile());
+			assertThrows(IOException.class, () -> config.update(dictionaryOf("key", "value")));
+		} finally {
+			coordination.end();
+			store.delete();
+			assertTrue(moved.renameTo(store));
+		}
+		Thread.sleep(QUIET_TIME);
+		assertEquals("no event for a failed update", Collections.emptyList(), events);
+	}
+
+	@Test
+	public void testListenerEventsCoalesced() throws Exception {
+		List<ConfigurationEvent> events = new CopyOnWriteArrayList<>();
+		registerListener(events);
+		Coordination coordination = coordinator.begin("cm.test.events", 0);
+		try {
+			Configuration updated = cm.getConfiguration("coordinated.updated", null);
+			for (int i = 0; i < 3; i++) {
+				updated.update(dictionaryOf("count", Integer.valueOf(i)));
+			}
+			Configuration recreated = cm.getConfiguration("coordinated.recreated", null);
+			recreated.update(dictionaryOf("key", "old"));
+			recreated.delete();
+			cm.getConfiguration("coordinated.recreated", null).update(dictionaryOf("key", "new"));
+			Thread.sleep(QUIET_TIME);
+			assertEquals("events delivered before the coordination ended", Collections.emptyList(), events);
+		} finally {
+			coordination.end();
+		}
+		waitFor(() -> events.size() >= 3);
+		Thread.sleep(QUIET_TIME);
+		List<String> received = new ArrayList<>();
+		for (ConfigurationEvent event : events) {
+			received.add(event.getPid() + ":" + event.getType());
+		}
+		// the last update of a pid is delivered once, and a delete is not lost when
+		// the pid is created again
+		assertEquals(Arrays.asList("coordinated.updated:" + ConfigurationEvent.CM_UPDATED,
+				"coordinated.recreated:" + ConfigurationEvent.CM_DELETED,
+				"coordinated.recreated:" + ConfigurationEvent.CM_UPDATED), received);
+	}
+
+	@Test
+	public void testCoalescedEventsInOrderOfLastChange() throws Exception {
+		List<ConfigurationEvent> events = new CopyOnWriteArrayList<>();
+		registerListener(events);
+		Coordination coordination = coordinator.begin("cm.test.order", 0);
+		try {
+			Configuration first = cm.getConfiguration("coordinated.first", null);
+			Configuration second = cm.getConfiguration("coordinated.second", null);
+			first.update(dictionaryOf("count", Integer.valueOf(1)));
+			second.update(dictionaryOf("count", Integer.valueOf(1)));
+			first.update(dictionaryOf("count", Integer.valueOf(2)));
+		} finally {
+			coordination.end();
+		}
+		waitFor(() -> events.size() >= 2);
+		Thread.sleep(QUIET_TIME);
+		List<String> received = new ArrayList<>();
+		for (ConfigurationEvent event : events) {
+			received.add(event.getPid());
+		}
+		// the first pid changed last, so its event comes last
+		assertEquals(Arrays.asList("coordinated.second", "coordinated.first"), received);
+	}
+
+	@Test
+	public void testManagedServiceFactoryUpdatedPerPid() throws Exception {
+		Map<String, AtomicInteger> updates = new ConcurrentHashMap<>();
+		Map<String, Object> lastValues = new ConcurrentHashMap<>();
+		ManagedServiceFactory factory = new ManagedServiceFactory() {
+			@Override
+			public String getName() {
+				return "coordinated";
+			}
+
+			@Override
+			public void updated(String pid, Dictionary<String, ?> properties) {
+				updates.computeIfAbsent(pid, p -> new AtomicInteger()).incrementAndGet();
+				lastValues.put(pid, properties.get("count"));
+			}
+
+			@Override
+			public void deleted(String pid) {
+				// not expected
+			}
+		};
+		registrations.add(registerService(ManagedServiceFactory.class, factory,
+				dictionaryOf(Constants.SERVICE_PID, "coordinated.factory")));
+
+		Coordination coordination = coordinator.begin("cm.test.factory", 0);
+		List<String> pids = new ArrayList<>();
+		try {
+			for (int i = 0; i < 3; i++) {
+				Configuration config = cm.createFactoryConfiguration("coordinated.factory", null);
+				pids.add(config.getPid());
+				config.update(dictionaryOf("count", Integer.valueOf(1)));
+				config.update(dictionaryOf("count", Integer.valueOf(2)));
+			}
+		} finally {
+			coordination.end();
+		}
+		waitFor(() -> updates.size() >= pids.size());
+		Thread.sleep(QUIET_TIME);
+		assertEquals(new HashSet<>(pids), updates.keySet());
+		for (String pid : pids) {
+			assertEquals("updates of " + pid, 1, updates.get(pid).get());
+			assertEquals("last value of " + pid, Integer.valueOf(2), lastValues.get(pid));
+		}
+	}
+
+	private void registerListener(List<ConfigurationEvent> events) {
+		ConfigurationListener listener = event -> {
+			if (event.getPid().startsWith("coordinated.")) {
+				events.add(event);
+			}
+		};
+		registrations.add(registerService(ConfigurationListener.class, listener, null));
+	}
+
+	private void restartConfigurationAdmin() throws BundleException {
+		Bundle bundle = getBundle("org.eclipse.equinox.cm");
+		bundle.stop();
+		bundle.start();
+		ServiceReference<ConfigurationAdmin> reference = getBundleContext()
+				.getServiceReference(ConfigurationAdmin.class);
+		cm = getBundleContext().getService(reference);
+	}
+
+	private static void waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+		long end = System.currentTimeMillis() + TIMEOUT;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertTrue("timed out", condition.getAsBoolean());
+	}
+}
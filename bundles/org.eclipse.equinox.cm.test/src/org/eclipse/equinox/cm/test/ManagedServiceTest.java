@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2012 IBM Corporation and others
+ * Copyright (c) 2007, 2026 IBM Corporation and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,8 @@ package org.eclipse.equinox.cm.test;
 import static org.junit.Assert.*;
 
 import java.util.Dictionary;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.eclipse.equinox.log.ExtendedLogReaderService;
 import org.junit.Test;
 import org.osgi.framework.*;
@@ -197,4 +199,36 @@ public class ManagedServiceTest extends AbstractCMTest {
 		}
 		reg.unregister();
 	}
+
+	@Test
+	public void testSlowManagedServiceDoesNotBlockOthers() throws Exception {
+		CountDownLatch slowCalled = new CountDownLatch(1);
+		CountDownLatch releaseSlow = new CountDownLatch(1);
+		ManagedService slow = properties -> {
+			slowCalled.countDown();
+			try {
+				releaseSlow.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		CountDownLatch fastCalled = new CountDownLatch(1);
+		ManagedService fast = properties -> fastCalled.countDown();
+
+		ServiceRegistration<ManagedService> slowReg = registerService(ManagedService.class, slow,
+				dictionaryOf(Constants.SERVICE_PID, "slow"));
+		try {
+			assertTrue("slow not updated", slowCalled.await(5, TimeUnit.SECONDS));
+			ServiceRegistration<ManagedService> fastReg = registerService(ManagedService.class, fast,
+					dictionaryOf(Constants.SERVICE_PID, "fast"));
+			try {
+				assertTrue("fast blocked by slow", fastCalled.await(5, TimeUnit.SECONDS));
+			} finally {
+				fastReg.unregister();
+			}
+		} finally {
+			releaseSlow.countDown();
+			slowReg.unregister();
+		}
+	}
 }
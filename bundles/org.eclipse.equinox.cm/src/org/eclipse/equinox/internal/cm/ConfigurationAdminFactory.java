@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 Cognos Incorporated, IBM Corporation and others.
+ * Copyright (c) 2005, 2026 Cognos Incorporated, IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.equinox.internal.cm;
 
 import java.security.Permission;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import org.osgi.framework.*;
 import org.osgi.service.cm.ConfigurationAdmin;
@@ -35,6 +36,8 @@ public class ConfigurationAdminFactory implements ServiceFactory<ConfigurationAd
 			ConfigurationPermission.CONFIGURE);
 	static private final Permission allAttributePermission = new ConfigurationPermission("*", //$NON-NLS-1$
 			ConfigurationPermission.ATTRIBUTE);
+	static private final String PROP_UPDATE_THREADS = "equinox.cm.update.threads"; //$NON-NLS-1$
+	static private final long SLOW_UPDATE_TIME = 5000;
 	private final EventDispatcher eventDispatcher;
 	private final PluginManager pluginManager;
 	private final LogTracker log;
@@ -42,6 +45,7 @@ public class ConfigurationAdminFactory implements ServiceFactory<ConfigurationAd
 	private final ManagedServiceFactoryTracker managedServiceFactoryTracker;
 	private final ConfigurationStore configurationStore;
 	private final ServiceTracker<Coordinator, Coordinator> coordinationServiceTracker;
+	private final OrderedTaskQueue updateQueue;
 
 	public ConfigurationAdminFactory(BundleContext context, LogTracker log) {
 		this.log = log;
@@ -51,6 +55,20 @@ public class ConfigurationAdminFactory implements ServiceFactory<ConfigurationAd
 		managedServiceTracker = new ManagedServiceTracker(this, configurationStore, context);
 		managedServiceFactoryTracker = new ManagedServiceFactoryTracker(this, configurationStore, context);
 		coordinationServiceTracker = new ServiceTracker<>(context, Coordinator.class, null);
+		updateQueue = new OrderedTaskQueue("ConfigurationAdmin Update Queue", getUpdateThreads(context)); //$NON-NLS-1$
+	}
+
+	private static int getUpdateThreads(BundleContext context) {
+		String threads = context.getProperty(PROP_UPDATE_THREADS);
+		if (threads != null) {
+			try {
+				return Math.max(1, Integer.parseInt(threads.trim()));
+			} catch (NumberFormatException e) {
+				// use the default
+			}
+		}
+		// callbacks often block; do not let one slow callback hold up all others
+		return Math.max(2, Runtime.getRuntime().availableProcessors());
 	}
 
 	void start() {
@@ -169,6 +187,23 @@ public class ConfigurationAdminFactory implements ServiceFactory<ConfigurationAd
 		}
 	}
 
+	/**
+	 * Calls a managed service or managed service factory asynchronously. Calls to
+	 * the same target are serialized in the order they are made; calls to
+	 * different targets may happen concurrently.
+	 */
+	void asynchUpdate(Object target, Runnable callback) {
+		updateQueue.put(target, () -> {
+			long start = System.nanoTime();
+			callback.run();
+			long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			if (time >= SLOW_UPDATE_TIME) {
+				warn("Configuration update of " + target + " took " + time + "ms; " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						+ updateQueue.getQueueDepth() + " updates are queued"); //$NON-NLS-1$
+			}
+		});
+	}
+
 	Dictionary<String, Object> modifyConfiguration(ServiceReference<?> reference, ConfigurationImpl config) {
 		return pluginManager.modifyConfiguration(reference, config);
 	}
@@ -212,10 +247,19 @@ public class ConfigurationAdminFactory implements ServiceFactory<ConfigurationAd
 		}
 
 		public void addTask(Object key, Runnable runnable) {
+			// a replaced task moves to the end, it runs in the order of the last change
+			tasks.remove(key);
 			tasks.put(key, runnable);
 		}
 	}
 
+	/**
+	 * Runs the runnable when the current coordination ends, or immediately if
+	 * there is no coordination. Only the last runnable put for a key is run, at
+	 * the position of that last put, so applying many configuration changes in
+	 * one coordination calls each target once and in the order of the changes.
+	 * Configurations are still saved when they are updated.
+	 */
 	void executeCoordinated(Object key, Runnable runnable) {
 		coordinate().ifPresentOrElse(coordination -> coordinationParticipant(coordination).addTask(key, runnable),
 				() -> runnable.run());
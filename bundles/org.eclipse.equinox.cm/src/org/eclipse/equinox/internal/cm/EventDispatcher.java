@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 Cognos Incorporated, IBM Corporation and others.
+ * Copyright (c) 2005, 2026 Cognos Incorporated, IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
  *******************************************************************************/
 package org.eclipse.equinox.internal.cm;
 
+import java.util.List;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.cm.*;
@@ -87,7 +88,18 @@ public class EventDispatcher {
 		}
 
 		for (final ServiceReference<ConfigurationListener> ref : refs) {
-			configurationAdminFactory.executeCoordinated(new Object(), () -> enqueue(event, ref));
+			// within a coordination only the last update event of a pid is delivered to
+			// a listener; a delete replaces the pending update and is always delivered,
+			// so an update after it (a re-created pid) is delivered after the delete
+			Object updateKey = List.of(ref, pid);
+			if (type == ConfigurationEvent.CM_UPDATED) {
+				configurationAdminFactory.executeCoordinated(updateKey, () -> enqueue(event, ref));
+			} else {
+				if (type == ConfigurationEvent.CM_DELETED) {
+					configurationAdminFactory.cancelExecuteCoordinated(updateKey);
+				}
+				configurationAdminFactory.executeCoordinated(new Object(), () -> enqueue(event, ref));
+			}
 		}
 	}
 
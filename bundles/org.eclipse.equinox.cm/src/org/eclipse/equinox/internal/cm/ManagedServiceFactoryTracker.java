@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 Cognos Incorporated, IBM Corporation and others.
+ * Copyright (c) 2005, 2026 Cognos Incorporated, IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,8 +33,6 @@ class ManagedServiceFactoryTracker extends ServiceTracker<ManagedServiceFactory,
 	/** @GuardedBy targets */
 	private final TargetMap targets = new TargetMap();
 
-	private final SerializedTaskQueue queue = new SerializedTaskQueue("ManagedServiceFactory Update Queue"); //$NON-NLS-1$
-
 	public ManagedServiceFactoryTracker(ConfigurationAdminFactory configurationAdminFactory,
 			ConfigurationStore configurationStore, BundleContext context) {
 		super(context, ManagedServiceFactory.class.getName(), null);
@@ -275,7 +273,8 @@ class ManagedServiceFactoryTracker extends ServiceTracker<ManagedServiceFactory,
 	}
 
 	private void asynchDeleted(final ManagedServiceFactory service, final String pid) {
-		queue.put(new Runnable() {
+		configurationAdminFactory.cancelExecuteCoordinated(List.of(service, pid));
+		configurationAdminFactory.asynchUpdate(service, new Runnable() {
 			@Override
 			public void run() {
 				try {
@@ -289,12 +288,14 @@ class ManagedServiceFactoryTracker extends ServiceTracker<ManagedServiceFactory,
 
 	private void asynchUpdated(final ManagedServiceFactory service, final String pid,
 			final Dictionary<String, Object> properties) {
-		configurationAdminFactory.cancelExecuteCoordinated(service);
+		// coordinated updates are delivered once per pid of the factory
+		Object key = List.of(service, pid);
+		configurationAdminFactory.cancelExecuteCoordinated(key);
 		if (properties == null) {
 			return;
 		}
-		configurationAdminFactory.executeCoordinated(service, () -> {
-			queue.put(() -> {
+		configurationAdminFactory.executeCoordinated(key, () -> {
+			configurationAdminFactory.asynchUpdate(service, () -> {
 				try {
 					service.updated(pid, properties);
 				} catch (ConfigurationException e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 Cognos Incorporated, IBM Corporation and others.
+ * Copyright (c) 2005, 2026 Cognos Incorporated, IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,8 +32,6 @@ class ManagedServiceTracker extends ServiceTracker<ManagedService, ManagedServic
 	/** @GuardedBy targets */
 	private final TargetMap targets = new TargetMap();
 
-	private final SerializedTaskQueue queue = new SerializedTaskQueue("ManagedService Update Queue"); //$NON-NLS-1$
-
 	public ManagedServiceTracker(ConfigurationAdminFactory configurationAdminFactory,
 			ConfigurationStore configurationStore, BundleContext context) {
 		super(context, ManagedService.class.getName(), null);
@@ -287,7 +285,7 @@ class ManagedServiceTracker extends ServiceTracker<ManagedService, ManagedServic
 
 	private void asynchUpdated(final ManagedService service, final Dictionary<String, ?> properties) {
 		configurationAdminFactory.cancelExecuteCoordinated(service);
-		configurationAdminFactory.executeCoordinated(service, () -> queue.put(() -> {
+		configurationAdminFactory.executeCoordinated(service, () -> configurationAdminFactory.asynchUpdate(service, () -> {
 			try {
 				service.updated(properties);
 			} catch (ConfigurationException e) {
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.internal.cm;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OrderedTaskQueue is a utility class that allows asynchronous execution of
+ * tasks on a bounded number of threads. Tasks put with the same key are
+ * executed serialized in the order they were put; tasks with different keys
+ * may execute concurrently. Keys are compared by identity.
+ */
+public class OrderedTaskQueue {
+
+	private static final int MAX_WAIT = 5000;
+	private final ThreadPoolExecutor executor;
+	/** @GuardedBy pending */
+	private final Map<Object, Deque<Runnable>> pending = new IdentityHashMap<>();
+	private final AtomicInteger queueDepth = new AtomicInteger();
+
+	public OrderedTaskQueue(final String queueName, int maxThreads) {
+		final AtomicInteger threadCount = new AtomicInteger();
+		ThreadFactory threadFactory = r -> new Thread(r, queueName + " - " + threadCount.incrementAndGet()); //$NON-NLS-1$
+		executor = new ThreadPoolExecutor(maxThreads, maxThreads, MAX_WAIT, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+	}
+
+	public void put(Object key, Runnable newTask) {
+		queueDepth.incrementAndGet();
+		synchronized (pending) {
+			Deque<Runnable> tasks = pending.get(key);
+			if (tasks != null) {
+				// a task for the key is queued or executing; it schedules the new task
+				tasks.add(newTask);
+				return;
+			}
+			tasks = new ArrayDeque<>();
+			tasks.add(newTask);
+			pending.put(key, tasks);
+		}
+		executor.execute(() -> runNext(key));
+	}
+
+	private void runNext(Object key) {
+		Runnable task;
+		synchronized (pending) {
+			task = pending.get(key).peek();
+		}
+		try {
+			task.run();
+		} finally {
+			queueDepth.decrementAndGet();
+			boolean more;
+			synchronized (pending) {
+				Deque<Runnable> tasks = pending.get(key);
+				tasks.remove();
+				more = !tasks.isEmpty();
+				if (!more) {
+					pending.remove(key);
+				}
+			}
+			if (more) {
+				// give tasks of other keys a chance before continuing with this key
+				executor.execute(() -> runNext(key));
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of tasks that are queued or executing.
+	 */
+	public int getQueueDepth() {
+		return queueDepth.get();
+	}
+}
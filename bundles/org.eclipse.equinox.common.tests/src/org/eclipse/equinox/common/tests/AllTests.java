@@ -15,6 +15,7 @@ package org.eclipse.equinox.common.tests;
 
 import org.eclipse.core.runtime.tests.FileLocatorTest;
 import org.eclipse.equinox.common.tests.adaptable.AdaptableTests;
+import org.eclipse.equinox.common.tests.concurrent.ConcurrentFutureTest;
 import org.eclipse.equinox.common.tests.registry.RegistryTests;
 import org.eclipse.equinox.common.tests.registry.simple.SimpleRegistryTests;
 import org.eclipse.equinox.common.tests.text.StringMatcherTests;
@@ -24,7 +25,7 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ StringMatcherTests.class, RuntimeTests.class, AdaptableTests.class, RegistryTests.class,
-		SimpleRegistryTests.class, FileLocatorTest.class })
+		SimpleRegistryTests.class, FileLocatorTest.class, ConcurrentFutureTest.class })
 public class AllTests {
 	// intentionally left blank
 }
@@ -207,6 +207,54 @@ public class ServiceCallerTest {
 		}
 	}
 
+	@Test
+	public void testCallCached() {
+		Bundle bundle = FrameworkUtil.getBundle(ServiceCallerTest.class);
+		assertNotNull("Test only works under an OSGi runtime", bundle);
+		BundleContext context = bundle.getBundleContext();
+		ServiceExampleFactory factory = new ServiceExampleFactory();
+		ServiceRegistration<IServiceExample> reg = null;
+		try {
+			assertFalse("Should not be called.",
+					ServiceCaller.callCached(getClass(), IServiceExample.class, null, IServiceExample::call));
+
+			Dictionary<String, String> props = new Hashtable<>();
+			props.put("test", "value");
+			reg = context.registerService(IServiceExample.class, factory, props);
+
+			assertTrue("Call returned false.",
+					ServiceCaller.callCached(getClass(), IServiceExample.class, null, IServiceExample::call));
+			ServiceExample lastCreated1 = factory.lastCreated;
+			assertTrue("Service called successfully", lastCreated1.called);
+			lastCreated1.called = false;
+			assertTrue("Call returned false.",
+					ServiceCaller.callCached(getClass(), IServiceExample.class, null, IServiceExample::call));
+			assertTrue("Service called successfully", lastCreated1.called);
+			assertEquals("Should reuse the cached service", lastCreated1, factory.lastCreated);
+			assertEquals("Unexpected createCount", 1, factory.getCreateCount(bundle));
+			assertNotNull("Expected some users", reg.getReference().getUsingBundles());
+
+			assertTrue("Call returned false.", ServiceCaller.callCached(getClass(), IServiceExample.class,
+					"(test=value)", IServiceExample::call));
+			assertFalse("Should not have found service with filter", ServiceCaller.callCached(getClass(),
+					IServiceExample.class, "(test!=value)", IServiceExample::call));
+
+			reg.unregister();
+			reg = null;
+			assertFalse("Should not be called.",
+					ServiceCaller.callCached(getClass(), IServiceExample.class, null, IServiceExample::call));
+
+			reg = context.registerService(IServiceExample.class, factory, props);
+			assertTrue("Call returned false.",
+					ServiceCaller.callCached(getClass(), IServiceExample.class, null, IServiceExample::call));
+			assertNotEquals("Should have new service after re-register", lastCreated1, factory.lastCreated);
+		} finally {
+			if (reg != null) {
+				reg.unregister();
+			}
+		}
+	}
+
 	@Test
 	public void testInvalidFilter() {
 		IllegalArgumentException exceptionOnConstructor = assertThrows(IllegalArgumentException.class,
@@ -218,6 +266,12 @@ public class ServiceCallerTest {
 			});
 		});
 		assertThat("Unexpected cause.", exceptionOnCall.getCause(), instanceOf(InvalidSyntaxException.class));
+
+		IllegalArgumentException exceptionOnCallCached = assertThrows(IllegalArgumentException.class, () -> {
+			ServiceCaller.callCached(getClass(), IServiceExample.class, "invalid filter", (example) -> {
+			});
+		});
+		assertThat("Unexpected cause.", exceptionOnCallCached.getCause(), instanceOf(InvalidSyntaxException.class));
 	}
 
 	@Test
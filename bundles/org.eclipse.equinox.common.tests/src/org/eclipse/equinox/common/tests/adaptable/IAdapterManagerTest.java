@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2025 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.internal.runtime.AdapterManager;
 import org.eclipse.core.internal.runtime.IAdapterFactoryExt;
@@ -69,6 +70,12 @@ public class IAdapterManagerTest {
 	class X extends Y implements A, B {
 	}
 
+	static class Z {
+	}
+
+	static class Unrelated {
+	}
+
 	private static final String NON_EXISTING = "com.does.not.Exist";
 	private static final String TEST_ADAPTER = "org.eclipse.equinox.common.tests.adaptable.TestAdapter";
 	private static final String TEST_ADAPTER_CL = "testAdapter.testUnknown";
@@ -529,4 +536,92 @@ public class IAdapterManagerTest {
 			manager.unregisterAdapters(yFactory, TestAdaptable.class);
 		}
 	}
+
+	/**
+	 * Tests that a factory registered for a super type of an adaptable is found
+	 * after the adaptable was found to have no adapter of that type.
+	 */
+	@Test
+	public void testGetAdapterAfterRegisteringFactoryForSuperType() {
+		X xAdaptable = new X();
+		assertNull(manager.getAdapter(xAdaptable, Long.class));
+
+		IAdapterFactory factory = new IAdapterFactory() {
+			@Override
+			public Class<?>[] getAdapterList() {
+				return new Class<?>[] { Long.class };
+			}
+
+			@Override
+			public <T> T getAdapter(Object adaptableObject, Class<T> adapterType) {
+				return adapterType.cast(Long.valueOf(42));
+			}
+		};
+		manager.registerAdapters(factory, M.class);
+		try {
+			assertEquals(Long.valueOf(42), manager.getAdapter(xAdaptable, Long.class));
+		} finally {
+			manager.unregisterAdapters(factory);
+		}
+		assertNull(manager.getAdapter(xAdaptable, Long.class));
+	}
+
+	/**
+	 * Tests that registering a factory does not discard the adapters computed for
+	 * unrelated adaptable classes.
+	 */
+	@Test
+	public void testRegisterFactoryForUnrelatedType() {
+		// only computing the adapters of Unrelated asks this factory for its adapters
+		AtomicInteger lookups = new AtomicInteger();
+		IAdapterFactory unrelatedFactory = new IAdapterFactory() {
+			@Override
+			public Class<?>[] getAdapterList() {
+				lookups.incrementAndGet();
+				return new Class<?>[] { Long.class };
+			}
+
+			@Override
+			public <T> T getAdapter(Object adaptableObject, Class<T> adapterType) {
+				return adapterType.cast(Long.valueOf(42));
+			}
+		};
+		GenericToStringAdapterFactory factory = new GenericToStringAdapterFactory(Z.class);
+		manager.registerAdapters(unrelatedFactory, Unrelated.class);
+		try {
+			assertEquals(Long.valueOf(42), manager.getAdapter(new Unrelated(), Long.class));
+			int computedLookups = lookups.get();
+			assertTrue("Lookup of Unrelated not computed", computedLookups > 0);
+
+			manager.registerAdapters(factory, Z.class);
+			assertEquals(Long.valueOf(42), manager.getAdapter(new Unrelated(), Long.class));
+			assertEquals("Lookup of Unrelated computed again", computedLookups, lookups.get());
+		} finally {
+			manager.unregisterAdapters(factory, Z.class);
+			manager.unregisterAdapters(unrelatedFactory, Unrelated.class);
+		}
+	}
+
+	/**
+	 * Tests that loading an adapter from a factory that is not loaded yet is
+	 * counted as a factory activation.
+	 */
+	@Test
+	public void testLoadAdapterCountsFactoryActivation() {
+		AdapterManager adapterManager = AdapterManager.getDefault();
+		GenericToStringAdapterFactory factory = new GenericToStringAdapterFactory(Z.class);
+		factory.loaded = false;
+		adapterManager.registerAdapters(factory, Z.class);
+		try {
+			long activations = adapterManager.getStatistics().factoryActivations();
+			assertNull(adapterManager.getAdapter(new Z(), String.class.getName()));
+			assertEquals(activations, adapterManager.getStatistics().factoryActivations());
+			assertNotNull(adapterManager.loadAdapter(new Z(), String.class.getName()));
+			assertEquals(activations + 1, adapterManager.getStatistics().factoryActivations());
+			assertNotNull(adapterManager.loadAdapter(new Z(), String.class.getName()));
+			assertEquals(activations + 1, adapterManager.getStatistics().factoryActivations());
+		} finally {
+			adapterManager.unregisterAdapters(factory, Z.class);
+		}
+	}
 }
@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.common.tests.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.equinox.concurrent.future.CompletableFutures;
+import org.eclipse.equinox.concurrent.future.IExecutor;
+import org.eclipse.equinox.concurrent.future.IFuture;
+import org.eclipse.equinox.concurrent.future.IListenableFuture;
+import org.eclipse.equinox.concurrent.future.IProgressRunnable;
+import org.eclipse.equinox.concurrent.future.ImmediateExecutor;
+import org.eclipse.equinox.concurrent.future.PooledExecutor;
+import org.eclipse.equinox.concurrent.future.SingleOperationFuture;
+import org.eclipse.equinox.concurrent.future.SingleOperationListenableFuture;
+import org.eclipse.equinox.concurrent.future.TimeoutException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PooledExecutor} and {@link CompletableFutures}.
+ */
+public class ConcurrentFutureTest {
+
+	private static final long TIMEOUT = 10000;
+
+	@Test
+	public void testPooledExecutorReusesThreads() throws Exception {
+		PooledExecutor executor = new PooledExecutor(2);
+		try {
+			Set<String> threads = new HashSet<>();
+			for (int i = 0; i < 20; i++) {
+				final int value = i;
+				IFuture<Integer> future = executor.execute(monitor -> {
+					synchronized (threads) {
+						threads.add(Thread.currentThread().getName());
+					}
+					return Integer.valueOf(value);
+				}, null);
+				assertTrue(future instanceof IListenableFuture);
+				assertEquals(Integer.valueOf(value), future.get(TIMEOUT));
+			}
+			assertTrue("Too many threads: " + threads, threads.size() <= 2); //$NON-NLS-1$
+			for (String thread : threads) {
+				assertTrue(thread, thread.startsWith("PooledExecutor-")); //$NON-NLS-1$
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testPooledExecutorBoundsConcurrency() throws Exception {
+		PooledExecutor executor = new PooledExecutor(2);
+		try {
+			AtomicInteger running = new AtomicInteger();
+			AtomicInteger maxRunning = new AtomicInteger();
+			CountDownLatch release = new CountDownLatch(1);
+			IFuture<?>[] futures = new IFuture<?>[6];
+			for (int i = 0; i < futures.length; i++) {
+				futures[i] = executor.execute(monitor -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+					running.decrementAndGet();
+					return null;
+				}, null);
+			}
+			release.countDown();
+			for (IFuture<?> future : futures) {
+				future.get(TIMEOUT);
+				assertTrue(future.getStatus().isOK());
+			}
+			assertTrue("Ran concurrently: " + maxRunning.get(), maxRunning.get() <= 2); //$NON-NLS-1$
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testVirtualThreadExecutor() throws Exception {
+		PooledExecutor executor = PooledExecutor.createVirtualThreadExecutor();
+		try {
+			AtomicBoolean virtual = new AtomicBoolean();
+			IFuture<String> future = executor.execute(monitor -> {
+				virtual.set(isVirtual(Thread.currentThread()));
+				return "done"; //$NON-NLS-1$
+			}, null);
+			assertEquals("done", future.get(TIMEOUT)); //$NON-NLS-1$
+			// virtual threads are used whenever the VM has them
+			assertEquals(Boolean.valueOf(hasVirtualThreads()), Boolean.valueOf(virtual.get()));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testCompletableFutureResult() throws Exception {
+		SingleOperationFuture<String> future = new SingleOperationFuture<>();
+		CompletableFuture<String> completable = CompletableFutures.toCompletableFuture(future);
+		assertSame(completable, future.toCompletableFuture());
+		assertFalse(completable.isDone());
+		future.runWithProgress(monitor -> "result"); //$NON-NLS-1$
+		assertEquals("result", completable.get(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+		// completing an already done future
+		assertEquals("result", future.toCompletableFuture().getNow(null)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCompletableFutureException() throws Exception {
+		SingleOperationFuture<String> future = new SingleOperationFuture<>();
+		CompletableFuture<String> completable = future.toCompletableFuture();
+		IllegalStateException failure = new IllegalStateException("failed"); //$NON-NLS-1$
+		future.runWithProgress(monitor -> {
+			throw failure;
+		});
+		assertEquals(IStatus.ERROR, future.getStatus().getSeverity());
+		ExecutionException e = assertThrows(ExecutionException.class,
+				() -> completable.get(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertSame(failure, e.getCause());
+	}
+
+	@Test
+	public void testCancelPropagatesToCompletableFuture() {
+		SingleOperationFuture<String> future = new SingleOperationFuture<>();
+		CompletableFuture<String> completable = future.toCompletableFuture();
+		assertTrue(future.cancel());
+		assertTrue(completable.isCancelled());
+		// a result set after cancel is ignored
+		future.runWithProgress(monitor -> "late"); //$NON-NLS-1$
+		assertEquals(IStatus.CANCEL, future.getStatus().getSeverity());
+		assertThrows(CancellationException.class, () -> completable.getNow(null));
+	}
+
+	@Test
+	public void testCancelPropagatesFromCompletableFuture() throws Exception {
+		PooledExecutor executor = new PooledExecutor(1);
+		try {
+			CountDownLatch started = new CountDownLatch(1);
+			CountDownLatch stopped = new CountDownLatch(1);
+			IFuture<String> future = executor.execute(monitor -> {
+				started.countDown();
+				long end = System.currentTimeMillis() + TIMEOUT;
+				while (!monitor.isCanceled() && System.currentTimeMillis() < end) {
+					Thread.sleep(10);
+				}
+				if (monitor.isCanceled()) {
+					stopped.countDown();
+				}
+				return "finished"; //$NON-NLS-1$
+			}, null);
+			CompletableFuture<String> completable = CompletableFutures.toCompletableFuture(future);
+			assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+			assertTrue(completable.cancel(false));
+			assertTrue(completable.isCancelled());
+			assertEquals(IStatus.CANCEL, future.getStatus().getSeverity());
+			// the running operation sees the cancellation through its monitor
+			assertTrue(stopped.await(TIMEOUT, TimeUnit.MILLISECONDS));
+			assertThrows(OperationCanceledException.class, () -> future.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testDependentActionsRunWithoutMonitor() throws Exception {
+		SingleOperationFuture<String> future = new SingleOperationFuture<>();
+		AtomicBoolean holdsLock = new AtomicBoolean(true);
+		CompletableFuture<Void> dependent = future.toCompletableFuture()
+				.thenRun(() -> holdsLock.set(Thread.holdsLock(future)));
+		Thread thread = new Thread(() -> future.runWithProgress(monitor -> "result")); //$NON-NLS-1$
+		thread.start();
+		dependent.get(TIMEOUT, TimeUnit.MILLISECONDS);
+		thread.join(TIMEOUT);
+		assertFalse(holdsLock.get());
+	}
+
+	@Test
+	public void testListenableFuture() throws Exception {
+		SingleOperationListenableFuture<String> listenable = new SingleOperationListenableFuture<>();
+		IFuture<String> wrapper = new ListenableWrapper<>(listenable);
+		CompletableFuture<String> completable = CompletableFutures.toCompletableFuture(wrapper);
+		assertFalse(completable.isDone());
+		listenable.runWithProgress(monitor -> "result"); //$NON-NLS-1$
+		assertEquals("result", completable.get(TIMEOUT, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testListenerRunOnce() throws Exception {
+		PooledExecutor executor = new PooledExecutor(1);
+		try {
+			for (int i = 0; i < 100; i++) {
+				CountDownLatch release = new CountDownLatch(1);
+				IListenableFuture<String> future = (IListenableFuture<String>) executor.execute(monitor -> {
+					release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+					return "result"; //$NON-NLS-1$
+				}, null);
+				AtomicInteger notified = new AtomicInteger();
+				Thread adder = new Thread(() -> future.addListener(new ImmediateExecutor(), monitor -> {
+					notified.incrementAndGet();
+					return null;
+				}, null));
+				// race adding the listener with setting the result
+				release.countDown();
+				adder.start();
+				adder.join(TIMEOUT);
+				future.get(TIMEOUT);
+				executor.execute(monitor -> null, null).get(TIMEOUT);
+				assertEquals(1, notified.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testUnsupportedFuture() {
+		SingleOperationFuture<String> pending = new SingleOperationFuture<>();
+		IFuture<String> wrapper = new PlainFuture<>(pending);
+		assertThrows(IllegalArgumentException.class, () -> CompletableFutures.toCompletableFuture(wrapper));
+		pending.runWithProgress(monitor -> "result"); //$NON-NLS-1$
+		assertEquals("result", CompletableFutures.toCompletableFuture(wrapper).getNow(null)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testFromCompletionStage() throws Exception {
+		CompletableFuture<String> completable = new CompletableFuture<>();
+		IListenableFuture<String> future = CompletableFutures.fromCompletionStage(completable);
+		assertFalse(future.isDone());
+		completable.complete("result"); //$NON-NLS-1$
+		assertEquals("result", future.get(TIMEOUT)); //$NON-NLS-1$
+
+		CompletableFuture<String> failing = new CompletableFuture<>();
+		IListenableFuture<String> failed = CompletableFutures.fromCompletionStage(failing);
+		IllegalStateException failure = new IllegalStateException("failed"); //$NON-NLS-1$
+		failing.completeExceptionally(failure);
+		assertEquals(IStatus.ERROR, failed.getStatus().getSeverity());
+		assertSame(failure, failed.getStatus().getException());
+
+		CompletableFuture<String> canceling = new CompletableFuture<>();
+		IListenableFuture<String> canceled = CompletableFutures.fromCompletionStage(canceling);
+		canceling.cancel(false);
+		assertEquals(IStatus.CANCEL, canceled.getStatus().getSeverity());
+	}
+
+	private static boolean hasVirtualThreads() {
+		try {
+			Thread.class.getMethod("isVirtual"); //$NON-NLS-1$
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	private static boolean isVirtual(Thread thread) {
+		try {
+			return ((Boolean) Thread.class.getMethod("isVirtual").invoke(thread)).booleanValue(); //$NON-NLS-1$
+		} catch (ReflectiveOperationException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * A future that is neither a {@link SingleOperationFuture} nor listenable.
+	 */
+	private static class PlainFuture<ResultType> implements IFuture<ResultType> {
+		final IFuture<ResultType> delegate;
+
+		PlainFuture(IFuture<ResultType> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean cancel() {
+			return delegate.cancel();
+		}
+
+		@Override
+		public ResultType get() throws InterruptedException, OperationCanceledException {
+			return delegate.get();
+		}
+
+		@Override
+		public ResultType get(long waitTimeInMillis)
+				throws InterruptedException, TimeoutException, OperationCanceledException {
+			return delegate.get(waitTimeInMillis);
+		}
+
+		@Override
+		public IStatus getStatus() {
+			return delegate.getStatus();
+		}
+
+		@Override
+		public boolean hasValue() {
+			return delegate.hasValue();
+		}
+
+		@Override
+		public boolean isDone() {
+			return delegate.isDone();
+		}
+	}
+
+	/**
+	 * A listenable future that is not a {@link SingleOperationFuture}.
+	 */
+	private static class ListenableWrapper<ResultType> extends PlainFuture<ResultType>
+			implements IListenableFuture<ResultType> {
+
+		ListenableWrapper(IListenableFuture<ResultType> delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public void addListener(IExecutor executor, IProgressRunnable<ResultType> progressRunnable,
+				IProgressMonitor monitor) {
+			((IListenableFuture<ResultType>) delegate).addListener(executor, progressRunnable, monitor);
+		}
+	}
+}
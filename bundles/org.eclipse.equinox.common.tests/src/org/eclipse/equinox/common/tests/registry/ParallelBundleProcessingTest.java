@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.common.tests.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.core.internal.registry.Handle;
+import org.eclipse.core.internal.registry.IRegistryConstants;
+import org.eclipse.core.internal.registry.osgi.RegistryStrategyOSGI;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.RegistryFactory;
+import org.eclipse.core.tests.harness.BundleTestingHelper;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Checks that a registry populated from the installed bundles with
+ * {@link IRegistryConstants#PROP_PARALLEL_PARSING} has the same contents, down
+ * to the object ids, as one populated sequentially.
+ */
+public class ParallelBundleProcessingTest {
+
+	@Test
+	public void testParallelParsing() throws IOException, BundleException {
+		Bundle bundleA = null;
+		Bundle bundleB = null;
+		Bundle fragment = null;
+		Bundle duplicateA = null;
+		Bundle duplicateB = null;
+		String oldParallelValue = System.getProperty(IRegistryConstants.PROP_PARALLEL_PARSING);
+		try {
+			BundleContext bundleContext = FrameworkUtil.getBundle(getClass()).getBundleContext();
+			bundleA = BundleTestingHelper.installBundle("0.1", bundleContext,
+					"Plugin_Testing/registry/elementsByContributor/A");
+			bundleB = BundleTestingHelper.installBundle("0.2", bundleContext,
+					"Plugin_Testing/registry/elementsByContributor/B");
+			fragment = BundleTestingHelper.installBundle("0.2", bundleContext,
+					"Plugin_Testing/registry/elementsByContributor/Afragment");
+			// both declare the same extension point, the bundle processed first gets it
+			duplicateA = BundleTestingHelper.installBundle("0.3", bundleContext,
+					"Plugin_Testing/registry/parallelParsing/A");
+			duplicateB = BundleTestingHelper.installBundle("0.4", bundleContext,
+					"Plugin_Testing/registry/parallelParsing/B");
+			BundleTestingHelper.refreshPackages(bundleContext,
+					new Bundle[] { bundleA, bundleB, fragment, duplicateA, duplicateB });
+
+			// a registry without a cache processes all installed bundles when it starts
+			System.setProperty(IRegistryConstants.PROP_PARALLEL_PARSING, "false");
+			List<String> sequential = describeRegistry();
+			System.setProperty(IRegistryConstants.PROP_PARALLEL_PARSING, "true");
+			List<String> parallel = describeRegistry();
+
+			assertEquals(
+					"org.eclipse.test.registryByContrib.PointA by testByContributorsA: [org.eclipse.test.registryByContrib.ExtensionA by testByContributorsA {}]",
+					withoutIds(find(sequential, "org.eclipse.test.registryByContrib.PointA#")));
+			assertEquals(
+					"org.eclipse.test.registryByContrib.PointB by testByContributorsB: [org.eclipse.test.registryByContrib.ExtensionB by testByContributorsB {}]",
+					withoutIds(find(sequential, "org.eclipse.test.registryByContrib.PointB#")));
+			assertEquals(
+					"org.eclipse.test.registryByContrib.PointFA by testByContributorsA: [org.eclipse.test.registryByContrib.ExtensionFA by testByContributorsA {}]",
+					withoutIds(find(sequential, "org.eclipse.test.registryByContrib.PointFA#")));
+			assertEquals(
+					"org.eclipse.test.registryParallel.Duplicate by testParallelParsingA: [org.eclipse.test.registryParallel.ExtensionA by testParallelParsingA {element [child, child]}, org.eclipse.test.registryParallel.ExtensionB by testParallelParsingB {element [child, child]}]",
+					withoutIds(find(sequential, "org.eclipse.test.registryParallel.Duplicate#")));
+			// the same objects with the same ids and the same duplicate winner
+			assertEquals(sequential, parallel);
+		} finally {
+			if (oldParallelValue == null) {
+				System.clearProperty(IRegistryConstants.PROP_PARALLEL_PARSING);
+			} else {
+				System.setProperty(IRegistryConstants.PROP_PARALLEL_PARSING, oldParallelValue);
+			}
+			if (bundleA != null) {
+				bundleA.uninstall();
+			}
+			if (bundleB != null) {
+				bundleB.uninstall();
+			}
+			if (fragment != null) {
+				fragment.uninstall();
+			}
+			if (duplicateA != null) {
+				duplicateA.uninstall();
+			}
+			if (duplicateB != null) {
+				duplicateB.uninstall();
+			}
+		}
+	}
+
+	private static String find(List<String> description, String prefix) {
+		for (String point : description) {
+			if (point.startsWith(prefix)) {
+				return point;
+			}
+		}
+		fail("Missing " + prefix);
+		return null;
+	}
+
+	private static String withoutIds(String description) {
+		return description.replaceAll("#-?\\d+", "");
+	}
+
+	/**
+	 * Creates a registry for the installed bundles and describes its extension
+	 * points, each with its extensions in the order of the registry, together with
+	 * the ids of all objects.
+	 */
+	private List<String> describeRegistry() {
+		Object masterKey = new Object();
+		RegistryStrategyOSGI strategy = new RegistryStrategyOSGI(null, null, masterKey);
+		IExtensionRegistry registry = RegistryFactory.createRegistry(strategy, masterKey, null);
+		try {
+			IExtensionPoint[] extensionPoints = registry.getExtensionPoints();
+			Arrays.sort(extensionPoints, Comparator.comparing(IExtensionPoint::getUniqueIdentifier));
+			List<String> description = new ArrayList<>();
+			for (IExtensionPoint extensionPoint : extensionPoints) {
+				List<String> extensions = new ArrayList<>();
+				for (IExtension extension : extensionPoint.getExtensions()) {
+					List<String> elements = new ArrayList<>();
+					for (IConfigurationElement element : extension.getConfigurationElements()) {
+						elements.add(describe(element));
+					}
+					extensions.add(extension.getUniqueIdentifier() + id(extension) + " by "
+							+ extension.getContributor().getName() + " {" + String.join(", ", elements) + "}");
+				}
+				description.add(extensionPoint.getUniqueIdentifier() + id(extensionPoint) + " by "
+						+ extensionPoint.getContributor().getName() + ": " + extensions);
+			}
+			return description;
+		} finally {
+			registry.stop(masterKey);
+		}
+	}
+
+	private static String describe(IConfigurationElement element) {
+		List<String> children = new ArrayList<>();
+		for (IConfigurationElement child : element.getChildren()) {
+			children.add(describe(child));
+		}
+		return element.getName() + id(element) + (children.isEmpty() ? "" : " " + children);
+	}
+
+	private static String id(Object registryObject) {
+		return "#" + ((Handle) registryObject).getId();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018 Julian Honnen
+ *  Copyright (c) 2018, 2026 Julian Honnen
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,8 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ ContributorsTest.class, ExtensionRegistryDynamicTest.class, ExtensionRegistryStaticTest.class,
-		InputErrorTest.class, MultiLanguageTest.class, NamespaceTest.class, RegistryListenerTest.class })
+		InputErrorTest.class, MultiLanguageTest.class, NamespaceTest.class, ParallelBundleProcessingTest.class,
+		RegistryListenerTest.class })
 public class RegistryTests {
 	// intentionally left blank
 }
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.common.tests.registry.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.eclipse.core.runtime.ContributorFactorySimple;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.junit.Test;
+
+/**
+ * Tests the string table of the registry cache: strings survive a round trip
+ * through the cache, and a damaged string table makes the registry discard the
+ * cache.
+ */
+public class CacheStringsTest extends BaseExtensionRegistryRun {
+
+	private static final String POINT_ID = "ABC.CacheStringsPoint";
+
+	@Override
+	public void setUp() throws Exception {
+		// start without the cache of a previous run
+		deleteDirectory(getCacheDirectory());
+		super.setUp();
+	}
+
+	@Test
+	public void testReloadStrings() throws IOException {
+		fillRegistry();
+		checkRegistry();
+
+		stopRegistry();
+		simpleRegistry = startRegistry();
+		checkRegistry();
+	}
+
+	@Test
+	public void testTruncatedStrings() throws IOException {
+		fillRegistry();
+		stopRegistry();
+
+		try (RandomAccessFile strings = new RandomAccessFile(getStringsFile(), "rw")) {
+			strings.setLength(strings.length() - 1);
+		}
+		simpleRegistry = startRegistry();
+		assertNull("Truncated cache was used", simpleRegistry.getExtensionPoint(POINT_ID));
+	}
+
+	@Test
+	public void testCorruptStrings() throws IOException {
+		fillRegistry();
+		stopRegistry();
+
+		try (RandomAccessFile strings = new RandomAccessFile(getStringsFile(), "rw")) {
+			// the end offset of the first string, the file keeps its length
+			strings.seek(8);
+			strings.writeInt(Integer.MAX_VALUE);
+		}
+		simpleRegistry = startRegistry();
+		assertNull("Corrupt cache was used", simpleRegistry.getExtensionPoint(POINT_ID));
+	}
+
+	private void fillRegistry() throws IOException {
+		processXMLContribution(ContributorFactorySimple.createContributor("ABC"), getXML("CacheStrings.xml"), true);
+	}
+
+	private void checkRegistry() {
+		IExtensionPoint extensionPoint = simpleRegistry.getExtensionPoint(POINT_ID);
+		assertNotNull(extensionPoint);
+		assertEquals("Größe", extensionPoint.getLabel());
+		IExtension[] extensions = extensionPoint.getExtensions();
+		assertEquals(1, extensions.length);
+		assertEquals("ABC.CacheStringsExtension", extensions[0].getUniqueIdentifier());
+		assertEquals("", extensions[0].getLabel());
+		IConfigurationElement[] elements = extensions[0].getConfigurationElements();
+		assertEquals(2, elements.length);
+		assertEquals("日本語 ✓ 𝄞", elements[0].getAttribute("label"));
+		assertEquals("", elements[0].getAttribute("empty"));
+		assertNull(elements[0].getAttribute("missing"));
+		assertEquals("Ünïcödé", elements[0].getValue());
+		assertEquals("entry", elements[1].getName());
+		assertEquals(0, elements[1].getAttributeNames().length);
+		assertNull(elements[1].getValue());
+	}
+
+	private File getCacheDirectory() {
+		return getStateLocation().append(getClass().getName()).toFile();
+	}
+
+	private File getStringsFile() {
+		File[] files = getCacheDirectory().listFiles((dir, name) -> name.matches("\\.strings\\.\\d+"));
+		assertNotNull(files);
+		assertEquals(1, files.length);
+		return files[0];
+	}
+
+	private static void deleteDirectory(File directory) {
+		File[] children = directory.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				deleteDirectory(child);
+			}
+		}
+		directory.delete();
+	}
+}
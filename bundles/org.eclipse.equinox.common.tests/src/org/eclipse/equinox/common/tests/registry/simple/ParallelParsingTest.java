@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.common.tests.registry.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.internal.registry.Contribution;
+import org.eclipse.core.internal.registry.ExtensionRegistry;
+import org.eclipse.core.runtime.ContributorFactorySimple;
+import org.eclipse.core.runtime.IContributor;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.junit.Test;
+
+/**
+ * Tests that contributions can be parsed concurrently and then added to the
+ * registry in a deterministic order.
+ */
+public class ParallelParsingTest extends BaseExtensionRegistryRun {
+	private static final int CONTRIBUTIONS = 50;
+
+	@Test
+	public void testParseInParallelAddInOrder() throws Exception {
+		IContributor pointContributor = ContributorFactorySimple.createContributor("ABC"); //$NON-NLS-1$
+		processXMLContribution(pointContributor, getXML("ExtensionPoint.xml")); //$NON-NLS-1$
+		String pointId = qualifiedName(pointContributor.getName(), "XMLDirectExtPoint"); //$NON-NLS-1$
+
+		ExtensionRegistry registry = (ExtensionRegistry) simpleRegistry;
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Contribution>> parsed = new ArrayList<>();
+			for (int i = 0; i < CONTRIBUTIONS; i++) {
+				IContributor contributor = ContributorFactorySimple.createContributor("C" + i); //$NON-NLS-1$
+				String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><?eclipse version=\"3.0\"?><plugin><extension id=\"E" //$NON-NLS-1$
+						+ i + "\" point=\"" + pointId + "\"/></plugin>"; //$NON-NLS-1$ //$NON-NLS-2$
+				parsed.add(executor.submit(() -> registry.parseContribution(
+						new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), contributor, false,
+						"extension" + contributor.getName(), null, userToken))); //$NON-NLS-1$
+			}
+			for (Future<Contribution> contribution : parsed) {
+				assertNotNull(contribution.get());
+				registry.addContribution(contribution.get(), 0);
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		IExtensionPoint extensionPoint = simpleRegistry.getExtensionPoint(pointId);
+		assertNotNull(extensionPoint);
+		IExtension[] extensions = extensionPoint.getExtensions();
+		assertEquals(CONTRIBUTIONS, extensions.length);
+		for (int i = 0; i < CONTRIBUTIONS; i++) {
+			assertEquals("C" + i + ".E" + i, extensions[i].getUniqueIdentifier()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	@Test
+	public void testParseFailure() throws IOException {
+		IContributor contributor = ContributorFactorySimple.createContributor("ABC"); //$NON-NLS-1$
+		ExtensionRegistry registry = (ExtensionRegistry) simpleRegistry;
+		Contribution contribution = registry.parseContribution(
+				new ByteArrayInputStream("<plugin>".getBytes(StandardCharsets.UTF_8)), contributor, false, "broken", //$NON-NLS-1$ //$NON-NLS-2$
+				null, userToken);
+		assertEquals(null, contribution);
+		registry.addContribution(contribution, 0);
+		assertEquals(0, simpleRegistry.getExtensions(contributor.getName()).length);
+	}
+}
@@ -20,7 +20,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({ XMLExtensionCreateTest.class, DirectExtensionCreateTest.class, XMLExecutableExtensionTest.class,
 		DirectExtensionCreateTwoRegistriesTest.class, TokenAccessTest.class, XMLExtensionCreateEclipseTest.class,
-		DirectExtensionRemoveTest.class, MergeContributionTest.class, DuplicatePointsTest.class })
+		DirectExtensionRemoveTest.class, MergeContributionTest.class, DuplicatePointsTest.class,
+		ParallelParsingTest.class, CacheStringsTest.class })
 public class SimpleRegistryTests {
 	// intentionally left blank
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Christoph Laeubrich and others.
+ * Copyright (c) 2020, 2026 Christoph Laeubrich and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,7 +46,6 @@ public class AdapterFactoryBridge
 		for (String adaptableClass : adaptableClasses) {
 			manager.registerFactory(proxy, adaptableClass);
 		}
-		manager.flushLookup();
 		return proxy;
 	}
 
@@ -75,7 +74,6 @@ public class AdapterFactoryBridge
 		for (String adaptableClass : adaptableClasses) {
 			manager.registerFactory(proxy, adaptableClass);
 		}
-		manager.flushLookup();
 	}
 
 	@Override
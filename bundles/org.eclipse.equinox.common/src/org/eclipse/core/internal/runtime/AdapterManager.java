@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.*;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Map.Entry;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import org.eclipse.core.runtime.*;
 
@@ -81,6 +82,28 @@ public final class AdapterManager implements IAdapterManager {
 
 	private final Queue<IAdapterManagerProvider> lazyFactoryProviders;
 
+	private final LongAdder computedLookups = new LongAdder();
+	private final LongAdder invalidatedLookups = new LongAdder();
+	private final LongAdder flushes = new LongAdder();
+	private final LongAdder factoryActivations = new LongAdder();
+
+	/**
+	 * Counters of the adapter manager. They can be used to check how effective
+	 * the lookup cache is and how many plug-ins were activated for adapters.
+	 *
+	 * @param computedLookups    the number of times the adapters of an adaptable
+	 *                           class were computed
+	 * @param invalidatedLookups the number of cached adapters of an adaptable
+	 *                           class that were discarded because a factory for
+	 *                           one of its super types was registered
+	 * @param flushes            the number of times the whole cache was discarded
+	 * @param factoryActivations the number of factories that were loaded in
+	 *                           order to load an adapter
+	 */
+	public record Statistics(long computedLookups, long invalidatedLookups, long flushes,
+			long factoryActivations) {
+	}
+
 	private static final AdapterManager singleton = new AdapterManager();
 
 	public static AdapterManager getDefault() {
@@ -173,9 +196,11 @@ public final class AdapterManager implements IAdapterManager {
 	 * adapter class name to factory object.
 	 */
 	private Map<String, List<IAdapterFactory>> getFactories(Class<? extends Object> adaptable) {
-		// cache reference to lookup to protect against concurrent flush
-		return adapterLookup.computeIfAbsent(adaptable.getName(), adaptableType -> new AdapterLookup(adaptable, this))
-				.getMap();
+		// cache reference to lookup to protect against concurrent flush. Adapter types
+		// without a factory are absent from the map, so the map also caches that there
+		// is no factory for them.
+		return adapterLookup.computeIfAbsent(adaptable.getName(),
+				adaptableType -> new AdapterLookup(getClassOrder(adaptable), this)).getMap();
 	}
 
 	/**
@@ -230,14 +255,28 @@ public final class AdapterManager implements IAdapterManager {
 	}
 
 	/**
-	 * Flushes the cache of adapter search paths. This is generally required
-	 * whenever an adapter is added or removed.
-	 * <p>
-	 * It is likely easier to just toss the whole cache rather than trying to be
-	 * smart and remove only those entries affected.
-	 * </p>
+	 * Discards the cached adapters of all adaptable classes that have the given
+	 * type in their search order. The class search order itself does not depend
+	 * on the registered factories and stays cached.
+	 */
+	private void flushLookup(String adaptableType) {
+		adapterLookup.values().removeIf(lookup -> {
+			if (lookup.dependsOn(adaptableType)) {
+				invalidatedLookups.increment();
+				return true;
+			}
+			return false;
+		});
+	}
+
+	/**
+	 * Flushes the cache of adapter search paths. This is required whenever an
+	 * adapter is removed. Registering a factory with
+	 * {@link #registerFactory(IAdapterFactory, String)} only discards the entries
+	 * that are affected by it.
 	 */
 	public void flushLookup() {
+		flushes.increment();
 		adapterLookup.clear();
 		classLookup.clear();
 		classSearchOrderLookup.clear();
@@ -248,10 +287,13 @@ public final class AdapterManager implements IAdapterManager {
 	public <T> T getAdapter(Object adaptable, Class<T> adapterType) {
 		Assert.isNotNull(adaptable);
 		Assert.isNotNull(adapterType);
+		List<IAdapterFactory> candidates = getFactories(adaptable.getClass()).get(adapterType.getName());
+		if (candidates == null) {
+			// the most common case, there is no factory for this pair of types
+			return adapterType.isInstance(adaptable) ? (T) adaptable : null;
+		}
 		List<Entry<IAdapterFactory, Class<?>>> incorrectAdapters = new ArrayList<>();
-		T adapterObject = getFactories(adaptable.getClass())
-				.getOrDefault(adapterType.getName(), Collections.emptyList()) //
-				.stream() //
+		T adapterObject = candidates.stream() //
 				.map(factory -> new SimpleEntry<>(factory, factory.getAdapter(adaptable, adapterType))) //
 				.filter(entry -> {
 					Object adapter = entry.getValue();
@@ -299,10 +341,13 @@ public final class AdapterManager implements IAdapterManager {
 	private Object getAdapter(Object adaptable, String adapterType, boolean force) {
 		Assert.isNotNull(adaptable);
 		Assert.isNotNull(adapterType);
-		return getFactories(adaptable.getClass()).getOrDefault(adapterType, Collections.emptyList()) //
-				.stream() //
+		List<IAdapterFactory> candidates = getFactories(adaptable.getClass()).get(adapterType);
+		if (candidates == null) {
+			return adapterType.equals(adaptable.getClass().getName()) ? adaptable : null;
+		}
+		return candidates.stream() //
 				.map(factory -> force && factory instanceof IAdapterFactoryExt i
-						? i.loadFactory(true)
+						? activateFactory(i)
 						: factory) //
 				.filter(Objects::nonNull).map(factory -> {
 					Class<?> adapterClass = classForName(factory, adapterType);
@@ -316,6 +361,17 @@ public final class AdapterManager implements IAdapterManager {
 				.orElseGet(() -> adapterType.equals(adaptable.getClass().getName()) ? adaptable : null);
 	}
 
+	private IAdapterFactory activateFactory(IAdapterFactoryExt factory) {
+		IAdapterFactory loaded = factory.loadFactory(false);
+		if (loaded == null) {
+			loaded = factory.loadFactory(true);
+			if (loaded != null) {
+				factoryActivations.increment();
+			}
+		}
+		return loaded;
+	}
+
 	@Override
 	public boolean hasAdapter(Object adaptable, String adapterTypeName) {
 		return getFactories(adaptable.getClass()).get(adapterTypeName) != null;
@@ -344,14 +400,17 @@ public final class AdapterManager implements IAdapterManager {
 	@Override
 	public void registerAdapters(IAdapterFactory factory, Class<?> adaptable) {
 		registerFactory(factory, adaptable.getName());
-		flushLookup();
 	}
 
-	/*
+	/**
+	 * Registers the given factory for the adaptable type and discards the cached
+	 * adapters of the adaptable classes that have this type in their search order.
+	 *
 	 * @see IAdapterManager#registerAdapters
 	 */
 	public void registerFactory(IAdapterFactory factory, String adaptableType) {
 		factories.computeIfAbsent(adaptableType, any -> new CopyOnWriteArrayList<>()).add(factory);
+		flushLookup(adaptableType);
 	}
 
 	/*
@@ -401,13 +460,20 @@ public final class AdapterManager implements IAdapterManager {
 	public Map<String, List<IAdapterFactory>> getFactories() {
 		IAdapterManagerProvider provider;
 		while ((provider = lazyFactoryProviders.poll()) != null) {
-			if (provider.addFactories(this)) {
-				flushLookup();
-			}
+			// registering the factories discards the affected lookups
+			provider.addFactories(this);
 		}
 		return factories;
 	}
 
+	/**
+	 * Returns the current counters of this adapter manager.
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(computedLookups.sum(), invalidatedLookups.sum(), flushes.sum(),
+				factoryActivations.sum());
+	}
+
 	/**
 	 * Try to load the given factory according to the force parameter
 	 *
@@ -424,23 +490,37 @@ public final class AdapterManager implements IAdapterManager {
 
 	private static final class AdapterLookup {
 
-		private final Class<?> adaptable;
+		private final Class<?>[] classOrder;
+		private final Set<String> typeNames;
 		private final AdapterManager manager;
 		private Map<String, List<IAdapterFactory>> map;
 
-		AdapterLookup(Class<?> adaptable, AdapterManager manager) {
-			this.adaptable = adaptable;
+		AdapterLookup(Class<?>[] classOrder, AdapterManager manager) {
+			this.classOrder = classOrder;
+			this.typeNames = new HashSet<>((int) (classOrder.length / 0.75f) + 1);
+			for (Class<?> cl : classOrder) {
+				typeNames.add(cl.getName());
+			}
 			this.manager = manager;
 		}
 
+		/**
+		 * Returns whether factories registered for the given type contribute to this
+		 * lookup. Must not synchronize, it is called while other lookups are computed.
+		 */
+		boolean dependsOn(String adaptableType) {
+			return typeNames.contains(adaptableType);
+		}
+
 		synchronized Map<String, List<IAdapterFactory>> getMap() {
 			if (map == null) {
 				// calculate adapters for the class
 				Map<String, List<IAdapterFactory>> table = new HashMap<>(4);
-				for (Class<?> cl : manager.computeClassOrder(adaptable)) {
+				for (Class<?> cl : classOrder) {
 					manager.addFactoriesFor(cl.getName(), table);
 				}
 				map = Collections.unmodifiableMap(table);
+				manager.computedLookups.increment();
 			}
 			return map;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2023 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 
 import org.osgi.framework.Bundle;
@@ -98,6 +100,14 @@ import org.osgi.util.tracker.ServiceTracker;
  * }
  * </pre>
  * <p>
+ * Call sites that only have a static context and cannot easily hold on to a
+ * {@code ServiceCaller} instance may use
+ * {@link ServiceCaller#callCached(Class, Class, String, Consumer)} instead of
+ * {@link ServiceCaller#callOnce(Class, Class, Consumer)}. This uses a shared
+ * {@code ServiceCaller} instance for each combination of caller class, service
+ * type and filter, which avoids the service registry lookup for each call.
+ * </p>
+ * <p>
  * Note that this class is intended for simple service usage patterns only. More
  * advanced cases should use other mechanisms such as the {@link ServiceTracker}
  * or declarative services.
@@ -175,6 +185,68 @@ public class ServiceCaller<S> {
 		}).orElse(Boolean.FALSE);
 	}
 
+	/**
+	 * Calls an OSGi service using a {@code ServiceCaller} instance that is shared
+	 * for the given caller class, service type and filter, and passes the service
+	 * to the given consumer.
+	 * <p>
+	 * Unlike {@link #callOnce(Class, Class, String, Consumer)} the service is not
+	 * released after the call. The shared instance keeps using the service until
+	 * one of the conditions described in {@link #call(Consumer)} occurs, after
+	 * which the next call looks up the service again. This avoids looking up,
+	 * getting and releasing the service for each call and is therefore preferable
+	 * for frequent calls made from a static context. If the service is only called
+	 * once or very rarely then {@link #callOnce(Class, Class, String, Consumer)}
+	 * should be used to avoid holding on to the service.
+	 * </p>
+	 *
+	 * @param caller      a class from the bundle that will use service
+	 * @param serviceType the OSGi service type to look up
+	 * @param filter      an OSGi filter to restrict the services found. May be
+	 *                    {@code null}.
+	 * @param consumer    the consumer of the OSGi service
+	 * @param <S>         the OSGi service type to look up
+	 * @return true if the OSGi service was located and called successfully, false
+	 *         otherwise
+	 * @throws NullPointerException     if any of the caller, service type or
+	 *                                  consumer parameters are {@code null}
+	 * @throws IllegalStateException    if the bundle associated with the caller
+	 *                                  class cannot be determined
+	 * @throws IllegalArgumentException if the filter is not a valid OSGi filter
+	 * @since 3.21
+	 */
+	public static <S> boolean callCached(Class<?> caller, Class<S> serviceType, String filter, Consumer<S> consumer) {
+		Objects.requireNonNull(consumer);
+		return getCached(caller, serviceType, filter).call(consumer);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <S> ServiceCaller<S> getCached(Class<?> caller, Class<S> serviceType, String filter) {
+		// cached per caller class so that the entries go away with the class loader
+		ConcurrentMap<CacheKey, ServiceCaller<?>> callers = CACHED_CALLERS.get(Objects.requireNonNull(caller));
+		CacheKey key = new CacheKey(Objects.requireNonNull(serviceType), filter);
+		ServiceCaller<?> result = callers.get(key);
+		if (result == null) {
+			// construct outside of computeIfAbsent; the constructor may throw
+			ServiceCaller<S> created = new ServiceCaller<>(caller, serviceType, filter);
+			result = callers.putIfAbsent(key, created);
+			if (result == null) {
+				result = created;
+			}
+		}
+		return (ServiceCaller<S>) result;
+	}
+
+	private static final ClassValue<ConcurrentMap<CacheKey, ServiceCaller<?>>> CACHED_CALLERS = new ClassValue<>() {
+		@Override
+		protected ConcurrentMap<CacheKey, ServiceCaller<?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>(4);
+		}
+	};
+
+	private record CacheKey(Class<?> serviceType, String filter) {
+	}
+
 	private static int getRank(ServiceReference<?> ref) {
 		Object rank = ref.getProperty(Constants.SERVICE_RANKING);
 		if (rank instanceof Integer) {
@@ -359,10 +431,16 @@ public class ServiceCaller<S> {
 	 *         otherwise
 	 */
 	public boolean call(Consumer<S> consumer) {
-		return trackCurrent().map(r -> {
-			consumer.accept(r.instance);
-			return Boolean.TRUE;
-		}).orElse(Boolean.FALSE);
+		ReferenceAndService current = service;
+		if (current == null) {
+			// slow path; look up and track the service
+			current = trackCurrent().orElse(null);
+			if (current == null) {
+				return false;
+			}
+		}
+		consumer.accept(current.instance);
+		return true;
 	}
 
 	/**
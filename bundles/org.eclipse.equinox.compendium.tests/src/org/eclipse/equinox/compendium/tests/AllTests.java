@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2011 IBM Corporation and others
+ * Copyright (c) 2008, 2026 IBM Corporation and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,8 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ org.eclipse.equinox.coordinator.tests.AllTests.class, org.eclipse.equinox.event.tests.AllTests.class,
-		org.eclipse.equinox.metatype.tests.AllTests.class, org.eclipse.equinox.useradmin.tests.AllTests.class })
+		org.eclipse.equinox.log.stream.tests.AllTests.class, org.eclipse.equinox.metatype.tests.AllTests.class,
+		org.eclipse.equinox.useradmin.tests.AllTests.class })
 public class AllTests {
 	// see @SuiteClasses
 }
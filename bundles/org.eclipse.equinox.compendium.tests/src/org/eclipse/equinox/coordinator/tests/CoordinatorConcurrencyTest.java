@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.coordinator.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.osgi.service.coordinator.Coordination;
+import org.osgi.service.coordinator.Participant;
+
+/*
+ * Ensures that short lived coordinations with a timeout can be begun,
+ * participated in and ended concurrently by many threads, and that many
+ * concurrent timeouts all fire.
+ */
+public class CoordinatorConcurrencyTest extends CoordinatorTest {
+	private static final int THREADS = 8;
+	private static final int COORDINATIONS = 1000;
+
+	private static class CountingParticipant implements Participant {
+		private final AtomicInteger ended;
+		private final AtomicInteger failed;
+
+		public CountingParticipant(AtomicInteger ended, AtomicInteger failed) {
+			this.ended = ended;
+			this.failed = failed;
+		}
+
+		@Override
+		public void ended(Coordination coordination) throws Exception {
+			ended.incrementAndGet();
+		}
+
+		@Override
+		public void failed(Coordination coordination) throws Exception {
+			failed.incrementAndGet();
+		}
+	}
+
+	@Test
+	public void testConcurrentBeginAddParticipantEnd() throws Exception {
+		final AtomicInteger ended = new AtomicInteger();
+		final AtomicInteger failed = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				results.add(executor.submit(() -> {
+					for (int j = 0; j < COORDINATIONS; j++) {
+						Coordination c = coordinator.begin("c", 30000); //$NON-NLS-1$
+						c.addParticipant(new CountingParticipant(ended, failed));
+						c.end();
+					}
+					return null;
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals("Wrong number of ended participants", THREADS * COORDINATIONS, ended.get()); //$NON-NLS-1$
+		assertEquals("Wrong number of failed participants", 0, failed.get()); //$NON-NLS-1$
+		assertTrue("Coordinations not removed", coordinator.getCoordinations().isEmpty()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testConcurrentTimeouts() throws Exception {
+		AtomicInteger ended = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+		List<Coordination> coordinations = new ArrayList<>();
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < 1000; i++) {
+			Coordination c = coordinator.create("c", 100 + i); //$NON-NLS-1$
+			c.addParticipant(new CountingParticipant(ended, failed));
+			coordinations.add(c);
+		}
+		for (Coordination c : coordinations) {
+			c.join(10000);
+			assertTrue("Coordination did not time out", c.isTerminated()); //$NON-NLS-1$
+			assertEquals("Wrong failure", Coordination.TIMEOUT, c.getFailure()); //$NON-NLS-1$
+		}
+		assertTrue("Timed out too early", System.currentTimeMillis() - start >= 100 + 999); //$NON-NLS-1$
+		assertEquals("Wrong number of ended participants", 0, ended.get()); //$NON-NLS-1$
+		assertEquals("Wrong number of failed participants", 1000, failed.get()); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.log.stream.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.equinox.internal.log.stream.LogEntryRing;
+import org.junit.Test;
+import org.osgi.service.log.LogEntry;
+
+public class LogEntryRingTest {
+
+	@Test
+	public void testCapacityIsPowerOfTwo() {
+		assertEquals(16, new LogEntryRing(10, 0).capacity());
+		assertEquals(16, new LogEntryRing(16, 0).capacity());
+		assertEquals(2, new LogEntryRing(0, 0).capacity());
+	}
+
+	@Test
+	public void testOverwriteOldest() {
+		LogEntryRing ring = new LogEntryRing(4, 0);
+		LogEntry[] entries = new LogEntry[6];
+		for (int i = 0; i < entries.length; i++) {
+			entries[i] = new TestLogEntry(i);
+			ring.publish(entries[i], null);
+		}
+		assertEquals(6, ring.head());
+		assertEquals(2, ring.tail());
+		assertNull("Overwritten entry", ring.get(1)); //$NON-NLS-1$
+		for (int i = 2; i < entries.length; i++) {
+			assertSame(entries[i], ring.get(i));
+		}
+	}
+
+	@Test
+	public void testBlockTimeout() {
+		LogEntryRing ring = new LogEntryRing(2, 200);
+		ring.publish(new TestLogEntry(0), () -> 0);
+		ring.publish(new TestLogEntry(1), () -> 0);
+		long start = System.nanoTime();
+		// the blocking cursor never moves, so publishing waits for the timeout
+		ring.publish(new TestLogEntry(2), () -> 0);
+		assertTrue("Did not wait", System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150)); //$NON-NLS-1$
+		assertEquals(3, ring.head());
+	}
+
+	@Test
+	public void testConcurrentBlockedPublishers() throws Exception {
+		LogEntryRing ring = new LogEntryRing(2, 10000);
+		AtomicLong cursor = new AtomicLong();
+		ring.publish(new TestLogEntry(0), cursor::get);
+		ring.publish(new TestLogEntry(1), cursor::get);
+
+		// both publishers wait for the same slot
+		Thread[] publishers = new Thread[2];
+		for (int i = 0; i < publishers.length; i++) {
+			long sequence = 2 + i;
+			publishers[i] = new Thread(() -> ring.publish(new TestLogEntry(sequence), cursor::get));
+			publishers[i].start();
+		}
+		Thread.sleep(200);
+		assertEquals(2, ring.head());
+
+		// a reader reads everything that gets published
+		Set<Long> read = new HashSet<>();
+		long start = System.currentTimeMillis();
+		while (read.size() < 4 && System.currentTimeMillis() - start < 5000) {
+			long next = cursor.get();
+			if (next < ring.head()) {
+				read.add(Long.valueOf(ring.get(next).getSequence()));
+				cursor.set(next + 1);
+				ring.advanced();
+			} else {
+				Thread.sleep(10);
+			}
+		}
+		for (Thread publisher : publishers) {
+			publisher.join(5000);
+		}
+		assertTrue("Publishers waited for the timeout", System.currentTimeMillis() - start < 5000); //$NON-NLS-1$
+		assertEquals(4, ring.head());
+		assertEquals(Set.of(Long.valueOf(0), Long.valueOf(1), Long.valueOf(2), Long.valueOf(3)), read);
+	}
+}
@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.log.stream.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.eclipse.equinox.internal.log.stream.LogEntryRing;
+import org.eclipse.equinox.internal.log.stream.LogSubscription;
+import org.eclipse.equinox.internal.log.stream.LogSubscription.Policy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.service.log.LogEntry;
+import org.osgi.util.pushstream.PushEvent;
+import org.osgi.util.pushstream.PushEventConsumer;
+
+public class LogSubscriptionTest {
+	private ScheduledExecutorService executor;
+
+	static class Collector implements PushEventConsumer<LogEntry> {
+		final List<Long> sequences = Collections.synchronizedList(new ArrayList<>());
+		final CountDownLatch closed = new CountDownLatch(1);
+		volatile long backPressure;
+
+		@Override
+		public long accept(PushEvent<? extends LogEntry> event) {
+			if (event.isTerminal()) {
+				closed.countDown();
+			} else {
+				sequences.add(Long.valueOf(event.getData().getSequence()));
+			}
+			return backPressure;
+		}
+
+		List<Long> get() {
+			synchronized (sequences) {
+				return new ArrayList<>(sequences);
+			}
+		}
+	}
+
+	@Before
+	public void setUp() {
+		executor = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long start = System.currentTimeMillis();
+		while (!condition.getAsBoolean()) {
+			assertTrue("Timed out", System.currentTimeMillis() - start < 5000); //$NON-NLS-1$
+			Thread.sleep(10);
+		}
+	}
+
+	private static List<Long> range(long from, long to) {
+		List<Long> result = new ArrayList<>();
+		for (long i = from; i < to; i++) {
+			result.add(Long.valueOf(i));
+		}
+		return result;
+	}
+
+	private LogSubscription subscribe(LogEntryRing ring, Policy policy, Collector collector, List<LogEntry> history,
+			Runnable onClose) {
+		return new LogSubscription(ring, ring.head(), policy, executor, collector, history, onClose);
+	}
+
+	@Test
+	public void testDiscardOldest() throws Exception {
+		LogEntryRing ring = new LogEntryRing(4, 0);
+		Collector collector = new Collector();
+		LogSubscription subscription = subscribe(ring, Policy.DISCARD_OLDEST, collector, Collections.emptyList(),
+				() -> {
+					// nothing
+				});
+		for (int i = 0; i < 10; i++) {
+			ring.publish(new TestLogEntry(i), null);
+		}
+		subscription.signal();
+		waitFor(() -> subscription.getLag() == 0);
+		assertEquals(range(6, 10), collector.get());
+		assertEquals(6, subscription.getDropped());
+		assertEquals(4, subscription.getDelivered());
+	}
+
+	@Test
+	public void testBlock() throws Exception {
+		LogEntryRing ring = new LogEntryRing(4, 10000);
+		Collector collector = new Collector();
+		LogSubscription subscription = subscribe(ring, Policy.BLOCK, collector, Collections.emptyList(), () -> {
+			// nothing
+		});
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < 50; i++) {
+			ring.publish(new TestLogEntry(i), subscription::getBlockingCursor);
+			subscription.signal();
+		}
+		waitFor(() -> subscription.getLag() == 0);
+		assertTrue("Publishing waited for the timeout", System.currentTimeMillis() - start < 10000); //$NON-NLS-1$
+		assertEquals(range(0, 50), collector.get());
+		assertEquals(0, subscription.getDropped());
+	}
+
+	@Test
+	public void testBlockReleasedOnClose() throws Exception {
+		LogEntryRing ring = new LogEntryRing(2, 10000);
+		Collector collector = new Collector();
+		LogSubscription subscription = subscribe(ring, Policy.BLOCK, collector, Collections.emptyList(), () -> {
+			// nothing
+		});
+		ring.publish(new TestLogEntry(0), subscription::getBlockingCursor);
+		ring.publish(new TestLogEntry(1), subscription::getBlockingCursor);
+		Thread publisher = new Thread(() -> ring.publish(new TestLogEntry(2), subscription::getBlockingCursor));
+		publisher.start();
+		Thread.sleep(100);
+		assertEquals(2, ring.head());
+		subscription.close();
+		publisher.join(5000);
+		assertEquals(3, ring.head());
+		assertTrue(collector.closed.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testSample() throws Exception {
+		LogEntryRing ring = new LogEntryRing(16, 0);
+		Collector collector = new Collector();
+		LogSubscription subscription = subscribe(ring, Policy.SAMPLE, collector, Collections.emptyList(), () -> {
+			// nothing
+		});
+		for (int i = 0; i < 16; i++) {
+			ring.publish(new TestLogEntry(i), null);
+		}
+		subscription.signal();
+		waitFor(() -> subscription.getLag() == 0);
+		List<Long> delivered = collector.get();
+		assertTrue("Nothing sampled out: " + delivered, subscription.getDropped() > 0); //$NON-NLS-1$
+		assertEquals(16, subscription.getDelivered() + subscription.getDropped());
+		assertEquals(Long.valueOf(15), delivered.get(delivered.size() - 1));
+		for (int i = 1; i < delivered.size(); i++) {
+			assertTrue(delivered.get(i - 1).longValue() < delivered.get(i).longValue());
+		}
+	}
+
+	@Test
+	public void testHistoryHandoff() throws Exception {
+		LogEntryRing ring = new LogEntryRing(8, 0);
+		Collector collector = new Collector();
+		// entry 3 was logged after the head was read but before the history was taken
+		List<LogEntry> history = List.of(new TestLogEntry(1), new TestLogEntry(2), new TestLogEntry(3));
+		LogSubscription subscription = subscribe(ring, Policy.DISCARD_OLDEST, collector, history, () -> {
+			// nothing
+		});
+		for (int i = 3; i < 6; i++) {
+			ring.publish(new TestLogEntry(i), null);
+		}
+		subscription.signal();
+		waitFor(() -> subscription.getLag() == 0);
+		assertEquals(range(1, 6), collector.get());
+		assertEquals(0, subscription.getDropped());
+	}
+
+	@Test
+	public void testLag() throws Exception {
+		LogEntryRing ring = new LogEntryRing(8, 0);
+		Collector collector = new Collector();
+		collector.backPressure = 200;
+		List<LogEntry> history = List.of(new TestLogEntry(0), new TestLogEntry(1));
+		CountDownLatch closed = new CountDownLatch(1);
+		LogSubscription subscription = subscribe(ring, Policy.DISCARD_OLDEST, collector, history, closed::countDown);
+		for (int i = 2; i < 5; i++) {
+			ring.publish(new TestLogEntry(i), null);
+		}
+		assertEquals(5, subscription.getLag());
+
+		// the back pressure delays the delivery of the next entry
+		subscription.signal();
+		waitFor(() -> collector.get().size() == 1);
+		assertEquals(4, subscription.getLag());
+		assertEquals(1, subscription.getDelivered());
+
+		collector.backPressure = 0;
+		waitFor(() -> subscription.getLag() == 0);
+		assertEquals(range(0, 5), collector.get());
+		assertEquals(5, subscription.getDelivered());
+
+		subscription.close();
+		assertTrue(closed.await(5, TimeUnit.SECONDS));
+		assertTrue(collector.closed.await(5, TimeUnit.SECONDS));
+	}
+}
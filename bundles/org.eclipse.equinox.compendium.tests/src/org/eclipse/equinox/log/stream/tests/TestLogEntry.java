@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.log.stream.tests;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.log.LogEntry;
+import org.osgi.service.log.LogLevel;
+
+/*
+ * A log entry that is only identified by its sequence number.
+ */
+class TestLogEntry implements LogEntry {
+	private final long sequence;
+
+	TestLogEntry(long sequence) {
+		this.sequence = sequence;
+	}
+
+	@Override
+	public Bundle getBundle() {
+		return null;
+	}
+
+	@Override
+	public ServiceReference<?> getServiceReference() {
+		return null;
+	}
+
+	@SuppressWarnings("deprecation")
+	@Override
+	public int getLevel() {
+		return getLogLevel().ordinal();
+	}
+
+	@Override
+	public String getMessage() {
+		return "entry " + sequence; //$NON-NLS-1$
+	}
+
+	@Override
+	public Throwable getException() {
+		return null;
+	}
+
+	@Override
+	public long getTime() {
+		return 0;
+	}
+
+	@Override
+	public LogLevel getLogLevel() {
+		return LogLevel.INFO;
+	}
+
+	@Override
+	public String getLoggerName() {
+		return TestLogEntry.class.getName();
+	}
+
+	@Override
+	public long getSequence() {
+		return sequence;
+	}
+
+	@Override
+	public String getThreadInfo() {
+		return null;
+	}
+
+	@Override
+	public StackTraceElement getLocation() {
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return getMessage();
+	}
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.metatype.tests;
+
+import java.io.*;
+import java.util.*;
+import org.eclipse.equinox.compendium.tests.Activator;
+import org.junit.*;
+import org.osgi.framework.Bundle;
+import org.osgi.service.metatype.MetaTypeInformation;
+
+/*
+ * Tests the metatype cache, which keeps one entry for each bundle. An entry is
+ * only decoded when the information of its bundle is requested, and the XML of
+ * the bundle is parsed instead if the entry cannot be used.
+ */
+public class MetaTypeCacheTest extends AbstractTest {
+	private Bundle tb1;
+	private Bundle tb2;
+	private File cacheFile;
+
+	@Before
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		tb1 = bundleInstaller.installBundle("tb1"); //$NON-NLS-1$
+		tb1.start();
+		tb2 = bundleInstaller.installBundle("tb2"); //$NON-NLS-1$
+		tb2.start();
+		cacheFile = Activator.getBundle(Activator.BUNDLE_METATYPE).getBundleContext().getDataFile("metaTypeCache"); //$NON-NLS-1$
+		// fill the cache with the entries of both bundles
+		assertTb1(metatype.getMetaTypeInformation(tb1));
+		assertTb2(metatype.getMetaTypeInformation(tb2));
+		restartMetatype();
+	}
+
+	/*
+	 * Ensures an entry which is not requested is written back unchanged, without
+	 * being decoded, and that a corrupt entry falls back to the XML.
+	 */
+	@Test
+	public void testUnrequestedEntryWrittenBackUnchanged() throws Exception {
+		stopMetatype();
+		Cache cache = readCache();
+		byte[] data = cache.infos.get(tb2.getBundleId()).data;
+		byte[] corrupt = Arrays.copyOf(data, data.length / 2);
+		cache.infos.get(tb2.getBundleId()).data = corrupt;
+		writeCache(cache);
+		startMetatype();
+
+		assertTb1(metatype.getMetaTypeInformation(tb1));
+		restartMetatype();
+		cache = readCache();
+		Assert.assertTrue("Requested entry not saved", cache.infos.containsKey(tb1.getBundleId())); //$NON-NLS-1$
+		Assert.assertArrayEquals("Unrequested entry changed", corrupt, cache.infos.get(tb2.getBundleId()).data); //$NON-NLS-1$
+
+		assertTb2(metatype.getMetaTypeInformation(tb2));
+		restartMetatype();
+		Assert.assertArrayEquals("Entry not saved again from the XML", data, //$NON-NLS-1$
+				readCache().infos.get(tb2.getBundleId()).data);
+		assertTb2(metatype.getMetaTypeInformation(tb2));
+	}
+
+	/*
+	 * Ensures an entry saved for an older version of a bundle is dropped and the
+	 * XML is used instead.
+	 */
+	@Test
+	public void testStaleEntryIgnored() throws Exception {
+		stopMetatype();
+		Cache cache = readCache();
+		cache.infos.get(tb2.getBundleId()).lastModified--;
+		writeCache(cache);
+		startMetatype();
+
+		restartMetatype();
+		Assert.assertFalse("Stale entry written back", readCache().infos.containsKey(tb2.getBundleId())); //$NON-NLS-1$
+		assertTb2(metatype.getMetaTypeInformation(tb2));
+		restartMetatype();
+		Assert.assertEquals("Entry not saved again from the XML", tb2.getLastModified(), //$NON-NLS-1$
+				readCache().infos.get(tb2.getBundleId()).lastModified);
+	}
+
+	private void assertTb1(MetaTypeInformation mti) {
+		assertNotNull(mti);
+		assertObjectClassDefinition(mti.getObjectClassDefinition("org.eclipse.equinox.metatype.tests.tb1", null), //$NON-NLS-1$
+				"ocd1", "Object", null); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private void assertTb2(MetaTypeInformation mti) {
+		assertNotNull(mti);
+		Assert.assertArrayEquals("Wrong pids", new String[] {"singleton"}, mti.getPids()); //$NON-NLS-1$ //$NON-NLS-2$
+		Assert.assertArrayEquals("Wrong factory pids", new String[] {"factory"}, mti.getFactoryPids()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/*
+	 * The cache file: the persistence version, the ids of the bundles with
+	 * metatype provider services, and an entry with the last modified stamp and
+	 * the raw data for each bundle with metatype XML.
+	 */
+	private Cache readCache() throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			Cache cache = new Cache();
+			cache.version = in.readInt();
+			int numService = in.readInt();
+			for (int i = 0; i < numService; i++) {
+				cache.services.add(in.readLong());
+			}
+			int numXML = in.readInt();
+			for (int i = 0; i < numXML; i++) {
+				long id = in.readLong();
+				CacheEntry entry = new CacheEntry();
+				entry.lastModified = in.readLong();
+				entry.data = new byte[in.readInt()];
+				in.readFully(entry.data);
+				cache.infos.put(id, entry);
+			}
+			return cache;
+		}
+	}
+
+	private void writeCache(Cache cache) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(cacheFile)))) {
+			out.writeInt(cache.version);
+			out.writeInt(cache.services.size());
+			for (long id : cache.services) {
+				out.writeLong(id);
+			}
+			out.writeInt(cache.infos.size());
+			for (Map.Entry<Long, CacheEntry> info : cache.infos.entrySet()) {
+				out.writeLong(info.getKey());
+				out.writeLong(info.getValue().lastModified);
+				out.writeInt(info.getValue().data.length);
+				out.write(info.getValue().data);
+			}
+		}
+	}
+
+	private static class Cache {
+		int version;
+		final List<Long> services = new ArrayList<>();
+		final Map<Long, CacheEntry> infos = new LinkedHashMap<>();
+	}
+
+	private static class CacheEntry {
+		long lastModified;
+		byte[] data;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008 IBM Corporation and others
+ * Copyright (c) 2008, 2026 IBM Corporation and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.equinox.useradmin.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -79,4 +80,39 @@ public class GroupTest {
 		assertNull(userAdmin.getRole("testRole1")); //$NON-NLS-1$
 	}
 
+	@Test
+	public void testAuthorizationNestedGroups() throws Exception {
+		Group outer = (Group) userAdmin.createRole("testAuthorizationOuter", Role.GROUP); //$NON-NLS-1$
+		Group inner = (Group) userAdmin.createRole("testAuthorizationInner", Role.GROUP); //$NON-NLS-1$
+		User user = (User) userAdmin.createRole("testAuthorizationUser", Role.USER); //$NON-NLS-1$
+		try {
+			Authorization authorization = userAdmin.getAuthorization(user);
+			assertTrue(authorization.hasRole("testAuthorizationUser")); //$NON-NLS-1$
+			assertFalse(authorization.hasRole("testAuthorizationInner")); //$NON-NLS-1$
+			assertFalse(authorization.hasRole("testAuthorizationOuter")); //$NON-NLS-1$
+
+			// the authorization must pick up membership changes made after its creation
+			outer.addMember(inner);
+			inner.addMember(user);
+			assertTrue(authorization.hasRole("testAuthorizationInner")); //$NON-NLS-1$
+			assertTrue(authorization.hasRole("testAuthorizationOuter")); //$NON-NLS-1$
+			assertEquals(3, authorization.getRoles().length);
+
+			inner.removeMember(user);
+			assertFalse(authorization.hasRole("testAuthorizationInner")); //$NON-NLS-1$
+			assertFalse(authorization.hasRole("testAuthorizationOuter")); //$NON-NLS-1$
+			assertEquals(1, authorization.getRoles().length);
+
+			// circular membership is never implied
+			inner.addMember(user);
+			inner.addRequiredMember(outer);
+			assertFalse(authorization.hasRole("testAuthorizationInner")); //$NON-NLS-1$
+			assertFalse(authorization.hasRole("testAuthorizationOuter")); //$NON-NLS-1$
+		} finally {
+			userAdmin.removeRole("testAuthorizationOuter"); //$NON-NLS-1$
+			userAdmin.removeRole("testAuthorizationInner"); //$NON-NLS-1$
+			userAdmin.removeRole("testAuthorizationUser"); //$NON-NLS-1$
+		}
+	}
+
 }
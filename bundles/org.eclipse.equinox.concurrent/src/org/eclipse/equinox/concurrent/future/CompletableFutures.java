@@ -0,0 +1,131 @@
+/******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.equinox.concurrent.future;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * <p>
+ * Converts between {@link IFuture}s and {@link CompletableFuture}s, so that
+ * futures of this package can be composed with {@link CompletionStage}s.
+ * </p>
+ *
+ * @since 1.2
+ */
+public final class CompletableFutures {
+
+	private CompletableFutures() {
+		// no instances
+	}
+
+	/**
+	 * Returns a {@link CompletableFuture} that is completed when the given future
+	 * is done. The completable future is completed with the result of the future,
+	 * completed exceptionally with its exception or canceled when the future is
+	 * canceled.
+	 * <p>
+	 * No thread waits for the future to be done. The completable future is
+	 * completed by the thread that completes a {@link SingleOperationFuture}, or by
+	 * the listener of an {@link IListenableFuture}. Other futures are only
+	 * supported when they are already done.
+	 * </p>
+	 *
+	 * @param future the future. Must not be <code>null</code>.
+	 * @return a completable future for the outcome of the given future
+	 * @throws IllegalArgumentException if the future is not done and is neither a
+	 *                                  {@link SingleOperationFuture} nor an
+	 *                                  {@link IListenableFuture}
+	 */
+	public static <ResultType> CompletableFuture<ResultType> toCompletableFuture(final IFuture<ResultType> future) {
+		Assert.isNotNull(future);
+		if (future instanceof SingleOperationFuture) {
+			return ((SingleOperationFuture<ResultType>) future).toCompletableFuture();
+		}
+		final CompletableFuture<ResultType> result = new CompletableFuture<>();
+		if (future.isDone()) {
+			complete(future, result);
+		} else if (future instanceof IListenableFuture) {
+			((IListenableFuture<ResultType>) future).addListener(new ImmediateExecutor(), monitor -> {
+				complete(future, result);
+				return null;
+			}, null);
+		} else {
+			throw new IllegalArgumentException("Future must be done or listenable: " + future); //$NON-NLS-1$
+		}
+		return result;
+	}
+
+	private static <ResultType> void complete(IFuture<ResultType> future, CompletableFuture<ResultType> result) {
+		try {
+			ResultType value = future.get();
+			IStatus status = future.getStatus();
+			if (status == null || status.isOK()) {
+				result.complete(value);
+			} else if (status.getSeverity() == IStatus.CANCEL) {
+				result.cancel(false);
+			} else {
+				Throwable exception = status.getException();
+				result.completeExceptionally(exception != null ? exception : new CoreException(status));
+			}
+		} catch (OperationCanceledException e) {
+			result.cancel(false);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			result.completeExceptionally(e);
+		} catch (RuntimeException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Returns a listenable future that is done when the given completion stage
+	 * completes. The future gets the result or the exception of the completion
+	 * stage, or is canceled when the completion stage is canceled.
+	 *
+	 * @param stage the completion stage. Must not be <code>null</code>.
+	 * @return a listenable future for the outcome of the given completion stage
+	 */
+	public static <ResultType> IListenableFuture<ResultType> fromCompletionStage(
+			CompletionStage<? extends ResultType> stage) {
+		Assert.isNotNull(stage);
+		final SingleOperationListenableFuture<ResultType> future = new SingleOperationListenableFuture<>();
+		stage.whenComplete((value, exception) -> {
+			Throwable cause = exception;
+			if (cause instanceof CompletionException && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			if (cause instanceof CancellationException) {
+				future.cancel();
+				return;
+			}
+			final Throwable failure = cause;
+			future.runWithProgress(monitor -> {
+				if (failure instanceof Exception) {
+					throw (Exception) failure;
+				} else if (failure != null) {
+					throw new CompletionException(failure);
+				}
+				return value;
+			});
+		});
+		return future;
+	}
+}
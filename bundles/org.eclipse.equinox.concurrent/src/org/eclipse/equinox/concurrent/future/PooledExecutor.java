@@ -0,0 +1,172 @@
+/******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   IBM Corporation - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.equinox.concurrent.future;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+/**
+ * <p>
+ * An executor that runs the given {@link IProgressRunnable}s with a
+ * {@link java.util.concurrent.Executor}. Unlike {@link ThreadsExecutor}, which
+ * creates a new {@link Thread} for every runnable, the threads of a pooled
+ * executor are reused and their number can be bounded.
+ * </p>
+ * <p>
+ * A pooled executor either creates its own bounded pool of daemon threads,
+ * which are released when they have been idle for a while, or uses a given
+ * {@link java.util.concurrent.Executor}. With
+ * {@link #createVirtualThreadExecutor()} every runnable is run by a new virtual
+ * thread when the VM supports them.
+ * </p>
+ * <p>
+ * The futures returned from {@link #execute(IProgressRunnable, IProgressMonitor)}
+ * are {@link IListenableFuture}s.
+ * </p>
+ *
+ * @since 1.2
+ */
+public class PooledExecutor extends AbstractExecutor {
+
+	private static final long KEEP_ALIVE = 60;
+
+	private final Executor executor;
+	private final boolean ownsExecutor;
+
+	/**
+	 * Creates an executor that runs the runnables with at most the given number of
+	 * threads. Runnables are queued while all threads are busy.
+	 *
+	 * @param maxThreads the maximum number of threads. Must be greater than zero.
+	 */
+	public PooledExecutor(int maxThreads) {
+		Assert.isLegal(maxThreads > 0, "maxThreads must be > 0"); //$NON-NLS-1$
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), createThreadFactory());
+		pool.allowCoreThreadTimeOut(true);
+		this.executor = pool;
+		this.ownsExecutor = true;
+	}
+
+	/**
+	 * Creates an executor that runs the runnables with the given executor. The
+	 * given executor is not shut down by {@link #shutdown()}.
+	 *
+	 * @param executor the executor to run the runnables with. Must not be
+	 *                 <code>null</code>.
+	 */
+	public PooledExecutor(Executor executor) {
+		this(executor, false);
+	}
+
+	private PooledExecutor(Executor executor, boolean ownsExecutor) {
+		Assert.isNotNull(executor);
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	/**
+	 * Creates an executor that runs every runnable with a new virtual thread. If
+	 * the VM does not support virtual threads, an executor with a pool of as many
+	 * threads as there are available processors is returned instead.
+	 *
+	 * @return a new executor
+	 */
+	public static PooledExecutor createVirtualThreadExecutor() {
+		try {
+			ExecutorService virtualThreads = (ExecutorService) Executors.class
+					.getMethod("newVirtualThreadPerTaskExecutor").invoke(null); //$NON-NLS-1$
+			return new PooledExecutor(virtualThreads, true);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// virtual threads are not available
+			return new PooledExecutor(Runtime.getRuntime().availableProcessors());
+		}
+	}
+
+	private ThreadFactory createThreadFactory() {
+		final AtomicInteger count = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, createThreadName(count.incrementAndGet()));
+			configureThreadForExecution(thread);
+			return thread;
+		};
+	}
+
+	/**
+	 * Returns the name of a thread created by this executor's pool.
+	 *
+	 * @param number the number of the thread
+	 * @return the thread name
+	 */
+	protected String createThreadName(int number) {
+		return "PooledExecutor-" + number; //$NON-NLS-1$
+	}
+
+	/**
+	 * Configure a thread created by this executor's pool prior to starting it.
+	 * Subclasses may override as appropriate. The default implementation calls
+	 * {@link Thread#setDaemon(boolean)}.
+	 *
+	 * @param thread the thread to configure
+	 */
+	protected void configureThreadForExecution(Thread thread) {
+		thread.setDaemon(true);
+	}
+
+	/**
+	 * Create an {@link AbstractFuture} with the given IProgressMonitor.
+	 *
+	 * @param monitor a progress monitor to associate with the future. May be
+	 *                <code>null</code>.
+	 */
+	@Override
+	@SuppressWarnings("rawtypes")
+	protected AbstractFuture<?> createFuture(IProgressMonitor monitor) {
+		return new SingleOperationListenableFuture(monitor);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws RejectedExecutionException if this executor has been shut down
+	 */
+	@Override
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public <ResultType> IFuture<ResultType> execute(IProgressRunnable<? extends ResultType> runnable,
+			IProgressMonitor monitor) throws RejectedExecutionException {
+		Assert.isNotNull(runnable);
+		final AbstractFuture sof = createFuture(monitor);
+		executor.execute(() -> sof.runWithProgress(runnable));
+		return sof;
+	}
+
+	/**
+	 * Stops accepting new runnables. Runnables that have already been executed are
+	 * still run. An executor given to the constructor is not shut down.
+	 */
+	public void shutdown() {
+		if (ownsExecutor) {
+			((ExecutorService) executor).shutdown();
+		}
+	}
+}
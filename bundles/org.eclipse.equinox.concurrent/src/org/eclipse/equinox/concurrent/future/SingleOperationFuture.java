@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2010, 2013 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  ******************************************************************************/
 package org.eclipse.equinox.concurrent.future;
 
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.core.runtime.*;
 
 /**
@@ -33,6 +34,7 @@ public class SingleOperationFuture<ResultType> extends AbstractFuture<ResultType
 	private ResultType resultValue = null;
 	private IStatus status = null;
 	private TimeoutException timeoutException = null;
+	private CompletableFuture<ResultType> completableFuture = null;
 	protected IProgressMonitor progressMonitor;
 
 	public SingleOperationFuture() {
@@ -110,22 +112,14 @@ public class SingleOperationFuture<ResultType> extends AbstractFuture<ResultType
 			SafeRunner.run(new ISafeRunnable() {
 				@Override
 				public void handleException(Throwable exception) {
-					synchronized (SingleOperationFuture.this) {
-						if (!isCanceled()) {
-							setException(exception);
-						}
-					}
+					setException(exception);
 				}
 
 				@Override
 				public void run() throws Exception {
 					@SuppressWarnings("unchecked")
 					ResultType result = (ResultType) runnable.run(getProgressMonitor());
-					synchronized (SingleOperationFuture.this) {
-						if (!isCanceled()) {
-							set(result);
-						}
-					}
+					set(result);
 				}
 			});
 		}
@@ -144,28 +138,112 @@ public class SingleOperationFuture<ResultType> extends AbstractFuture<ResultType
 	}
 
 	@Override
-	public synchronized boolean cancel() {
-		if (isDone()) {
-			return false;
-		}
-		if (isCanceled()) {
-			return false;
+	public boolean cancel() {
+		synchronized (this) {
+			if (isDone()) {
+				return false;
+			}
+			if (isCanceled()) {
+				return false;
+			}
+			setStatus(new Status(IStatus.CANCEL, PLUGIN_ID, IStatus.CANCEL, "Operation canceled", null)); //$NON-NLS-1$ //$NON-NLS-2$
+			getProgressMonitor().setCanceled(true);
+			notifyAll();
 		}
-		setStatus(new Status(IStatus.CANCEL, PLUGIN_ID, IStatus.CANCEL, "Operation canceled", null)); //$NON-NLS-1$ //$NON-NLS-2$
-		getProgressMonitor().setCanceled(true);
-		notifyAll();
+		completeCompletableFuture();
 		return true;
 	}
 
-	protected synchronized void setException(Throwable ex) {
-		setStatus(new Status(IStatus.ERROR, PLUGIN_ID, IStatus.ERROR, "Exception during operation", ex)); //$NON-NLS-1$ //$NON-NLS-2$
-		notifyAll();
+	/**
+	 * Sets the exception of the operation. Does nothing if this future has been
+	 * canceled.
+	 *
+	 * @param ex the exception of the operation
+	 */
+	protected void setException(Throwable ex) {
+		synchronized (this) {
+			if (isCanceled()) {
+				return;
+			}
+			setStatus(new Status(IStatus.ERROR, PLUGIN_ID, IStatus.ERROR, "Exception during operation", ex)); //$NON-NLS-1$ //$NON-NLS-2$
+			notifyAll();
+		}
+		completeCompletableFuture();
+	}
+
+	/**
+	 * Sets the result of the operation. Does nothing if this future has been
+	 * canceled.
+	 *
+	 * @param newValue the result of the operation
+	 */
+	protected void set(ResultType newValue) {
+		synchronized (this) {
+			if (isCanceled()) {
+				return;
+			}
+			resultValue = newValue;
+			setStatus(Status.OK_STATUS);
+			notifyAll();
+		}
+		completeCompletableFuture();
+	}
+
+	/**
+	 * Returns a {@link CompletableFuture} that is completed when this future is
+	 * done, without blocking a thread to wait for it. The completable future is
+	 * completed with the result of the operation, completed exceptionally with the
+	 * exception of the operation or canceled when this future is canceled.
+	 * Canceling the completable future cancels this future.
+	 * <p>
+	 * Dependent actions of the completable future that are not run asynchronously
+	 * are run by the thread that completes this future, after it has released the
+	 * monitor of this future.
+	 * </p>
+	 *
+	 * @return a completable future for the outcome of this future
+	 * @since 1.2
+	 */
+	public CompletableFuture<ResultType> toCompletableFuture() {
+		CompletableFuture<ResultType> result;
+		synchronized (this) {
+			if (completableFuture == null) {
+				completableFuture = new CompletableFuture<ResultType>() {
+					@Override
+					public boolean cancel(boolean mayInterruptIfRunning) {
+						SingleOperationFuture.this.cancel();
+						return super.cancel(mayInterruptIfRunning);
+					}
+				};
+			}
+			result = completableFuture;
+		}
+		completeCompletableFuture();
+		return result;
 	}
 
-	protected synchronized void set(ResultType newValue) {
-		resultValue = newValue;
-		setStatus(Status.OK_STATUS);
-		notifyAll();
+	// Captures the outcome under the lock but completes the completable future
+	// after releasing it, since completing it runs its dependent actions
+	private void completeCompletableFuture() {
+		CompletableFuture<ResultType> target;
+		IStatus outcome;
+		ResultType value;
+		synchronized (this) {
+			if (completableFuture == null || status == null) {
+				return;
+			}
+			target = completableFuture;
+			outcome = status;
+			value = resultValue;
+		}
+		if (outcome.getSeverity() == IStatus.CANCEL) {
+			target.cancel(false);
+		} else if (outcome.isOK()) {
+			target.complete(value);
+		} else {
+			Throwable exception = outcome.getException();
+			target.completeExceptionally(exception != null ? exception : new CoreException(outcome));
+		}
 	}
 
 	private synchronized void setStatus(IStatus status) {
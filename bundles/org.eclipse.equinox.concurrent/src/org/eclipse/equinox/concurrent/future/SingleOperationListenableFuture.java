@@ -1,5 +1,5 @@
 /******************************************************************************
- * Copyright (c) 2010, 2013 Composent, Inc. and others.
+ * Copyright (c) 2010, 2026 Composent, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,7 @@ public class SingleOperationListenableFuture<ResultType> extends SingleOperation
 	private IProgressRunnable<ResultType> progressRunnable;
 	private IProgressMonitor progressMonitor;
 	private IExecutor listenerExecutor;
+	private boolean listenerExecuted;
 
 	public SingleOperationListenableFuture() {
 		super();
@@ -71,10 +72,8 @@ public class SingleOperationListenableFuture<ResultType> extends SingleOperation
 			SafeRunner.run(new ISafeRunnable() {
 				@Override
 				public void handleException(Throwable exception) {
+					setException(exception);
 					synchronized (SingleOperationListenableFuture.this) {
-						if (!isCanceled()) {
-							setException(exception);
-						}
 						execListenable();
 					}
 				}
@@ -83,10 +82,8 @@ public class SingleOperationListenableFuture<ResultType> extends SingleOperation
 				public void run() throws Exception {
 					@SuppressWarnings("unchecked")
 					ResultType result = (ResultType) runnable.run(getProgressMonitor());
+					set(result);
 					synchronized (SingleOperationListenableFuture.this) {
-						if (!isCanceled()) {
-							set(result);
-						}
 						execListenable();
 					}
 				}
@@ -99,6 +96,11 @@ public class SingleOperationListenableFuture<ResultType> extends SingleOperation
 		if (progressRunnable == null || listenerExecutor == null) {
 			return;
 		}
+		// addListener runs the listener if it is added after the result was set
+		if (listenerExecuted) {
+			return;
+		}
+		listenerExecuted = true;
 		// Make sure that the progress monitor is set to non-null
 		if (progressMonitor == null) {
 			progressMonitor = new NullProgressMonitor();
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.equinox.console.commands;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Version;
+
+public class EquinoxCommandProviderTests {
+
+	private static final int BUNDLES = 1000;
+
+	@Test
+	public void testListingStopsWhenInterrupted() throws Exception {
+		Bundle[] bundles = new Bundle[BUNDLES];
+		for (int i = 0; i < BUNDLES; i++) {
+			bundles[i] = mock(Bundle.class);
+			when(bundles[i].getBundleId()).thenReturn(Long.valueOf(i));
+			when(bundles[i].getSymbolicName()).thenReturn("test.bundle" + i);
+			when(bundles[i].getVersion()).thenReturn(Version.emptyVersion);
+			when(bundles[i].getState()).thenReturn(Bundle.ACTIVE);
+		}
+		BundleContext context = mock(BundleContext.class);
+		when(context.getBundle(0)).thenReturn(bundles[0]);
+		when(context.getBundles()).thenReturn(bundles);
+		EquinoxCommandProvider provider = new EquinoxCommandProvider(context, null);
+
+		// the console blocks on the first bundle until the command is cancelled
+		CountDownLatch firstRecord = new CountDownLatch(1);
+		BlockingOutput output = new BlockingOutput("test.bundle0_", firstRecord);
+		Exception[] failure = new Exception[1];
+		Thread command = new Thread(() -> {
+			try {
+				provider.ss();
+			} catch (Exception e) {
+				failure[0] = e;
+			}
+		}, "ss");
+		PrintStream originalOut = System.out;
+		System.setOut(new PrintStream(output, true));
+		try {
+			command.start();
+			assertTrue("First bundle not printed", firstRecord.await(10, TimeUnit.SECONDS));
+			command.interrupt();
+			command.join(10000);
+		} finally {
+			System.setOut(originalOut);
+		}
+		assertFalse("Listing did not stop", command.isAlive());
+		assertNull("Command failed", failure[0]);
+		String printed = output.toString();
+		assertTrue(printed, printed.contains("test.bundle0_"));
+		assertFalse("Listing continued after the interrupt: " + printed, printed.contains("test.bundle1_"));
+	}
+
+	private static class BlockingOutput extends OutputStream {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		private final String blockOn;
+		private final CountDownLatch blocked;
+
+		BlockingOutput(String blockOn, CountDownLatch blocked) {
+			this.blockOn = blockOn;
+			this.blocked = blocked;
+		}
+
+		@Override
+		public synchronized void write(int b) {
+			bytes.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			synchronized (this) {
+				bytes.write(b, off, len);
+			}
+			if (blocked.getCount() > 0 && toString().contains(blockOn)) {
+				blocked.countDown();
+				try {
+					new CountDownLatch(1).await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		@Override
+		public synchronized String toString() {
+			return bytes.toString(StandardCharsets.UTF_8);
+		}
+	}
+}
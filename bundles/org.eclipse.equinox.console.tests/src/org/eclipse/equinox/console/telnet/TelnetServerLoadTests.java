@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.console.telnet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.felix.service.command.CommandProcessor;
+import org.apache.felix.service.command.CommandSession;
+import org.eclipse.equinox.console.common.ConsoleInputStream;
+import org.junit.Test;
+
+public class TelnetServerLoadTests {
+
+	private static final String HOST = "localhost";
+	private static final int PORT = 38889;
+	private static final int NUM_SESSIONS = 50;
+	private static final int SOCKET_TIMEOUT = 30000;
+
+	// IAC WILL TTYPE, IAC SB TTYPE IS XTERM IAC SE
+	private static final byte[] NEGOTIATION = { (byte) 255, (byte) 251, (byte) 24, (byte) 255, (byte) 250, (byte) 24,
+			(byte) 0, 'X', 'T', 'E', 'R', 'M', (byte) 255, (byte) 240 };
+
+	@Test
+	public void testConcurrentSessions() throws Exception {
+		TelnetServer telnetServer = startServer(NUM_SESSIONS, 0);
+		ExecutorService executor = Executors.newFixedThreadPool(NUM_SESSIONS);
+		try {
+			// the second round only succeeds if the sessions of the first round have
+			// been released
+			for (int round = 0; round < 2; round++) {
+				List<Future<String>> results = new ArrayList<>();
+				for (int i = 0; i < NUM_SESSIONS; i++) {
+					final String command = "cmd" + round + "_" + i;
+					results.add(executor.submit(new Callable<String>() {
+						@Override
+						public String call() throws Exception {
+							return runScriptedSession(command);
+						}
+					}));
+				}
+				for (int i = 0; i < NUM_SESSIONS; i++) {
+					String output = results.get(i).get(SOCKET_TIMEOUT, TimeUnit.MILLISECONDS);
+					assertTrue("Wrong output: " + output, output.contains("ok cmd" + round + "_" + i));
+				}
+				waitForSessions(telnetServer, 0);
+			}
+		} finally {
+			executor.shutdownNow();
+			telnetServer.stopTelnetServer();
+		}
+	}
+
+	@Test
+	public void testMaxSessions() throws Exception {
+		TelnetServer telnetServer = startServer(1, 0);
+		try (Socket first = connect()) {
+			waitForSessions(telnetServer, 1);
+			try (Socket second = connect()) {
+				String output = readAll(second.getInputStream());
+				assertTrue("Wrong output: " + output, output.contains("Maximum number of telnet sessions (1) reached."));
+			}
+		} finally {
+			telnetServer.stopTelnetServer();
+		}
+	}
+
+	@Test
+	public void testIdleTimeout() throws Exception {
+		TelnetServer telnetServer = startServer(0, 500);
+		try (Socket socket = connect()) {
+			long start = System.currentTimeMillis();
+			// the server closes the connection after the idle timeout
+			readAll(socket.getInputStream());
+			assertTrue("Connection not closed in time.", System.currentTimeMillis() - start < SOCKET_TIMEOUT);
+			waitForSessions(telnetServer, 0);
+		} finally {
+			telnetServer.stopTelnetServer();
+		}
+	}
+
+	private TelnetServer startServer(int maxSessions, int idleTimeout) throws Exception {
+		CommandProcessor processor = mock(CommandProcessor.class);
+		when(processor.createSession(any(ConsoleInputStream.class), any(PrintStream.class), any(PrintStream.class)))
+				.thenAnswer(invocation -> createSession(invocation.getArgument(0), invocation.getArgument(1)));
+		List<CommandProcessor> processors = new ArrayList<>();
+		processors.add(processor);
+		TelnetServer telnetServer = new TelnetServer(null, processors, HOST, PORT, maxSessions, idleTimeout);
+		telnetServer.start();
+		return telnetServer;
+	}
+
+	private static CommandSession createSession(InputStream in, PrintStream out) throws Exception {
+		CommandSession session = mock(CommandSession.class);
+		// executes a single command read from the input
+		when(session.execute(anyString())).thenAnswer(invocation -> {
+			ByteArrayOutputStream line = new ByteArrayOutputStream();
+			for (int b = in.read(); b != -1 && b != '\n'; b = in.read()) {
+				line.write(b);
+			}
+			out.print("ok " + new String(line.toByteArray(), StandardCharsets.US_ASCII) + "\n");
+			out.flush();
+			return null;
+		});
+		return session;
+	}
+
+	private static String runScriptedSession(String command) throws IOException {
+		try (Socket socket = connect()) {
+			OutputStream out = socket.getOutputStream();
+			out.write(NEGOTIATION);
+			out.write((command + "\r\n").getBytes(StandardCharsets.US_ASCII));
+			out.flush();
+			return readAll(socket.getInputStream());
+		}
+	}
+
+	private static Socket connect() throws IOException {
+		Socket socket = new Socket(HOST, PORT);
+		socket.setSoTimeout(SOCKET_TIMEOUT);
+		return socket;
+	}
+
+	private static String readAll(InputStream in) throws IOException {
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1024];
+		for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+			result.write(buffer, 0, read);
+		}
+		return new String(result.toByteArray(), StandardCharsets.ISO_8859_1);
+	}
+
+	private static void waitForSessions(TelnetServer telnetServer, int expected) throws InterruptedException {
+		long end = System.currentTimeMillis() + SOCKET_TIMEOUT;
+		while (telnetServer.getSessionCount() != expected && System.currentTimeMillis() < end) {
+			Thread.sleep(50);
+		}
+		assertEquals("Wrong number of sessions.", expected, telnetServer.getSessionCount());
+	}
+}
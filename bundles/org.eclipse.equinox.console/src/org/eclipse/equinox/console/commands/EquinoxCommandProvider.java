@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2018 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URL;
@@ -535,17 +537,22 @@ public class EquinoxCommandProvider implements SynchronousBundleListener {
 		System.out.print(tab);
 		System.out.println(ConsoleMsg.CONSOLE_BUNDLE_LOCATION_MESSAGE);
 		System.out.println(ConsoleMsg.CONSOLE_STATE_BUNDLE_FILE_NAME_HEADER);
+		StringWriter record = new StringWriter();
+		PrintWriter out = new PrintWriter(record);
 		for (int i = 0; i < size; i++) {
 			Bundle bundle = bundles[i];
 			if (!match(bundle, bsnSegments, stateFilter)) {
 				continue;
 			}
-			System.out.print(bundle.getBundleId());
-			System.out.print(tab);
-			System.out.println(bundle.getLocation());
-			System.out.print("  "); //$NON-NLS-1$
-			System.out.print(getStateName(bundle));
-			System.out.println(bundle.toString());
+			out.print(bundle.getBundleId());
+			out.print(tab);
+			out.println(bundle.getLocation());
+			out.print("  "); //$NON-NLS-1$
+			out.print(getStateName(bundle));
+			out.println(bundle.toString());
+			if (!printRecord(record)) {
+				return;
+			}
 		}
 
 		ServiceReference<?>[] services = context.getServiceReferences((String) null, (String) null);
@@ -553,10 +560,28 @@ public class EquinoxCommandProvider implements SynchronousBundleListener {
 			System.out.println(ConsoleMsg.CONSOLE_REGISTERED_SERVICES_MESSAGE);
 			for (ServiceReference<?> service : services) {
 				System.out.println(service);
+				if (Thread.currentThread().isInterrupted()) {
+					return;
+				}
 			}
 		}
 	}
 
+	/**
+	 * Prints the output collected for a single bundle, service or package at once
+	 * and clears it for the next one.
+	 *
+	 * @param record the collected output
+	 * @return <code>false</code> if the command should stop because the thread
+	 *         executing it was interrupted, e.g. when the command is cancelled
+	 */
+	private static boolean printRecord(StringWriter record) {
+		StringBuffer buffer = record.getBuffer();
+		System.out.print(buffer);
+		buffer.setLength(0);
+		return !Thread.currentThread().isInterrupted();
+	}
+
 	/**
 	 * Handle the services command's abbreviation. Invoke services()
 	 *
@@ -616,24 +641,29 @@ public class EquinoxCommandProvider implements SynchronousBundleListener {
 		if (services != null) {
 			int size = services.length;
 			if (size > 0) {
+				StringWriter record = new StringWriter();
+				PrintWriter out = new PrintWriter(record);
 				for (int j = 0; j < size; j++) {
 					ServiceReference<?> service = services[j];
-					System.out.println(service);
-					System.out.print("  "); //$NON-NLS-1$
-					System.out.print(ConsoleMsg.CONSOLE_REGISTERED_BY_BUNDLE_MESSAGE);
-					System.out.print(" "); //$NON-NLS-1$
-					System.out.println(service.getBundle());
+					out.println(service);
+					out.print("  "); //$NON-NLS-1$
+					out.print(ConsoleMsg.CONSOLE_REGISTERED_BY_BUNDLE_MESSAGE);
+					out.print(" "); //$NON-NLS-1$
+					out.println(service.getBundle());
 					Bundle[] users = service.getUsingBundles();
 					if (users != null) {
-						System.out.print("  "); //$NON-NLS-1$
-						System.out.println(ConsoleMsg.CONSOLE_BUNDLES_USING_SERVICE_MESSAGE);
+						out.print("  "); //$NON-NLS-1$
+						out.println(ConsoleMsg.CONSOLE_BUNDLES_USING_SERVICE_MESSAGE);
 						for (Bundle user : users) {
-							System.out.print("    "); //$NON-NLS-1$
-							System.out.println(user);
+							out.print("    "); //$NON-NLS-1$
+							out.println(user);
 						}
 					} else {
-						System.out.print("  "); //$NON-NLS-1$
-						System.out.println(ConsoleMsg.CONSOLE_NO_BUNDLES_USING_SERVICE_MESSAGE);
+						out.print("  "); //$NON-NLS-1$
+						out.println(ConsoleMsg.CONSOLE_NO_BUNDLES_USING_SERVICE_MESSAGE);
+					}
+					if (!printRecord(record)) {
+						return;
 					}
 				}
 				return;
@@ -709,30 +739,35 @@ public class EquinoxCommandProvider implements SynchronousBundleListener {
 			System.out.println(ConsoleMsg.CONSOLE_NO_EXPORTED_PACKAGES_MESSAGE);
 			return;
 		}
+		StringWriter record = new StringWriter();
+		PrintWriter out = new PrintWriter(record);
 		for (ExportedPackage pkg : packages) {
-			System.out.print(pkg);
+			out.print(pkg);
 			boolean removalPending = pkg.isRemovalPending();
 			if (removalPending) {
-				System.out.print("("); //$NON-NLS-1$
-				System.out.print(ConsoleMsg.CONSOLE_REMOVAL_PENDING_MESSAGE);
-				System.out.println(")"); //$NON-NLS-1$
+				out.print("("); //$NON-NLS-1$
+				out.print(ConsoleMsg.CONSOLE_REMOVAL_PENDING_MESSAGE);
+				out.println(")"); //$NON-NLS-1$
 			}
 			org.osgi.framework.Bundle exporter = pkg.getExportingBundle();
 			if (exporter != null) {
-				System.out.print("<"); //$NON-NLS-1$
-				System.out.print(exporter);
-				System.out.println(">"); //$NON-NLS-1$
+				out.print("<"); //$NON-NLS-1$
+				out.print(exporter);
+				out.println(">"); //$NON-NLS-1$
 				org.osgi.framework.Bundle[] importers = pkg.getImportingBundles();
 				for (Bundle importer : importers) {
-					System.out.print("  "); //$NON-NLS-1$
-					System.out.print(importer);
-					System.out.print(" "); //$NON-NLS-1$
-					System.out.println(ConsoleMsg.CONSOLE_IMPORTS_MESSAGE);
+					out.print("  "); //$NON-NLS-1$
+					out.print(importer);
+					out.print(" "); //$NON-NLS-1$
+					out.println(ConsoleMsg.CONSOLE_IMPORTS_MESSAGE);
 				}
 			} else {
-				System.out.print("<"); //$NON-NLS-1$
-				System.out.print(ConsoleMsg.CONSOLE_STALE_MESSAGE);
-				System.out.println(">"); //$NON-NLS-1$
+				out.print("<"); //$NON-NLS-1$
+				out.print(ConsoleMsg.CONSOLE_STALE_MESSAGE);
+				out.println(">"); //$NON-NLS-1$
+			}
+			if (!printRecord(record)) {
+				return;
 			}
 		}
 	}
@@ -774,49 +809,54 @@ public class EquinoxCommandProvider implements SynchronousBundleListener {
 			return;
 		}
 
+		StringWriter record = new StringWriter();
+		PrintWriter out = new PrintWriter(record);
 		for (int i = 0; i < size; i++) {
 			Bundle bundle = bundles[i];
 			if (!match(bundle, bsnSegments, stateFilter)) {
 				continue;
 			}
 			long id = bundle.getBundleId();
-			System.out.println(bundle);
-			System.out.print("  "); //$NON-NLS-1$
-			System.out.print(NLS.bind(ConsoleMsg.CONSOLE_ID_MESSAGE, String.valueOf(id)));
-			System.out.print(", "); //$NON-NLS-1$
-			System.out.print(NLS.bind(ConsoleMsg.CONSOLE_STATUS_MESSAGE, getStateName(bundle)));
+			out.println(bundle);
+			out.print("  "); //$NON-NLS-1$
+			out.print(NLS.bind(ConsoleMsg.CONSOLE_ID_MESSAGE, String.valueOf(id)));
+			out.print(", "); //$NON-NLS-1$
+			out.print(NLS.bind(ConsoleMsg.CONSOLE_STATUS_MESSAGE, getStateName(bundle)));
 			if (id != 0) {
 				File dataRoot = bundle.getDataFile(""); //$NON-NLS-1$
 				String root = (dataRoot == null) ? null : dataRoot.getAbsolutePath();
-				System.out.print(NLS.bind(ConsoleMsg.CONSOLE_DATA_ROOT_MESSAGE, root));
+				out.print(NLS.bind(ConsoleMsg.CONSOLE_DATA_ROOT_MESSAGE, root));
 			} else {
-				System.out.println();
+				out.println();
 			}
 
 			ServiceReference<?>[] services = bundle.getRegisteredServices();
 			if (services != null) {
-				System.out.print("  "); //$NON-NLS-1$
-				System.out.println(ConsoleMsg.CONSOLE_REGISTERED_SERVICES_MESSAGE);
+				out.print("  "); //$NON-NLS-1$
+				out.println(ConsoleMsg.CONSOLE_REGISTERED_SERVICES_MESSAGE);
 				for (ServiceReference<?> service : services) {
-					System.out.print("    "); //$NON-NLS-1$
-					System.out.println(service);
+					out.print("    "); //$NON-NLS-1$
+					out.println(service);
 				}
 			} else {
-				System.out.print("  "); //$NON-NLS-1$
-				System.out.println(ConsoleMsg.CONSOLE_NO_REGISTERED_SERVICES_MESSAGE);
+				out.print("  "); //$NON-NLS-1$
+				out.println(ConsoleMsg.CONSOLE_NO_REGISTERED_SERVICES_MESSAGE);
 			}
 
 			services = bundle.getServicesInUse();
 			if (services != null) {
-				System.out.print("  "); //$NON-NLS-1$
-				System.out.println(ConsoleMsg.CONSOLE_SERVICES_IN_USE_MESSAGE);
+				out.print("  "); //$NON-NLS-1$
+				out.println(ConsoleMsg.CONSOLE_SERVICES_IN_USE_MESSAGE);
 				for (ServiceReference<?> service : services) {
-					System.out.print("    "); //$NON-NLS-1$
-					System.out.println(service);
+					out.print("    "); //$NON-NLS-1$
+					out.println(service);
 				}
 			} else {
-				System.out.print("  "); //$NON-NLS-1$
-				System.out.println(ConsoleMsg.CONSOLE_NO_SERVICES_IN_USE_MESSAGE);
+				out.print("  "); //$NON-NLS-1$
+				out.println(ConsoleMsg.CONSOLE_NO_SERVICES_IN_USE_MESSAGE);
+			}
+			if (!printRecord(record)) {
+				return;
 			}
 		}
 	}
@@ -1367,6 +1407,8 @@ public class EquinoxCommandProvider implements SynchronousBundleListener {
 			System.out.print(ConsoleMsg.CONSOLE_ID);
 			System.out.print(tab);
 			System.out.println(ConsoleMsg.CONSOLE_STATE_BUNDLE_TITLE);
+			StringWriter record = new StringWriter();
+			PrintWriter out = new PrintWriter(record);
 			for (Bundle b : bundles) {
 
 				if (!match(b, bsnSegments, stateFilter)) {
@@ -1378,27 +1420,30 @@ public class EquinoxCommandProvider implements SynchronousBundleListener {
 				} else {
 					label = label + "_" + b.getVersion(); //$NON-NLS-1$
 				}
-				System.out.println(b.getBundleId() + "\t" + getStateName(b) + label); //$NON-NLS-1$
+				out.println(b.getBundleId() + "\t" + getStateName(b) + label); //$NON-NLS-1$
 				BundleRevision revision = b.adapt(BundleRevision.class);
 				BundleWiring wiring = b.adapt(BundleWiring.class);
 				if (revision != null && wiring != null) {
 					if ((revision.getTypes() & BundleRevision.TYPE_FRAGMENT) != 0) {
 						for (BundleWire hostWire : wiring.getRequiredWires(HostNamespace.HOST_NAMESPACE)) {
-							System.out.println(
+							out.println(
 									"\t            Master=" + hostWire.getProvider().getBundle().getBundleId()); //$NON-NLS-1$
 						}
 					} else {
 						List<BundleWire> fragWires = wiring.getProvidedWires(HostNamespace.HOST_NAMESPACE);
 						if (!fragWires.isEmpty()) {
-							System.out.print("\t            Fragments="); //$NON-NLS-1$
+							out.print("\t            Fragments="); //$NON-NLS-1$
 							Iterator<BundleWire> itr = fragWires.iterator();
-							System.out.print(itr.next().getRequirer().getBundle().getBundleId());
+							out.print(itr.next().getRequirer().getBundle().getBundleId());
 							itr.forEachRemaining(
-									w -> System.out.print(", " + w.getRequirer().getBundle().getBundleId()));
-							System.out.println();
+									w -> out.print(", " + w.getRequirer().getBundle().getBundleId()));
+							out.println();
 						}
 					}
 				}
+				if (!printRecord(record)) {
+					return;
+				}
 			}
 		}
 	}
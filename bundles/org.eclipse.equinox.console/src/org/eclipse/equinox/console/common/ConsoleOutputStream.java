@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 SAP AG and others.
+ * Copyright (c) 2010, 2026 SAP AG and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,7 +57,24 @@ public class ConsoleOutputStream extends OutputStream {
 	 */
 	@Override
 	public synchronized void write(int i) throws IOException {
+		process(i);
+	}
+
+	/**
+	 * Writes the bytes to the buffer while holding the lock once, instead of once
+	 * for each byte.
+	 */
+	@Override
+	public synchronized void write(byte[] b, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		for (int i = off, end = off + len; i < end; i++) {
+			process(b[i]);
+		}
+	}
 
+	private void process(int i) throws IOException {
 		if (!queueing) {
 			if (isEcho) {
 				if (i == '\r' || i == '\0') {
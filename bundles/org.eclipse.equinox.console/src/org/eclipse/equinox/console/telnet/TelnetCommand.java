@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 SAP AG and others.
+ * Copyright (c) 2010, 2026 SAP AG and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,8 @@ public class TelnetCommand {
 	private final BundleContext context;
 	private String host = null;
 	private int port;
+	private int maxSessions;
+	private int idleTimeout;
 	private TelnetServer telnetServer = null;
 	private ServiceRegistration<?> configuratorRegistration;
 	private boolean isEnabled = false;
@@ -49,6 +51,10 @@ public class TelnetCommand {
 	private static final String TELNET_PID = "osgi.console.telnet";
 	private static final String CONSOLE_PROP = "osgi.console";
 	private static final String ENABLED = "enabled";
+	private static final String MAX_SESSIONS = "maxSessions";
+	private static final String IDLE_TIMEOUT = "idleTimeout";
+	private static final String MAX_SESSIONS_PROP = "osgi.console.telnet.maxSessions";
+	private static final String IDLE_TIMEOUT_PROP = "osgi.console.telnet.idleTimeout";
 	private final Object lock = new Object();
 
 	public TelnetCommand(CommandProcessor processor, BundleContext context) {
@@ -68,6 +74,19 @@ public class TelnetCommand {
 			}
 		} else {
 			parseHostAndPort();
+			maxSessions = parseInt(context.getProperty(MAX_SESSIONS_PROP));
+			idleTimeout = parseInt(context.getProperty(IDLE_TIMEOUT_PROP));
+		}
+	}
+
+	private static int parseInt(Object value) {
+		if (value == null) {
+			return 0;
+		}
+		try {
+			return Integer.parseInt(value.toString().trim());
+		} catch (NumberFormatException e) {
+			return 0;
 		}
 	}
 
@@ -157,7 +176,7 @@ public class TelnetCommand {
 			}
 
 			try {
-				telnetServer = new TelnetServer(context, processors, host, port);
+				telnetServer = new TelnetServer(context, processors, host, port, maxSessions, idleTimeout);
 			} catch (BindException e) {
 				throw new Exception("Port " + port + " already in use");
 			}
@@ -230,6 +249,8 @@ public class TelnetCommand {
 
 			defaultPort = Integer.parseInt(((String) properties.get(PORT)));
 			defaultHost = (String) properties.get(HOST);
+			maxSessions = parseInt(properties.get(MAX_SESSIONS));
+			idleTimeout = parseInt(properties.get(IDLE_TIMEOUT));
 			if (properties.get(ENABLED) == null) {
 				isEnabled = false;
 			} else {
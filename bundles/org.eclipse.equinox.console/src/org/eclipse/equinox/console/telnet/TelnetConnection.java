@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 SAP AG and others
+ * Copyright (c) 2010, 2026 SAP AG and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,6 +36,7 @@ public class TelnetConnection extends Thread implements Closeable {
 	private final Socket socket;
 	private final CommandProcessor processor;
 	private final BundleContext context;
+	private final TelnetServer server;
 	protected boolean isTelnetNegotiationFinished = false;
 	private final Callback callback;
 	private static final long TIMEOUT = 1000;
@@ -47,14 +48,33 @@ public class TelnetConnection extends Thread implements Closeable {
 	public static final String CLOSEABLE = "CLOSEABLE";
 
 	public TelnetConnection(Socket socket, CommandProcessor processor, BundleContext context) {
+		this(socket, processor, context, null);
+	}
+
+	TelnetConnection(Socket socket, CommandProcessor processor, BundleContext context, TelnetServer server) {
 		this.socket = socket;
 		this.processor = processor;
 		this.context = context;
+		this.server = server;
 		callback = new NegotiationFinishedCallback(this);
 	}
 
+	Socket getSocket() {
+		return socket;
+	}
+
 	@Override
 	public void run() {
+		try {
+			runSession();
+		} finally {
+			if (server != null) {
+				server.connectionFinished(this);
+			}
+		}
+	}
+
+	private void runSession() {
 		try {
 			ConsoleInputStream in = new ConsoleInputStream();
 			TelnetOutputStream out = new TelnetOutputStream(socket.getOutputStream());
@@ -65,7 +85,8 @@ public class TelnetConnection extends Thread implements Closeable {
 			long start = System.currentTimeMillis();
 
 			synchronized (this) {
-				while (isTelnetNegotiationFinished == false
+				// stop waiting if the client disconnects or times out during the negotiation
+				while (isTelnetNegotiationFinished == false && telnetInputHandler.isAlive()
 						&& System.currentTimeMillis() - start < NEGOTIATION_TIMEOUT) {
 					try {
 						wait(TIMEOUT);
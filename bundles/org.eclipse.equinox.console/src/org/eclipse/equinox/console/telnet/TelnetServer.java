@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 SAP AG and others
+ * Copyright (c) 2010, 2026 SAP AG and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,11 @@
 package org.eclipse.equinox.console.telnet;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -30,20 +32,46 @@ import org.osgi.framework.BundleContext;
  * A telnet server, which listens for telnet connections and starts a telnet
  * connection manager when a connection is accepted. If there are multiple
  * CommandProcessor, a telnet connection is created for each of them.
+ * <p>
+ * The number of concurrently connected clients can be limited; clients
+ * connecting above the limit are rejected. Clients which do not send anything
+ * for longer than the idle timeout are disconnected.
  */
 public class TelnetServer extends Thread {
 
 	private ServerSocket server;
-	private boolean isRunning = true;
+	private volatile boolean isRunning = true;
 	private List<CommandProcessor> processors = null;
 	private final BundleContext context;
+	private final int maxSessions;
+	private final int idleTimeout;
 	private final List<Socket> sockets = new ArrayList<>();
 	private final Map<CommandProcessor, List<TelnetConnection>> processorToConnectionsMapping = new HashMap<>();
 
 	public TelnetServer(BundleContext context, List<CommandProcessor> processors, String host, int port)
 			throws IOException {
+		this(context, processors, host, port, 0, 0);
+	}
+
+	/**
+	 * Creates a telnet server.
+	 *
+	 * @param context     the bundle context
+	 * @param processors  the command processors to create sessions with
+	 * @param host        the host to listen on, or <code>null</code> for all
+	 *                    network interfaces
+	 * @param port        the port to listen on
+	 * @param maxSessions the maximum number of connected clients, 0 for no limit
+	 * @param idleTimeout the time in milliseconds after which a client which does
+	 *                    not send anything is disconnected, 0 for no timeout
+	 * @throws IOException if the server socket cannot be created
+	 */
+	public TelnetServer(BundleContext context, List<CommandProcessor> processors, String host, int port,
+			int maxSessions, int idleTimeout) throws IOException {
 		this.context = context;
 		this.processors = processors;
+		this.maxSessions = maxSessions;
+		this.idleTimeout = idleTimeout;
 		if (host != null) {
 			server = new ServerSocket(port, 0, InetAddress.getByName(host));
 		} else {
@@ -56,17 +84,10 @@ public class TelnetServer extends Thread {
 		try {
 			while (isRunning) {
 				final Socket socket = server.accept();
-				sockets.add(socket);
-				for (CommandProcessor processor : processors) {
-					TelnetConnection telnetConnection = new TelnetConnection(socket, processor, context);
-					List<TelnetConnection> telnetConnections = processorToConnectionsMapping.get(processor);
-					if (telnetConnections == null) {
-						telnetConnections = new ArrayList<>();
-						processorToConnectionsMapping.put(processor, telnetConnections);
-					}
-					telnetConnections.add(telnetConnection);
-					telnetConnection.start();
+				if (idleTimeout > 0) {
+					socket.setSoTimeout(idleTimeout);
 				}
+				startConnections(socket);
 			}
 		} catch (IOException e) {
 			if (isRunning == true) {
@@ -84,12 +105,86 @@ public class TelnetServer extends Thread {
 		}
 	}
 
+	private synchronized void startConnections(Socket socket) {
+		if (!isRunning) {
+			closeSocket(socket);
+			return;
+		}
+		if (maxSessions > 0 && sockets.size() >= maxSessions) {
+			reject(socket);
+			return;
+		}
+		sockets.add(socket);
+		for (CommandProcessor processor : processors) {
+			TelnetConnection telnetConnection = new TelnetConnection(socket, processor, context, this);
+			List<TelnetConnection> telnetConnections = processorToConnectionsMapping.get(processor);
+			if (telnetConnections == null) {
+				telnetConnections = new ArrayList<>();
+				processorToConnectionsMapping.put(processor, telnetConnections);
+			}
+			telnetConnections.add(telnetConnection);
+			telnetConnection.start();
+		}
+	}
+
+	private void reject(Socket socket) {
+		try {
+			OutputStream out = socket.getOutputStream();
+			out.write(("Maximum number of telnet sessions (" + maxSessions + ") reached.\r\n")
+					.getBytes(StandardCharsets.US_ASCII));
+			out.flush();
+		} catch (IOException e) {
+			// do nothing
+		} finally {
+			closeSocket(socket);
+		}
+	}
+
+	private static void closeSocket(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException e) {
+			// do nothing
+		}
+	}
+
+	/**
+	 * Called by a telnet connection when its session is finished. Once all the
+	 * connections of a client are finished the client no longer counts as a
+	 * session.
+	 *
+	 * @param telnetConnection the finished connection
+	 */
+	synchronized void connectionFinished(TelnetConnection telnetConnection) {
+		for (List<TelnetConnection> telnetConnections : processorToConnectionsMapping.values()) {
+			telnetConnections.remove(telnetConnection);
+		}
+		Socket socket = telnetConnection.getSocket();
+		for (List<TelnetConnection> telnetConnections : processorToConnectionsMapping.values()) {
+			for (TelnetConnection other : telnetConnections) {
+				if (other.getSocket() == socket) {
+					return;
+				}
+			}
+		}
+		sockets.remove(socket);
+	}
+
+	/**
+	 * Returns the number of connected clients.
+	 *
+	 * @return the number of connected clients
+	 */
+	synchronized int getSessionCount() {
+		return sockets.size();
+	}
+
 	public synchronized void addCommandProcessor(CommandProcessor processor) {
 		processors.add(processor);
 		if (!sockets.isEmpty()) {
 			List<TelnetConnection> telnetConnections = new ArrayList<>();
 			for (Socket socket : sockets) {
-				TelnetConnection telnetConnection = new TelnetConnection(socket, processor, context);
+				TelnetConnection telnetConnection = new TelnetConnection(socket, processor, context, this);
 				telnetConnections.add(telnetConnection);
 				telnetConnection.start();
 			}
@@ -118,7 +213,7 @@ public class TelnetServer extends Thread {
 		}
 
 		for (List<TelnetConnection> telnetConnections : processorToConnectionsMapping.values()) {
-			for (TelnetConnection telnetConnection : telnetConnections) {
+			for (TelnetConnection telnetConnection : new ArrayList<>(telnetConnections)) {
 				telnetConnection.close();
 			}
 		}
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.coordinator;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A hashed timing wheel for coordination timeouts. Scheduling and canceling a
+ * timeout take constant time and never block; a single daemon thread advances
+ * the wheel one tick at a time and runs the timeouts whose deadline has
+ * passed. A timeout runs at most about one tick late and never early. While no
+ * timeouts are scheduled the thread waits instead of ticking.
+ * <p>
+ * Timeouts are handed to the thread through lock free queues; only the thread
+ * itself modifies the wheel.
+ */
+public class CoordinationTimer {
+	private static final long TICK = TimeUnit.MILLISECONDS.toNanos(10);
+	// Must be a power of two.
+	private static final int WHEEL_SIZE = 512;
+	private static final int MASK = WHEEL_SIZE - 1;
+
+	/**
+	 * A timeout that can be scheduled once on a {@link CoordinationTimer}.
+	 */
+	public static abstract class Timeout implements Runnable {
+		private static final int INIT = 0;
+		private static final int CANCELED = 1;
+		private static final int EXPIRED = 2;
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE = AtomicIntegerFieldUpdater
+				.newUpdater(Timeout.class, "state"); //$NON-NLS-1$
+
+		private volatile int state = INIT;
+		// Set by the timer thread before it puts this timeout on the wheel.
+		private volatile boolean transferred;
+		private CoordinationTimer timer;
+		// The following fields are only accessed by the timer thread.
+		private long deadline;
+		private long remainingRounds;
+		private Bucket bucket;
+		private Timeout next;
+		private Timeout prev;
+
+		/**
+		 * Cancels this timeout.
+		 *
+		 * @return false if this timeout already ran or was canceled before, true
+		 *         otherwise.
+		 */
+		public boolean cancel() {
+			if (!STATE.compareAndSet(this, INIT, CANCELED)) {
+				return false;
+			}
+			// A timeout that is not on the wheel yet is dropped when it is transferred.
+			// Otherwise the timer thread must remove it from the wheel.
+			CoordinationTimer current = timer;
+			if (current != null && transferred) {
+				current.canceled.add(this);
+			}
+			return true;
+		}
+
+		boolean isCanceled() {
+			return state == CANCELED;
+		}
+
+		void expire() {
+			if (STATE.compareAndSet(this, INIT, EXPIRED)) {
+				run();
+			}
+		}
+	}
+
+	// A doubly linked list of the timeouts that hash to one slot of the wheel.
+	private static final class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		Timeout remove(Timeout timeout) {
+			Timeout next = timeout.next;
+			if (timeout.prev != null) {
+				timeout.prev.next = next;
+			}
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			}
+			if (timeout == head) {
+				head = next;
+			}
+			if (timeout == tail) {
+				tail = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+			return next;
+		}
+	}
+
+	private final Bucket[] wheel = new Bucket[WHEEL_SIZE];
+	private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+	private final Queue<Timeout> canceled = new ConcurrentLinkedQueue<>();
+	// The number of timeouts scheduled and not yet removed by the timer thread.
+	private final AtomicInteger count = new AtomicInteger();
+	private final long startTime = System.nanoTime();
+	private final Thread thread;
+	private volatile boolean shutdown;
+	// Only accessed by the timer thread.
+	private long tick;
+
+	public CoordinationTimer() {
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel[i] = new Bucket();
+		}
+		thread = new Thread(this::work, "Coordination Timer"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Schedules the timeout to run after the delay.
+	 *
+	 * @param timeout the timeout to schedule.
+	 * @param delay   the delay in milliseconds.
+	 */
+	public void schedule(Timeout timeout, long delay) {
+		if (shutdown) {
+			throw new IllegalStateException("Timer already canceled."); //$NON-NLS-1$
+		}
+		if (timeout.timer != null) {
+			throw new IllegalStateException("Timeout already scheduled."); //$NON-NLS-1$
+		}
+		timeout.timer = this;
+		timeout.deadline = System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delay));
+		scheduled.add(timeout);
+		if (count.getAndIncrement() == 0) {
+			synchronized (this) {
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Stops the timer thread. Scheduled timeouts do not run anymore.
+	 */
+	public void cancel() {
+		shutdown = true;
+		thread.interrupt();
+	}
+
+	private void work() {
+		try {
+			while (!shutdown) {
+				removeCanceled();
+				if (count.get() == 0) {
+					synchronized (this) {
+						while (count.get() == 0 && !shutdown) {
+							wait();
+						}
+					}
+					// Nothing is on the wheel; skip the ticks that passed while waiting.
+					tick = (System.nanoTime() - startTime) / TICK;
+					continue;
+				}
+				long now = waitForNextTick();
+				removeCanceled();
+				transferScheduled();
+				expire(wheel[(int) (tick & MASK)], now);
+				tick++;
+			}
+		} catch (InterruptedException e) {
+			// canceled
+		}
+	}
+
+	private long waitForNextTick() throws InterruptedException {
+		long deadline = TICK * (tick + 1);
+		while (true) {
+			long now = System.nanoTime() - startTime;
+			long sleep = TimeUnit.NANOSECONDS.toMillis(deadline - now + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+			if (sleep <= 0) {
+				return now;
+			}
+			Thread.sleep(sleep);
+		}
+	}
+
+	private void transferScheduled() {
+		for (Timeout timeout = scheduled.poll(); timeout != null; timeout = scheduled.poll()) {
+			// Either this thread sees the cancellation or cancel() sees the transfer.
+			timeout.transferred = true;
+			if (timeout.isCanceled()) {
+				count.decrementAndGet();
+				continue;
+			}
+			long calculated = timeout.deadline / TICK;
+			timeout.remainingRounds = (calculated - tick) / WHEEL_SIZE;
+			// Timeouts that should have already expired are run with the current tick.
+			wheel[(int) (Math.max(calculated, tick) & MASK)].add(timeout);
+		}
+	}
+
+	private void removeCanceled() {
+		for (Timeout timeout = canceled.poll(); timeout != null; timeout = canceled.poll()) {
+			// The timeout may have been dropped already when it was transferred or reached
+			// by the wheel.
+			if (timeout.bucket != null) {
+				timeout.bucket.remove(timeout);
+				count.decrementAndGet();
+			}
+		}
+	}
+
+	private void expire(Bucket bucket, long now) {
+		Timeout timeout = bucket.head;
+		while (timeout != null) {
+			if (timeout.isCanceled()) {
+				timeout = bucket.remove(timeout);
+				count.decrementAndGet();
+			} else if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+				Timeout next = bucket.remove(timeout);
+				count.decrementAndGet();
+				timeout.expire();
+				timeout = next;
+			} else {
+				timeout.remainingRounds--;
+				timeout = timeout.next;
+			}
+		}
+	}
+}
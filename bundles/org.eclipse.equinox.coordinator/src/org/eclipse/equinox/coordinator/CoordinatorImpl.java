@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,15 +16,14 @@ package org.eclipse.equinox.coordinator;
 import java.security.Permission;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.osgi.util.NLS;
 import org.osgi.framework.Bundle;
@@ -36,21 +35,36 @@ import org.osgi.service.coordinator.Participant;
 
 public class CoordinatorImpl implements Coordinator {
 	// IDs must be positive integers and monotonically increasing.
-	private static long lastId;
+	private static final AtomicLong lastId = new AtomicLong();
 
-	private synchronized static long getNextId() {
-		if (Long.MAX_VALUE == lastId) {
-			throw new IllegalStateException(NLS.bind(Messages.MaxCoordinationIdExceeded, lastId));
-		}
+	private static long getNextId() {
 		// First ID will be 1.
-		return ++lastId;
+		return lastId.updateAndGet(id -> {
+			if (Long.MAX_VALUE == id) {
+				throw new IllegalStateException(NLS.bind(Messages.MaxCoordinationIdExceeded, id));
+			}
+			return id + 1;
+		});
 	}
 
 	// Coordination IDs must be unique across all using bundles.
-	private static final Map<Long, CoordinationImpl> idToCoordination = new HashMap<>();
+	private static final Map<Long, CoordinationImpl> idToCoordination = new ConcurrentHashMap<>();
 	// Coordination participation must be tracked across all using bundles.
-	private static final Map<Participant, CoordinationImpl> participantToCoordination = Collections
-			.synchronizedMap(new IdentityHashMap<Participant, CoordinationImpl>());
+	// Participants are compared by identity. The map is split into stripes, each
+	// guarded by itself, so that unrelated participants do not contend.
+	private static final int PARTICIPANT_STRIPES = 64;
+	private static final List<Map<Participant, CoordinationImpl>> participantToCoordination = new ArrayList<>(
+			PARTICIPANT_STRIPES);
+	static {
+		for (int i = 0; i < PARTICIPANT_STRIPES; i++) {
+			participantToCoordination.add(new IdentityHashMap<Participant, CoordinationImpl>());
+		}
+	}
+
+	private static Map<Participant, CoordinationImpl> getParticipantStripe(Participant participant) {
+		int hash = System.identityHashCode(participant);
+		return participantToCoordination.get((hash ^ (hash >>> 16)) & (PARTICIPANT_STRIPES - 1));
+	}
 
 	private static ThreadLocal<WeakCoordinationStack> coordinationStack = new ThreadLocal<WeakCoordinationStack>() {
 		@Override
@@ -100,18 +114,18 @@ public class CoordinatorImpl implements Coordinator {
 	}
 
 	private final Bundle bundle;
-	private final List<CoordinationImpl> coordinations;
+	private final Set<CoordinationImpl> coordinations;
 	private final LogTracker logTracker;
 	private final long maxTimeout;
-	private final Timer timer;
+	private final CoordinationTimer timer;
 
-	private boolean shutdown;
+	private volatile boolean shutdown;
 
-	public CoordinatorImpl(Bundle bundle, LogTracker logService, Timer timer, long maxTimeout) {
+	public CoordinatorImpl(Bundle bundle, LogTracker logService, CoordinationTimer timer, long maxTimeout) {
 		this.bundle = bundle;
 		this.logTracker = logService;
 		this.timer = timer;
-		coordinations = new ArrayList<>();
+		coordinations = ConcurrentHashMap.newKeySet();
 		if (maxTimeout < 0) {
 			throw new IllegalArgumentException(NLS.bind(Messages.InvalidTimeInterval, maxTimeout));
 		}
@@ -160,17 +174,17 @@ public class CoordinatorImpl implements Coordinator {
 		// by the coordination in order to avoid garbage collection. It serves no other
 		// purpose. Just "set it and forget it".
 		coordination.reference = new CoordinationWeakReference(referent, coordination);
-		synchronized (this) {
-			if (shutdown) {
-				throw new IllegalStateException(NLS.bind(Messages.CoordinatorShutdown, name, timeout));
-			}
-			synchronized (CoordinatorImpl.class) {
-				coordinations.add(coordination);
-				idToCoordination.put(Long.valueOf(coordination.getId()), coordination);
-			}
+		// Register before checking for shutdown; a concurrent shutdown either sees
+		// the coordination and fails it, or is seen here.
+		coordinations.add(coordination);
+		idToCoordination.put(Long.valueOf(coordination.getId()), coordination);
+		if (shutdown) {
+			coordinations.remove(coordination);
+			idToCoordination.remove(Long.valueOf(coordination.getId()));
+			throw new IllegalStateException(NLS.bind(Messages.CoordinatorShutdown, name, timeout));
 		}
 		if (timeout > 0) {
-			TimerTask timerTask = new CoordinationTimerTask(coordination);
+			CoordinationTimerTask timerTask = new CoordinationTimerTask(coordination);
 			coordination.setTimerTask(timerTask);
 		}
 		// Make sure to return the referent targeted towards the initiator here.
@@ -191,11 +205,9 @@ public class CoordinatorImpl implements Coordinator {
 	public Coordination getCoordination(long id) {
 		CoordinationWeakReference.processOrphanedCoordinations();
 		CoordinationReferent result = null;
-		synchronized (CoordinatorImpl.class) {
-			CoordinationImpl c = idToCoordination.get(Long.valueOf(id));
-			if (c != null) {
-				result = c.getReferent();
-			}
+		CoordinationImpl c = idToCoordination.get(Long.valueOf(id));
+		if (c != null) {
+			result = c.getReferent();
 		}
 		if (result != null && !result.isTerminated()) {
 			try {
@@ -212,22 +224,19 @@ public class CoordinatorImpl implements Coordinator {
 	@Override
 	public Collection<Coordination> getCoordinations() {
 		CoordinationWeakReference.processOrphanedCoordinations();
-		ArrayList<Coordination> result;
-		synchronized (CoordinatorImpl.class) {
-			result = new ArrayList<>(idToCoordination.size());
-			for (CoordinationImpl coordination : idToCoordination.values()) {
-				// Ideally, we're only interested in coordinations that have not terminated.
-				// It's okay, however, if the coordination terminates from this point forward.
-				if (coordination.isTerminated()) {
-					continue;
-				}
-				try {
-					checkPermission(CoordinationPermission.ADMIN, coordination.getName());
-					result.add(coordination.getReferent());
-				} catch (SecurityException e) {
-					logTracker.debug(NLS.bind(Messages.GetCoordinationNotPermitted, Thread.currentThread(),
-							coordination.getName(), coordination.getId()), e);
-				}
+		ArrayList<Coordination> result = new ArrayList<>(idToCoordination.size());
+		for (CoordinationImpl coordination : idToCoordination.values()) {
+			// Ideally, we're only interested in coordinations that have not terminated.
+			// It's okay, however, if the coordination terminates from this point forward.
+			if (coordination.isTerminated()) {
+				continue;
+			}
+			try {
+				checkPermission(CoordinationPermission.ADMIN, coordination.getName());
+				result.add(coordination.getReferent());
+			} catch (SecurityException e) {
+				logTracker.debug(NLS.bind(Messages.GetCoordinationNotPermitted, Thread.currentThread(),
+						coordination.getName(), coordination.getId()), e);
 			}
 		}
 		result.trimToSize();
@@ -257,10 +266,11 @@ public class CoordinatorImpl implements Coordinator {
 
 	CoordinationImpl addParticipant(Participant participant, CoordinationImpl coordination) {
 		CoordinationImpl result = null;
-		synchronized (participantToCoordination) {
-			result = participantToCoordination.get(participant);
+		Map<Participant, CoordinationImpl> stripe = getParticipantStripe(participant);
+		synchronized (stripe) {
+			result = stripe.get(participant);
 			if (result == null) {
-				participantToCoordination.put(participant, coordination);
+				stripe.put(participant, coordination);
 			}
 		}
 		return result;
@@ -290,32 +300,20 @@ public class CoordinatorImpl implements Coordinator {
 		return maxTimeout;
 	}
 
-	void purge() {
-		// Purge the timer of all canceled tasks if we're running on a supportive JCL.
-		try {
-			Timer.class.getMethod("purge", (Class<?>[]) null).invoke(timer, (Object[]) null); //$NON-NLS-1$
-		} catch (Exception e) {
-			logTracker.debug(Messages.CanceledTaskNotPurged, e);
-		}
-	}
-
 	void push(CoordinationImpl coordination) throws CoordinationException {
 		coordinationStack.get().push(coordination);
 	}
 
-	void schedule(TimerTask task, Date deadline) {
-		timer.schedule(task, deadline);
+	void schedule(CoordinationTimerTask task, Date deadline) {
+		timer.schedule(task, deadline.getTime() - System.currentTimeMillis());
 	}
 
 	void shutdown() {
 		CoordinationWeakReference.processOrphanedCoordinations();
-		List<CoordinationImpl> coords;
-		synchronized (this) {
-			shutdown = true;
-			// Make a copy so the removal of the coordination from the list during
-			// termination does not interfere with the iteration.
-			coords = new ArrayList<>(this.coordinations);
-		}
+		shutdown = true;
+		// Make a copy so the removal of the coordination from the set during
+		// termination does not interfere with the iteration.
+		List<CoordinationImpl> coords = new ArrayList<>(this.coordinations);
 		for (CoordinationImpl coordination : coords) {
 			coordination.fail(Coordination.RELEASED);
 		}
@@ -327,11 +325,16 @@ public class CoordinatorImpl implements Coordinator {
 	void terminate(CoordinationImpl coordination, List<Participant> participants) {
 		// A coordination has been terminated and needs to be removed from the thread
 		// local stack.
-		synchronized (this) {
-			synchronized (CoordinatorImpl.class) {
-				this.coordinations.remove(coordination);
-				idToCoordination.remove(Long.valueOf(coordination.getId()));
-				participantToCoordination.keySet().removeAll(participants);
+		this.coordinations.remove(coordination);
+		idToCoordination.remove(Long.valueOf(coordination.getId()));
+		synchronized (participants) {
+			for (Participant participant : participants) {
+				Map<Participant, CoordinationImpl> stripe = getParticipantStripe(participant);
+				synchronized (stripe) {
+					if (stripe.get(participant) == coordination) {
+						stripe.remove(participant);
+					}
+				}
 			}
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -77,6 +77,103 @@ public interface JettyConstants {
 	 */
 	public static final String HTTP_MINTHREADS = "http.minThreads"; //$NON-NLS-1$
 
+	/**
+	 * name="http.virtualThreads" type="Boolean" (default: false -- requests are
+	 * handled by the platform threads of the thread pool; if true, requests are
+	 * handled by virtual threads when the VM supports them)
+	 *
+	 * @since 1.6
+	 */
+	public static final String HTTP_VIRTUALTHREADS = "http.virtualThreads"; //$NON-NLS-1$
+
+	/**
+	 * name="http.acceptors" type="Integer" (default: -1 -- chosen by Jetty based on
+	 * the number of processors)
+	 *
+	 * @since 1.6
+	 */
+	public static final String HTTP_ACCEPTORS = "http.acceptors"; //$NON-NLS-1$
+
+	/**
+	 * name="http.selectors" type="Integer" (default: -1 -- chosen by Jetty based on
+	 * the number of processors)
+	 *
+	 * @since 1.6
+	 */
+	public static final String HTTP_SELECTORS = "http.selectors"; //$NON-NLS-1$
+
+	/**
+	 * name="http.idleTimeout" type="Long" (default: 30000 -- milliseconds)
+	 *
+	 * @since 1.6
+	 */
+	public static final String HTTP_IDLETIMEOUT = "http.idleTimeout"; //$NON-NLS-1$
+
+	/**
+	 * name="http.http2" type="Boolean" (default: false -- if true, the http
+	 * connector also accepts HTTP/2 over cleartext (h2c); requires the Jetty
+	 * http2-server bundle)
+	 *
+	 * @since 1.6
+	 */
+	public static final String HTTP_HTTP2 = "http.http2"; //$NON-NLS-1$
+
+	/**
+	 * name="https.acceptors" type="Integer" (default: -1 -- chosen by Jetty based
+	 * on the number of processors)
+	 *
+	 * @since 1.6
+	 */
+	public static final String HTTPS_ACCEPTORS = "https.acceptors"; //$NON-NLS-1$
+
+	/**
+	 * name="https.selectors" type="Integer" (default: -1 -- chosen by Jetty based
+	 * on the number of processors)
+	 *
+	 * @since 1.6
+	 */
+	public static final String HTTPS_SELECTORS = "https.selectors"; //$NON-NLS-1$
+
+	/**
+	 * name="https.idleTimeout" type="Long" (default: 30000 -- milliseconds)
+	 *
+	 * @since 1.6
+	 */
+	public static final String HTTPS_IDLETIMEOUT = "https.idleTimeout"; //$NON-NLS-1$
+
+	/**
+	 * name="https.http2" type="Boolean" (default: false -- if true, the https
+	 * connector negotiates HTTP/2 (h2) with ALPN and falls back to HTTP/1.1;
+	 * requires the Jetty http2-server, alpn-server and alpn-java-server bundles)
+	 *
+	 * @since 1.6
+	 */
+	public static final String HTTPS_HTTP2 = "https.http2"; //$NON-NLS-1$
+
+	/**
+	 * name="compression.enabled" type="Boolean" (default: false -- if true,
+	 * responses are gzip compressed for clients that accept it)
+	 *
+	 * @since 1.6
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled"; //$NON-NLS-1$
+
+	/**
+	 * name="compression.mimeTypes" type="String" (default: all types that Jetty
+	 * does not exclude -- comma separated list of the mime types to compress)
+	 *
+	 * @since 1.6
+	 */
+	public static final String COMPRESSION_MIMETYPES = "compression.mimeTypes"; //$NON-NLS-1$
+
+	/**
+	 * name="compression.minSize" type="Integer" (default: 32 -- minimum response
+	 * size in bytes to compress)
+	 *
+	 * @since 1.6
+	 */
+	public static final String COMPRESSION_MINSIZE = "compression.minSize"; //$NON-NLS-1$
+
 	/**
 	 * @deprecated
 	 * @since 1.3
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2019 Cognos Incorporated, IBM Corporation and others.
+ * Copyright (c) 2005, 2026 Cognos Incorporated, IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -148,6 +148,14 @@ public class Activator implements BundleActivator {
 			defaultSettings.put(JettyConstants.HTTP_MAXTHREADS, Integer.valueOf(maxThreads));
 		}
 
+		// virtual threads
+		Boolean virtualThreads = Details.getBooleanProp(context, JettyConstants.HTTP_VIRTUALTHREADS, false);
+		defaultSettings.put(JettyConstants.HTTP_VIRTUALTHREADS, virtualThreads);
+
+		// HTTP connector
+		putConnectorSettings(context, defaultSettings, JettyConstants.HTTP_ACCEPTORS, JettyConstants.HTTP_SELECTORS,
+				JettyConstants.HTTP_IDLETIMEOUT, JettyConstants.HTTP_HTTP2);
+
 		if (httpsEnabled.booleanValue()) {
 			// HTTPS Port
 
@@ -203,6 +211,10 @@ public class Activator implements BundleActivator {
 			if (keystoretype != null) {
 				defaultSettings.put(JettyConstants.SSL_KEYSTORETYPE, keystoretype);
 			}
+
+			// HTTPS connector
+			putConnectorSettings(context, defaultSettings, JettyConstants.HTTPS_ACCEPTORS,
+					JettyConstants.HTTPS_SELECTORS, JettyConstants.HTTPS_IDLETIMEOUT, JettyConstants.HTTPS_HTTP2);
 		}
 
 		// Servlet Context Path
@@ -233,6 +245,20 @@ public class Activator implements BundleActivator {
 			}
 		}
 
+		// Compression
+		Boolean compression = Details.getBooleanProp(context, JettyConstants.COMPRESSION_ENABLED, false);
+		defaultSettings.put(JettyConstants.COMPRESSION_ENABLED, compression);
+
+		String compressionMimeTypes = Details.getStringProp(context, JettyConstants.COMPRESSION_MIMETYPES, null);
+		if (compressionMimeTypes != null) {
+			defaultSettings.put(JettyConstants.COMPRESSION_MIMETYPES, compressionMimeTypes);
+		}
+
+		int compressionMinSize = Details.getIntProp(context, JettyConstants.COMPRESSION_MINSIZE, -1);
+		if (compressionMinSize != -1) {
+			defaultSettings.put(JettyConstants.COMPRESSION_MINSIZE, Integer.valueOf(compressionMinSize));
+		}
+
 		// Other Info
 		String otherInfo = Details.getStringProp(context, JettyConstants.OTHER_INFO, null);
 		if (otherInfo != null) {
@@ -248,6 +274,27 @@ public class Activator implements BundleActivator {
 		return defaultSettings;
 	}
 
+	private void putConnectorSettings(BundleContext context, Dictionary<String, Object> defaultSettings,
+			String acceptorsKey, String selectorsKey, String idleTimeoutKey, String http2Key) {
+		int acceptors = Details.getIntProp(context, acceptorsKey, -1);
+		if (acceptors != -1) {
+			defaultSettings.put(acceptorsKey, Integer.valueOf(acceptors));
+		}
+
+		int selectors = Details.getIntProp(context, selectorsKey, -1);
+		if (selectors != -1) {
+			defaultSettings.put(selectorsKey, Integer.valueOf(selectors));
+		}
+
+		long idleTimeout = Details.getLongProp(context, idleTimeoutKey, -1);
+		if (idleTimeout != -1) {
+			defaultSettings.put(idleTimeoutKey, Long.valueOf(idleTimeout));
+		}
+
+		Boolean http2 = Details.getBooleanProp(context, http2Key, false);
+		defaultSettings.put(http2Key, http2);
+	}
+
 	public static synchronized void startServer(String pid, Dictionary<String, ?> settings) throws Exception {
 		if (staticServerManager == null) {
 			throw new IllegalStateException("Inactive"); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 Raymond Augé and others.
+ * Copyright (c) 2016, 2026 Raymond Augé and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -94,8 +94,8 @@ public class Details {
 
 	public static long getLong(@SuppressWarnings("rawtypes") Dictionary dictionary, String key, long dflt) {
 		Object value = dictionary.get(key);
-		if (value instanceof Long) {
-			return (Long) value;
+		if (value instanceof Long || value instanceof Integer) {
+			return ((Number) value).longValue();
 		} else if (value instanceof String) {
 			try {
 				return Long.parseLong((String) value);
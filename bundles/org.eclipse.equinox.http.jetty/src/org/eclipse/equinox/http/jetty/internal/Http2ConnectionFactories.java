@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.equinox.http.jetty.internal;
+
+import org.eclipse.jetty.alpn.java.server.JDK9ServerALPNProcessor;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+
+/**
+ * Creates the connection factories for HTTP/2. The Jetty HTTP/2 and ALPN
+ * packages are optional imports, so this class must only be loaded when
+ * HTTP/2 is enabled.
+ * <p>
+ * Jetty looks up the ALPN processors with the {@link java.util.ServiceLoader}
+ * of the context class loader. In OSGi that class loader does not see the
+ * <code>META-INF/services</code> of other bundles, so the lookup uses the class
+ * loader of the JDK ALPN processor of the Jetty alpn-java-server bundle. No
+ * service loader mediator is needed.
+ * </p>
+ */
+class Http2ConnectionFactories {
+
+	private Http2ConnectionFactories() {
+		// no instances
+	}
+
+	/**
+	 * Returns the connection factories for a connector that accepts HTTP/1.1 and
+	 * HTTP/2 over cleartext (h2c).
+	 */
+	static ConnectionFactory[] createCleartext(HttpConfiguration config) {
+		return new ConnectionFactory[] { new HttpConnectionFactory(config), new HTTP2CServerConnectionFactory(config) };
+	}
+
+	/**
+	 * Returns the connection factories for a connector that negotiates HTTP/2 (h2)
+	 * over TLS with ALPN and falls back to HTTP/1.1.
+	 */
+	static ConnectionFactory[] createSecure(SslContextFactory.Server sslContextFactory, HttpConfiguration config) {
+		HttpConnectionFactory http11 = new HttpConnectionFactory(config);
+		HTTP2ServerConnectionFactory http2 = new HTTP2ServerConnectionFactory(config);
+		ALPNServerConnectionFactory alpn = createALPN();
+		alpn.setDefaultProtocol(http11.getProtocol());
+		SslConnectionFactory ssl = new SslConnectionFactory(sslContextFactory, alpn.getProtocol());
+		return new ConnectionFactory[] { ssl, alpn, http2, http11 };
+	}
+
+	private static ALPNServerConnectionFactory createALPN() {
+		Thread thread = Thread.currentThread();
+		ClassLoader previous = thread.getContextClassLoader();
+		thread.setContextClassLoader(JDK9ServerALPNProcessor.class.getClassLoader());
+		try {
+			// throws IllegalStateException if no processor is found
+			return new ALPNServerConnectionFactory();
+		} finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+}
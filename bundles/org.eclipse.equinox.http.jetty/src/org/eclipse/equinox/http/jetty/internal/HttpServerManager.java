@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,14 +41,17 @@ import org.eclipse.jetty.ee8.nested.SessionHandler;
 import org.eclipse.jetty.ee8.servlet.ServletContextHandler;
 import org.eclipse.jetty.ee8.servlet.ServletHolder;
 import org.eclipse.jetty.http.UriCompliance;
+import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.session.DefaultSessionIdManager;
 import org.eclipse.jetty.session.HouseKeeper;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.osgi.framework.Constants;
@@ -92,8 +95,14 @@ public class HttpServerManager implements ManagedServiceFactory {
 	@Override
 	public synchronized void updated(String pid, Dictionary<String, ?> dictionary) throws ConfigurationException {
 		deleted(pid);
-		Server server = new Server(new QueuedThreadPool(Details.getInt(dictionary, JettyConstants.HTTP_MAXTHREADS, 200),
-				Details.getInt(dictionary, JettyConstants.HTTP_MINTHREADS, 8)));
+		QueuedThreadPool threadPool = new QueuedThreadPool(Details.getInt(dictionary, JettyConstants.HTTP_MAXTHREADS, 200),
+				Details.getInt(dictionary, JettyConstants.HTTP_MINTHREADS, 8));
+		if (Details.getBoolean(dictionary, JettyConstants.HTTP_VIRTUALTHREADS, false)) {
+			// null if the VM does not support virtual threads; the platform threads are
+			// used then
+			threadPool.setVirtualThreadsExecutor(VirtualThreads.getDefaultVirtualThreadsExecutor());
+		}
+		Server server = new Server(threadPool);
 
 		JettyCustomizer customizer = createJettyCustomizer(dictionary);
 
@@ -171,7 +180,13 @@ public class HttpServerManager implements ManagedServiceFactory {
 		ServletContextHandler httpContext = createHttpContext(dictionary);
 		holder.setInitParameter(JettyConstants.CONTEXT_PATH, httpContext.getContextPath());
 		httpContext.addServlet(holder, "/*"); //$NON-NLS-1$
-		server.setHandler(httpContext);
+		if (Details.getBoolean(dictionary, JettyConstants.COMPRESSION_ENABLED, false)) {
+			GzipHandler gzipHandler = createGzipHandler(dictionary);
+			gzipHandler.setHandler(httpContext);
+			server.setHandler(gzipHandler);
+		} else {
+			server.setHandler(httpContext);
+		}
 
 		if (null != customizer) {
 			httpContext = (ServletContextHandler) customizer.customizeContext(httpContext, dictionary);
@@ -198,7 +213,7 @@ public class HttpServerManager implements ManagedServiceFactory {
 	}
 
 	private ServerConnector createHttpsConnector(@SuppressWarnings("rawtypes") Dictionary dictionary, Server server,
-			HttpConfiguration http_config) {
+			HttpConfiguration http_config) throws ConfigurationException {
 		ServerConnector httpsConnector = null;
 		if (Details.getBoolean(dictionary, JettyConstants.HTTPS_ENABLED, false)) {
 			// SSL Context Factory for HTTPS and SPDY
@@ -222,17 +237,33 @@ public class HttpServerManager implements ManagedServiceFactory {
 			https_config.addCustomizer(new SecureRequestCustomizer());
 			https_config.setUriCompliance(UriCompliance.LEGACY);
 
+			ConnectionFactory[] connectionFactories;
+			if (Details.getBoolean(dictionary, JettyConstants.HTTPS_HTTP2, false)) {
+				try {
+					connectionFactories = Http2ConnectionFactories.createSecure(sslContextFactory, https_config);
+				} catch (LinkageError | IllegalStateException e) {
+					throw new ConfigurationException(JettyConstants.HTTPS_HTTP2,
+							"HTTP/2 requires the Jetty http2-server, alpn-server and alpn-java-server bundles", e); //$NON-NLS-1$
+				}
+			} else {
+				connectionFactories = new ConnectionFactory[] {
+						new SslConnectionFactory(sslContextFactory, "http/1.1"), //$NON-NLS-1$
+						new HttpConnectionFactory(https_config) };
+			}
+
 			// HTTPS connector
-			httpsConnector = new ServerConnector(server, new SslConnectionFactory(sslContextFactory, "http/1.1"), //$NON-NLS-1$
-					new HttpConnectionFactory(https_config));
+			httpsConnector = new ServerConnector(server, Details.getInt(dictionary, JettyConstants.HTTPS_ACCEPTORS, -1),
+					Details.getInt(dictionary, JettyConstants.HTTPS_SELECTORS, -1), connectionFactories);
 			httpsConnector.setPort(Details.getInt(dictionary, JettyConstants.HTTPS_PORT, 443));
 			httpsConnector.setHost(Details.getString(dictionary, JettyConstants.HTTPS_HOST, null));
+			httpsConnector.setIdleTimeout(
+					Details.getLong(dictionary, JettyConstants.HTTPS_IDLETIMEOUT, DEFAULT_IDLE_TIMEOUT));
 		}
 		return httpsConnector;
 	}
 
 	private ServerConnector createHttpConnector(@SuppressWarnings("rawtypes") Dictionary dictionary, Server server,
-			HttpConfiguration http_config) {
+			HttpConfiguration http_config) throws ConfigurationException {
 		ServerConnector httpConnector = null;
 		if (Details.getBoolean(dictionary, JettyConstants.HTTP_ENABLED, true)) {
 			// HTTP Configuration
@@ -241,11 +272,24 @@ public class HttpServerManager implements ManagedServiceFactory {
 				http_config.setSecurePort(Details.getInt(dictionary, JettyConstants.HTTPS_PORT, 443));
 			}
 			http_config.setUriCompliance(UriCompliance.LEGACY);
+			ConnectionFactory[] connectionFactories;
+			if (Details.getBoolean(dictionary, JettyConstants.HTTP_HTTP2, false)) {
+				try {
+					connectionFactories = Http2ConnectionFactories.createCleartext(http_config);
+				} catch (LinkageError e) {
+					throw new ConfigurationException(JettyConstants.HTTP_HTTP2,
+							"HTTP/2 requires the Jetty http2-server bundle", e); //$NON-NLS-1$
+				}
+			} else {
+				connectionFactories = new ConnectionFactory[] { new HttpConnectionFactory(http_config) };
+			}
 			// HTTP connector
-			httpConnector = new ServerConnector(server, new HttpConnectionFactory(http_config));
+			httpConnector = new ServerConnector(server, Details.getInt(dictionary, JettyConstants.HTTP_ACCEPTORS, -1),
+					Details.getInt(dictionary, JettyConstants.HTTP_SELECTORS, -1), connectionFactories);
 			httpConnector.setPort(Details.getInt(dictionary, JettyConstants.HTTP_PORT, 80));
 			httpConnector.setHost(Details.getString(dictionary, JettyConstants.HTTP_HOST, null));
-			httpConnector.setIdleTimeout(DEFAULT_IDLE_TIMEOUT);
+			httpConnector.setIdleTimeout(
+					Details.getLong(dictionary, JettyConstants.HTTP_IDLETIMEOUT, DEFAULT_IDLE_TIMEOUT));
 		}
 		return httpConnector;
 	}
@@ -257,6 +301,16 @@ public class HttpServerManager implements ManagedServiceFactory {
 		servers.clear();
 	}
 
+	private GzipHandler createGzipHandler(@SuppressWarnings("rawtypes") Dictionary dictionary) {
+		GzipHandler gzipHandler = new GzipHandler();
+		gzipHandler.setMinGzipSize(Details.getInt(dictionary, JettyConstants.COMPRESSION_MINSIZE, 32));
+		String mimeTypes = Details.getString(dictionary, JettyConstants.COMPRESSION_MIMETYPES, null);
+		if (mimeTypes != null) {
+			gzipHandler.setIncludedMimeTypes(mimeTypes.trim().split("\\s*,\\s*")); //$NON-NLS-1$
+		}
+		return gzipHandler;
+	}
+
 	private ServletContextHandler createHttpContext(@SuppressWarnings("rawtypes") Dictionary dictionary) {
 		ServletContextHandler httpContext = new ServletContextHandler();
 		// hack in the mime type for xsd until jetty fixes it (bug 393218)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.equinox.http.servlet.tests.Bug564747_Test;
 import org.eclipse.equinox.http.servlet.tests.Bug569406_Test;
 import org.eclipse.equinox.http.servlet.tests.ContextHelperCustomizerTests;
 import org.eclipse.equinox.http.servlet.tests.DispatchingTest;
+import org.eclipse.equinox.http.servlet.tests.JettyServerOptionsTest;
 import org.eclipse.equinox.http.servlet.tests.PreprocessorTestCase;
 import org.eclipse.equinox.http.servlet.tests.ServletTest;
 import org.eclipse.equinox.http.servlet.tests.TestHttpServiceAndErrorPage;
@@ -82,7 +83,7 @@ import org.junit.runners.Suite.SuiteClasses;
 		Test_table_140_6_HTTP_WHITEBOARD_RESOURCE_validation.class, TestHttpServiceAndErrorPage.class,
 		TestHttpServiceAndNamedServlet.class, TestUpload.class, TestUploadWithParameter.class,
 		ContextHelperCustomizerTests.class, Bug500783_Test.class, Bug562843_Test.class, Bug562843_2_Test.class,
-		Bug564747_Test.class, Bug562440_Test.class, Bug569406_Test.class })
+		Bug564747_Test.class, Bug562440_Test.class, Bug569406_Test.class, JettyServerOptionsTest.class })
 public class AllTests {
 	// see @SuiteClasses
 }
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.equinox.http.servlet.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.equinox.http.jetty.JettyConstants;
+import org.eclipse.equinox.http.servlet.testbase.BaseTest;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
+import org.osgi.service.cm.ConfigurationException;
+import org.osgi.service.http.whiteboard.HttpWhiteboardConstants;
+
+/*
+ * Tests the server options of the Jetty bundle that are set with framework
+ * properties.
+ */
+public class JettyServerOptionsTest extends BaseTest {
+
+	private static final String CONTENT;
+	static {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			content.append("line ").append(i).append('\n');
+		}
+		CONTENT = content.toString();
+	}
+
+	@Test
+	public void testCompression() throws Exception {
+		stopJetty();
+		setJettyProperty(JettyConstants.COMPRESSION_ENABLED, "true");
+		try {
+			startJetty();
+			registerTextServlet();
+
+			Map<String, List<String>> headers = Collections.singletonMap("Accept-Encoding",
+					Collections.singletonList("gzip"));
+			Map<String, List<String>> response = requestAdvisor.request("compression", headers);
+			assertEquals("200", response.get("responseCode").get(0));
+			assertEquals(Collections.singletonList("gzip"), response.get("Content-Encoding"));
+
+			// clients that do not accept gzip get the plain content
+			response = requestAdvisor.request("compression", null);
+			assertEquals("200", response.get("responseCode").get(0));
+			assertNull(response.get("Content-Encoding"));
+			assertEquals(CONTENT, response.get("responseBody").get(0));
+		} finally {
+			stopJetty();
+			setJettyProperty(JettyConstants.COMPRESSION_ENABLED, "false");
+		}
+	}
+
+	@Test
+	public void testHttp2Unavailable() throws Exception {
+		Bundle jetty = getJettyBundle();
+		assumeFalse("Jetty http2-server is available", isImported(jetty, "org.eclipse.jetty.http2.server"));
+		stopJetty();
+		setJettyProperty(JettyConstants.HTTP_HTTP2, "true");
+		try {
+			BundleException e = assertThrows(BundleException.class, () -> startJetty());
+			assertTrue("Wrong cause: " + e.getCause(), e.getCause() instanceof ConfigurationException);
+			assertEquals(JettyConstants.HTTP_HTTP2, ((ConfigurationException) e.getCause()).getProperty());
+			assertEquals(Bundle.RESOLVED, jetty.getState());
+		} finally {
+			setJettyProperty(JettyConstants.HTTP_HTTP2, "false");
+		}
+	}
+
+	private void registerTextServlet() {
+		Servlet servlet = new HttpServlet() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+				resp.setContentType("text/plain");
+				PrintWriter writer = resp.getWriter();
+				writer.write(CONTENT);
+			}
+		};
+		Dictionary<String, Object> props = new Hashtable<>();
+		props.put(HttpWhiteboardConstants.HTTP_WHITEBOARD_SERVLET_PATTERN, "/compression");
+		registrations.add(getBundleContext().registerService(Servlet.class, servlet, props));
+	}
+
+	private Bundle getJettyBundle() {
+		for (Bundle bundle : getBundleContext().getBundles()) {
+			if (EQUINOX_JETTY_BUNDLE.equals(bundle.getSymbolicName())) {
+				return bundle;
+			}
+		}
+		throw new IllegalStateException("Failed to find bundle: " + EQUINOX_JETTY_BUNDLE);
+	}
+
+	private static boolean isImported(Bundle bundle, String packageName) {
+		BundleWiring wiring = bundle.adapt(BundleWiring.class);
+		for (BundleWire wire : wiring.getRequiredWires(PackageNamespace.PACKAGE_NAMESPACE)) {
+			if (packageName.equals(wire.getCapability().getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE))) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Eclipse Foundation, Inc. and others.
+ * Copyright (c) 2023, 2026 Eclipse Foundation, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -66,6 +67,9 @@ public class LauncherTests {
 	public static final Integer EXIT_RESTART = 23;
 	public static final Integer EXIT_RELAUNCH = 24;
 
+	private static final String SEARCH_CACHE_FILE_NAME = ".launcherSearchCache";
+	private static final String SEARCH_CACHE_HIT = "Using remembered search result";
+
 	@TempDir
 	static Path tempDir;
 	private static Path eclipseInstallationMockLocation;
@@ -696,6 +700,61 @@ public class LauncherTests {
 		}
 	}
 
+	@Test
+	void test_searchResultIsRememberedInConfiguration(@TempDir Path installDir)
+			throws IOException, InterruptedException {
+		Path plugins = Files.createDirectories(installDir.resolve("plugins"));
+		createEmptyJar(plugins.resolve("org.eclipse.osgi_3.20.0.v1.jar"));
+		setModifiedInThePast(plugins);
+
+		String output1 = runLauncherMain(installDir);
+		assertFalse(output1.contains(SEARCH_CACHE_HIT), output1);
+		assertEquals("org.eclipse.osgi_3.20.0.v1.jar", getLocatedFramework(output1));
+		assertTrue(Files.isRegularFile(installDir.resolve("configuration").resolve(SEARCH_CACHE_FILE_NAME)));
+
+		// the plugins directory is not searched again
+		String output2 = runLauncherMain(installDir);
+		assertTrue(output2.contains(SEARCH_CACHE_HIT), output2);
+		assertEquals("org.eclipse.osgi_3.20.0.v1.jar", getLocatedFramework(output2));
+	}
+
+	@Test
+	void test_rememberedSearchResultIgnoredForNewerVersion(@TempDir Path installDir)
+			throws IOException, InterruptedException {
+		Path plugins = Files.createDirectories(installDir.resolve("plugins"));
+		createEmptyJar(plugins.resolve("org.eclipse.osgi_3.20.0.v1.jar"));
+		setModifiedInThePast(plugins);
+		assertEquals("org.eclipse.osgi_3.20.0.v1.jar", getLocatedFramework(runLauncherMain(installDir)));
+
+		// dropping in a newer version changes the timestamp of the plugins directory
+		createEmptyJar(plugins.resolve("org.eclipse.osgi_3.21.0.v1.jar"));
+		String output = runLauncherMain(installDir);
+		assertFalse(output.contains(SEARCH_CACHE_HIT), output);
+		assertEquals("org.eclipse.osgi_3.21.0.v1.jar", getLocatedFramework(output));
+	}
+
+	@Test
+	void test_corruptOrMissingSearchCache(@TempDir Path installDir) throws IOException, InterruptedException {
+		Path plugins = Files.createDirectories(installDir.resolve("plugins"));
+		createEmptyJar(plugins.resolve("org.eclipse.osgi_3.20.0.v1.jar"));
+		setModifiedInThePast(plugins);
+		runLauncherMain(installDir);
+		Path cacheFile = installDir.resolve("configuration").resolve(SEARCH_CACHE_FILE_NAME);
+
+		// an invalid unicode escape makes loading the properties fail
+		Files.writeString(cacheFile, "org.eclipse.osgi=\\uZZZZ\n");
+		String output1 = runLauncherMain(installDir);
+		assertFalse(output1.contains(SEARCH_CACHE_HIT), output1);
+		assertEquals("org.eclipse.osgi_3.20.0.v1.jar", getLocatedFramework(output1));
+		assertTrue(Files.readString(cacheFile).contains("org.eclipse.osgi_3.20.0.v1.jar"));
+
+		Files.delete(cacheFile);
+		String output2 = runLauncherMain(installDir);
+		assertFalse(output2.contains(SEARCH_CACHE_HIT), output2);
+		assertEquals("org.eclipse.osgi_3.20.0.v1.jar", getLocatedFramework(output2));
+		assertTrue(Files.isRegularFile(cacheFile));
+	}
+
 	private void analyzeLaunchedTestApp(Socket socket, List<String> appArgs, String restartArgs, int appExitCode)
 			throws IOException {
 		BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
@@ -741,4 +800,41 @@ public class LauncherTests {
 		Files.writeString(eclipseInstallationMockLocation.resolve(ECLIPSE_INI_FILE_NAME), content);
 	}
 
+	/*
+	 * Runs the launcher's Main in debug mode on the given installation and returns
+	 * its output. The installation has no real framework, so launching it fails
+	 * after the framework has been located.
+	 */
+	private static String runLauncherMain(Path installDir) throws IOException, InterruptedException {
+		Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+		ProcessBuilder pb = new ProcessBuilder(java.toString(), "-cp",
+				eclipseInstallationMockLocation.resolve("test.launcher.jar").toString(),
+				"org.eclipse.equinox.launcher.Main", "-debug", "-install", installDir.toString(), "-configuration",
+				installDir.resolve("configuration").toString());
+		pb.redirectErrorStream(true);
+		Process process = pb.start();
+		String output = new String(process.getInputStream().readAllBytes());
+		assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+		return output;
+	}
+
+	private static String getLocatedFramework(String output) {
+		List<String> lines = output.lines().map(String::trim).toList();
+		int index = lines.indexOf("Framework located:");
+		assertTrue(index >= 0 && index + 1 < lines.size(), output);
+		String location = lines.get(index + 1);
+		return location.substring(location.lastIndexOf('/') + 1);
+	}
+
+	private static void createEmptyJar(Path path) throws IOException {
+		try (var out = Files.newOutputStream(path); JarOutputStream jar = new JarOutputStream(out, new Manifest())) {
+			// only the name is searched for
+		}
+	}
+
+	private static void setModifiedInThePast(Path directory) throws IOException {
+		// directories modified in the last seconds are not remembered
+		Files.setLastModifiedTime(directory, FileTime.fromMillis(System.currentTimeMillis() - 60000));
+	}
+
 }
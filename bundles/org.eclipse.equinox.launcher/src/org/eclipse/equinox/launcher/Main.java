@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -144,6 +144,12 @@ public class Main {
 	private List<String> commands;
 	private List<String> extensionPaths = null;
 
+	/**
+	 * The remembered results of searching directories for bundles, see {@link #searchFor(String, String)}.
+	 */
+	private Properties searchCache = null;
+	private boolean searchCacheModified = false;
+
 	private JNIBridge bridge = null;
 
 	// splash handling
@@ -307,6 +313,12 @@ public class Main {
 	private static final String KEY_CONFIGINI_TIMESTAMP = "configIniTimestamp"; //$NON-NLS-1$
 	private static final String PROP_IGNORE_USER_CONFIGURATION = "eclipse.ignoreUserConfiguration"; //$NON-NLS-1$
 
+	//for remembering the results of directory searches across launches
+	private static final String SEARCH_CACHE_FILE = ".launcherSearchCache"; //$NON-NLS-1$
+	private static final String PROP_SEARCH_CACHE = "eclipse.launcher.searchCache"; //$NON-NLS-1$
+	// directories modified this recently may be modified again without changing their timestamp
+	private static final long SEARCH_CACHE_TIMESTAMP_RESOLUTION = 2000;
+
 	private static final Set<PosixFilePermission> PERMISSION_755 = PosixFilePermissions.fromString("rwxr-xr-x"); //$NON-NLS-1$
 
 	/**
@@ -559,6 +571,7 @@ public class Main {
 		// splash handling is done here, because the default case needs to know
 		// the location of the boot plugin we are going to use
 		handleSplash();
+		saveSearchCache();
 
 		invokeFramework(passThruArgs, bootPathURLs);
 	}
@@ -974,6 +987,14 @@ public class Main {
 	 */
 	private String searchFor(final String target, String start) {
 		File root = resolveFile(new File(start));
+		// the result only depends on the names of the entries of the directory;
+		// adding, removing or renaming an entry changes the timestamp of the directory
+		String cacheKey = target + '|' + root.getAbsolutePath();
+		long rootTimestamp = root.lastModified();
+		String cached = getCachedSearchResult(cacheKey, rootTimestamp);
+		if (cached != null) {
+			return cached;
+		}
 
 		// Note that File.list only gives you file names not the complete path from start
 		String[] candidates = root.list();
@@ -987,10 +1008,89 @@ public class Main {
 				matches.add(candidate);
 			}
 		}
-		return findMax(target, matches).map(name -> {
+		String result = findMax(target, matches).map(name -> {
 			File candidate = new File(root, name);
 			return candidate.getAbsolutePath().replace(File.separatorChar, '/') + (candidate.isDirectory() ? "/" : ""); //$NON-NLS-1$//$NON-NLS-2$
 		}).orElse(null);
+		if (result != null) {
+			putCachedSearchResult(cacheKey, rootTimestamp, result);
+		}
+		return result;
+	}
+
+	private String getCachedSearchResult(String cacheKey, long rootTimestamp) {
+		Properties cache = getSearchCache();
+		if (cache == null || rootTimestamp == 0) {
+			return null;
+		}
+		String value = cache.getProperty(cacheKey);
+		int separator = value == null ? -1 : value.indexOf(',');
+		if (separator < 0) {
+			return null;
+		}
+		try {
+			if (Long.parseLong(value.substring(0, separator)) != rootTimestamp) {
+				return null;
+			}
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		String result = value.substring(separator + 1);
+		if (!new File(result).exists()) {
+			return null;
+		}
+		if (debug) {
+			System.out.println("Using remembered search result: " + result); //$NON-NLS-1$
+		}
+		return result;
+	}
+
+	private void putCachedSearchResult(String cacheKey, long rootTimestamp, String result) {
+		Properties cache = getSearchCache();
+		if (cache == null || rootTimestamp == 0 || System.currentTimeMillis() - rootTimestamp < SEARCH_CACHE_TIMESTAMP_RESOLUTION) {
+			return;
+		}
+		cache.setProperty(cacheKey, rootTimestamp + "," + result); //$NON-NLS-1$
+		searchCacheModified = true;
+	}
+
+	/*
+	 * Returns the remembered search results from the configuration area, or null if
+	 * search results are not remembered.
+	 */
+	private Properties getSearchCache() {
+		if (searchCache != null) {
+			return searchCache;
+		}
+		// only use the cache once the configuration location is known
+		if (configurationLocation == null || !"file".equalsIgnoreCase(configurationLocation.getProtocol()) //$NON-NLS-1$
+				|| "false".equalsIgnoreCase(System.getProperty(PROP_SEARCH_CACHE))) { //$NON-NLS-1$
+			return null;
+		}
+		try {
+			searchCache = load(configurationLocation, SEARCH_CACHE_FILE);
+		} catch (IOException | IllegalArgumentException e) {
+			searchCache = new Properties();
+		}
+		return searchCache;
+	}
+
+	private void saveSearchCache() {
+		if (!searchCacheModified || "true".equalsIgnoreCase(System.getProperty(PROP_CONFIG_AREA + READ_ONLY_AREA_SUFFIX))) { //$NON-NLS-1$
+			return;
+		}
+		searchCacheModified = false;
+		File cacheFile = new File(configurationLocation.getFile(), SEARCH_CACHE_FILE);
+		try {
+			Files.createDirectories(cacheFile.toPath().getParent());
+			try (OutputStream out = Files.newOutputStream(cacheFile.toPath())) {
+				searchCache.store(out, null);
+			}
+		} catch (IOException e) {
+			if (debug) {
+				System.out.println("Could not remember search results in: " + cacheFile); //$NON-NLS-1$
+			}
+		}
 	}
 
 	private boolean isMatchingCandidate(String target, String candidate, File root) {
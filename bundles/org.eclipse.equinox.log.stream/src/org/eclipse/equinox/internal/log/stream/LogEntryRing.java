@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.internal.log.stream;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.osgi.service.log.LogEntry;
+
+/*
+ * A fixed size ring of the most recent log entries that is shared by all log
+ * streams. Every entry is stored once; each subscription reads the ring with its
+ * own cursor, which is the sequence number of the next entry to read. Entries are
+ * published one at a time. Once the ring is full, publishing an entry overwrites
+ * the oldest one unless a subscription with the block policy has not read it yet,
+ * in which case the publisher waits for that subscription up to the block
+ * timeout.
+ */
+public class LogEntryRing {
+	private final AtomicReferenceArray<LogEntry> entries;
+	private final int mask;
+	private final long blockTimeout;
+	private final ReentrantLock publishLock = new ReentrantLock();
+	private final Condition advanced = publishLock.newCondition();
+	private final AtomicInteger waitingPublishers = new AtomicInteger();
+	// the sequence number of the next entry to publish
+	private volatile long head;
+	// the sequence number of the oldest entry that is not being overwritten
+	private volatile long tail;
+
+	public LogEntryRing(int capacity, long blockTimeout) {
+		int size = Integer.highestOneBit(Math.min(Math.max(2, capacity), 1 << 30));
+		if (size < capacity && size < 1 << 30) {
+			size <<= 1;
+		}
+		this.entries = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+		this.blockTimeout = blockTimeout;
+	}
+
+	public int capacity() {
+		return mask + 1;
+	}
+
+	public long head() {
+		return head;
+	}
+
+	/*
+	 * Returns the oldest sequence number still available in the ring.
+	 */
+	public long tail() {
+		return tail;
+	}
+
+	/*
+	 * Publishes an entry. The blockingCursor supplies the lowest cursor of all
+	 * subscriptions with the block policy, or Long.MAX_VALUE if there are none. It
+	 * may be null if no subscription can have the block policy.
+	 */
+	public void publish(LogEntry entry, LongSupplier blockingCursor) {
+		publishLock.lock();
+		try {
+			awaitSpace(blockingCursor);
+			// waiting releases the lock, so the head is only read once the wait is over
+			long sequence = head;
+			if (sequence >= capacity()) {
+				// readers that see the new entry in the slot also see the new tail
+				tail = sequence - capacity() + 1;
+			}
+			entries.set((int) (sequence & mask), entry);
+			head = sequence + 1;
+		} finally {
+			publishLock.unlock();
+		}
+	}
+
+	/*
+	 * Waits until the slot of the next entry can be overwritten or the block
+	 * timeout has elapsed. Must be called with the publish lock held.
+	 */
+	private void awaitSpace(LongSupplier blockingCursor) {
+		if (blockingCursor == null) {
+			return;
+		}
+		long remaining = TimeUnit.MILLISECONDS.toNanos(blockTimeout);
+		// announce the wait before checking the cursors so that no advance is missed
+		waitingPublishers.incrementAndGet();
+		try {
+			while (remaining > 0) {
+				long overwritten = head - capacity();
+				if (overwritten < 0 || blockingCursor.getAsLong() > overwritten) {
+					return;
+				}
+				remaining = advanced.awaitNanos(remaining);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			waitingPublishers.decrementAndGet();
+		}
+	}
+
+	/*
+	 * Returns the entry with the given sequence number, or null if it has been
+	 * overwritten already.
+	 */
+	public LogEntry get(long sequence) {
+		LogEntry entry = entries.get((int) (sequence & mask));
+		// the slot may have been reused while reading it
+		return sequence < tail ? null : entry;
+	}
+
+	/*
+	 * Called by subscriptions with the block policy after they advanced their
+	 * cursor.
+	 */
+	public void advanced() {
+		if (waitingPublishers.get() > 0) {
+			publishLock.lock();
+			try {
+				advanced.signalAll();
+			} finally {
+				publishLock.unlock();
+			}
+		}
+	}
+}
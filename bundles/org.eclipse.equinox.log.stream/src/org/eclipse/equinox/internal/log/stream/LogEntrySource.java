@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 IBM Corporation and others.
+ * Copyright (c) 2017, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,15 +14,16 @@
 package org.eclipse.equinox.internal.log.stream;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
 import org.osgi.service.log.LogEntry;
 import org.osgi.service.log.LogReaderService;
-import org.osgi.util.pushstream.PushEvent;
 import org.osgi.util.pushstream.PushEventConsumer;
 import org.osgi.util.pushstream.PushEventSource;
 import org.osgi.util.pushstream.PushStream;
@@ -30,13 +31,19 @@ import org.osgi.util.tracker.ServiceTracker;
 
 public class LogEntrySource implements PushEventSource<LogEntry> {
 	private final Set<PushEventConsumer<? super LogEntry>> consumers = new CopyOnWriteArraySet<>();
+	private final Set<LogSubscription> subscriptions = new CopyOnWriteArraySet<>();
 	private final ServiceTracker<LogReaderService, AtomicReference<LogReaderService>> withHistory;
+	private final LogEntryRing ring;
+	private final LogSubscription.Policy policy;
+	private final ScheduledExecutorService executor;
 	private volatile PushStream<LogEntry> logStream;
-	private final ReentrantLock historyLock = new ReentrantLock();
 
-	public LogEntrySource(ServiceTracker<LogReaderService, AtomicReference<LogReaderService>> withHistory) {
+	public LogEntrySource(ServiceTracker<LogReaderService, AtomicReference<LogReaderService>> withHistory,
+			LogEntryRing ring, LogSubscription.Policy policy, ScheduledExecutorService executor) {
 		this.withHistory = withHistory;
-
+		this.ring = ring;
+		this.policy = policy;
+		this.executor = executor;
 	}
 
 	public PushStream<LogEntry> getLogStream() {
@@ -59,89 +66,61 @@ public class LogEntrySource implements PushEventSource<LogEntry> {
 
 	@Override
 	public Closeable open(PushEventConsumer<? super LogEntry> aec) throws Exception {
-
-		LinkedBlockingDeque<LogEntry> historyList = new LinkedBlockingDeque<>();
-
 		if (!consumers.add(aec)) {
 			throw new IllegalStateException("Cannot add the same consumer multiple times"); //$NON-NLS-1$
 		}
 
 		/*
-		 * when history is not equal to null then we acquire a lock to provide the full
-		 * history to the consumer first before any other new entries
+		 * The subscription starts reading the ring at the current head before the
+		 * history is taken, so that no entry logged in between is missed. The full
+		 * history is delivered to the consumer first before any other new entries;
+		 * entries logged in between are in both, the subscription skips them in the
+		 * ring by their sequence number.
 		 */
+		long head = ring.head();
+		List<LogEntry> historyList = Collections.emptyList();
 		if (withHistory != null) {
-			historyLock.lock();
-			try {
-				AtomicReference<LogReaderService> readerRef = withHistory.getService();
-				LogReaderService reader = readerRef.get();
-				if (reader != null) {
-					// Enumeration has the most recent entry first
-					Enumeration<LogEntry> e = reader.getLog();
-					if (e != null) {
-						while (e.hasMoreElements()) {
-							historyList.add(e.nextElement());
-						}
+			AtomicReference<LogReaderService> readerRef = withHistory.getService();
+			LogReaderService reader = readerRef == null ? null : readerRef.get();
+			if (reader != null) {
+				// Enumeration has the most recent entry first
+				Enumeration<LogEntry> e = reader.getLog();
+				if (e != null) {
+					historyList = new ArrayList<>();
+					while (e.hasMoreElements()) {
+						historyList.add(e.nextElement());
 					}
 					// Logging the history in the order of their appearance
-					if (historyList != null) {
-						while (!historyList.isEmpty()) {
-							LogEntry logEntry = historyList.removeLast();
-							logged(logEntry);
-						}
-					}
+					Collections.reverse(historyList);
 				}
-			} finally {
-				historyLock.unlock();
 			}
 		}
 
-		Closeable result = () -> {
-			if (consumers.remove(aec)) {
-				try {
-					aec.accept(PushEvent.close());
-				} catch (Exception e) {
-					// ignore here for log stream
-				}
-			}
-		};
+		LogSubscription[] subscription = new LogSubscription[1];
+		subscription[0] = new LogSubscription(ring, head, policy, executor, aec, historyList, () -> {
+			consumers.remove(aec);
+			subscriptions.remove(subscription[0]);
+		});
+		subscriptions.add(subscription[0]);
+		subscription[0].signal();
 
-		return result;
+		return subscription[0]::close;
 	}
 
-	public void logged(LogEntry entry) {
-		if (withHistory != null) {
-			historyLock.lock();
+	/*
+	 * Called after a new entry was published to the ring.
+	 */
+	public void signal() {
+		for (LogSubscription subscription : subscriptions) {
+			subscription.signal();
 		}
+	}
 
-		/*
-		 * consumer accepts the incoming log entries and returns a back pressure. A
-		 * return of zero indicates that event delivery may continue immediately. A
-		 * positive return value indicates that the source should delay sending any
-		 * further events for the requested number of milliseconds. A return value of -1
-		 * indicates that no further events should be sent and that the stream can be
-		 * closed.
-		 *
-		 * @see org.osgi.util.pushstream.PushEventConsumer<T>
-		 */
-		try {
-			for (PushEventConsumer<? super LogEntry> consumer : consumers) {
-				try {
-					long status = consumer.accept(PushEvent.data(entry));
-
-					if (status < 0) {
-						consumer.accept(PushEvent.close());
-					}
-
-				} catch (Exception e) {
-					// we ignore exceptions here for log stream
-				}
-			}
-		} finally {
-			if (withHistory != null) {
-				historyLock.unlock();
-			}
-
+	long getBlockingCursor() {
+		long result = Long.MAX_VALUE;
+		for (LogSubscription subscription : subscriptions) {
+			result = Math.min(result, subscription.getBlockingCursor());
 		}
+		return result;
 	}
 }
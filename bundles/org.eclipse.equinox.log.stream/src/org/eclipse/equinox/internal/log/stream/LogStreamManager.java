@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 IBM Corporation and others.
+ * Copyright (c) 2017, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,24 @@ public class LogStreamManager implements BundleActivator,
 	private BundleContext context;
 	private final ReentrantLock eventProducerLock = new ReentrantLock();
 
+	/*
+	 * The number of most recent log entries kept for the log streams. A stream that
+	 * falls further behind is handled according to the policy.
+	 */
+	static final String PROP_CAPACITY = "equinox.log.stream.capacity"; //$NON-NLS-1$
+	/*
+	 * The policy for streams that fall behind: discardOldest (default), block or
+	 * sample. See LogSubscription.Policy.
+	 */
+	static final String PROP_POLICY = "equinox.log.stream.policy"; //$NON-NLS-1$
+	/*
+	 * The maximum number of milliseconds that logging waits for a stream with the
+	 * block policy.
+	 */
+	static final String PROP_BLOCK_TIMEOUT = "equinox.log.stream.block.timeout"; //$NON-NLS-1$
+	private static final int DEFAULT_CAPACITY = 1024;
+	private static final long DEFAULT_BLOCK_TIMEOUT = 1000;
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -50,10 +68,28 @@ public class LogStreamManager implements BundleActivator,
 		this.context = bc;
 		logReaderService = new ServiceTracker<>(context, LogReaderService.class, this);
 		logReaderService.open();
-		logStreamProviderFactory = new LogStreamProviderFactory(logReaderService);
+		logStreamProviderFactory = new LogStreamProviderFactory(logReaderService,
+				(int) Math.min(Integer.MAX_VALUE, getLong(bc, PROP_CAPACITY, DEFAULT_CAPACITY)),
+				LogSubscription.Policy.parse(bc.getProperty(PROP_POLICY)),
+				getLong(bc, PROP_BLOCK_TIMEOUT, DEFAULT_BLOCK_TIMEOUT));
 		logStreamServiceRegistration = context.registerService(LogStreamProvider.class, logStreamProviderFactory, null);
 	}
 
+	private static long getLong(BundleContext bc, String key, long defaultValue) {
+		String value = bc.getProperty(key);
+		if (value != null) {
+			try {
+				long result = Long.parseLong(value.trim());
+				if (result > 0) {
+					return result;
+				}
+			} catch (NumberFormatException e) {
+				// use the default
+			}
+		}
+		return defaultValue;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 IBM Corporation and others.
+ * Copyright (c) 2017, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,8 @@ package org.eclipse.equinox.internal.log.stream;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.osgi.framework.Bundle;
@@ -34,25 +34,33 @@ public class LogStreamProviderFactory implements ServiceFactory<LogStreamProvide
 	ServiceTracker<LogReaderService, AtomicReference<LogReaderService>> logReaderService;
 
 	private final int cores = Runtime.getRuntime().availableProcessors();
-	private final ExecutorService executor = Executors.newFixedThreadPool(cores, (Runnable r) -> {
+	private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(cores, (Runnable r) -> {
 		Thread t = new Thread(r, "LogStream thread"); //$NON-NLS-1$
 		t.setDaemon(true);
 		return t;
 	});
+	private final LogEntryRing ring;
+	private final LogSubscription.Policy policy;
 
 	public LogStreamProviderFactory(
-			ServiceTracker<LogReaderService, AtomicReference<LogReaderService>> logReaderService) {
+			ServiceTracker<LogReaderService, AtomicReference<LogReaderService>> logReaderService, int capacity,
+			LogSubscription.Policy policy, long blockTimeout) {
 		this.logReaderService = logReaderService;
+		this.ring = new LogEntryRing(capacity, blockTimeout);
+		this.policy = policy;
 	}
 
 	/*
-	 * Reader of providers map 1) for each provider - post entry to provider
+	 * 1) publish the entry to the ring shared by all streams 2) reader of providers
+	 * map - signal each provider
 	 */
 	public void postLogEntry(LogEntry entry) {
+		// only streams with the block policy can hold up publishing
+		ring.publish(entry, policy == LogSubscription.Policy.BLOCK ? this::getBlockingCursor : null);
 		eventProducerLock.readLock().lock();
 		try {
 			for (LogStreamProviderImpl provider : providers.values()) {
-				provider.logged(entry);
+				provider.signal();
 			}
 		} finally {
 			eventProducerLock.readLock().unlock();
@@ -60,6 +68,19 @@ public class LogStreamProviderFactory implements ServiceFactory<LogStreamProvide
 
 	}
 
+	private long getBlockingCursor() {
+		long result = Long.MAX_VALUE;
+		eventProducerLock.readLock().lock();
+		try {
+			for (LogStreamProviderImpl provider : providers.values()) {
+				result = Math.min(result, provider.getBlockingCursor());
+			}
+		} finally {
+			eventProducerLock.readLock().unlock();
+		}
+		return result;
+	}
+
 	/*
 	 * Writer to providers map 1) create new LogStreamProviderImpl 2) put new
 	 * instance in map 3) return new instance (non-Javadoc)
@@ -70,7 +91,8 @@ public class LogStreamProviderFactory implements ServiceFactory<LogStreamProvide
 
 	@Override
 	public LogStreamProviderImpl getService(Bundle bundle, ServiceRegistration<LogStreamProvider> registration) {
-		LogStreamProviderImpl logStreamProviderImpl = new LogStreamProviderImpl(logReaderService, executor);
+		LogStreamProviderImpl logStreamProviderImpl = new LogStreamProviderImpl(logReaderService, ring, policy,
+				executor);
 		eventProducerLock.writeLock().lock();
 		try {
 			providers.put(bundle, logStreamProviderImpl);
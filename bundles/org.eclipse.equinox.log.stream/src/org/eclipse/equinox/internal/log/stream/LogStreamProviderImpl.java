@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017 IBM Corporation and others.
+ * Copyright (c) 2017, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,7 @@ import java.util.Collections;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.osgi.service.log.LogEntry;
@@ -28,7 +27,6 @@ import org.osgi.util.pushstream.PushEvent;
 import org.osgi.util.pushstream.PushStream;
 import org.osgi.util.pushstream.PushStreamBuilder;
 import org.osgi.util.pushstream.PushStreamProvider;
-import org.osgi.util.pushstream.QueuePolicyOption;
 import org.osgi.util.tracker.ServiceTracker;
 
 public class LogStreamProviderImpl implements LogStreamProvider {
@@ -38,19 +36,23 @@ public class LogStreamProviderImpl implements LogStreamProvider {
 	private final Set<LogEntrySource> logEntrySources = Collections.newSetFromMap(weakMap);
 
 	private final ReentrantReadWriteLock historyLock = new ReentrantReadWriteLock();
-	private final ExecutorService executor;
+	private final LogEntryRing ring;
+	private final LogSubscription.Policy policy;
+	private final ScheduledExecutorService executor;
 
 	public LogStreamProviderImpl(ServiceTracker<LogReaderService, AtomicReference<LogReaderService>> logReaderService,
-			ExecutorService executor) {
+			LogEntryRing ring, LogSubscription.Policy policy, ScheduledExecutorService executor) {
 		this.logReaderService = logReaderService;
+		this.ring = ring;
+		this.policy = policy;
 		this.executor = executor;
 	}
 
 	/*
 	 * Create a PushStream of {@link LogEntry} objects. The returned PushStream is
-	 * Buffered with a buffer large enough to contain the history, if included. Have
-	 * the QueuePolicyOption.DISCARD_OLDEST queue policy option. Use a shared
-	 * executor. Have a parallelism of one. (non-Javadoc)
+	 * unbuffered; the entries are read from the ring shared by all streams and
+	 * delivered by a thread of the shared executor, one at a time, according to
+	 * the configured policy. (non-Javadoc)
 	 *
 	 * @see
 	 * org.osgi.service.log.stream.LogStreamProvider#createStream(org.osgi.service.
@@ -71,13 +73,11 @@ public class LogStreamProviderImpl implements LogStreamProvider {
 		// logEntrySources.
 		historyLock.writeLock().lock();
 		try {
-			LogEntrySource logEntrySource = new LogEntrySource(withHistory);
+			LogEntrySource logEntrySource = new LogEntrySource(withHistory, ring, policy, executor);
 			PushStreamBuilder<LogEntry, BlockingQueue<PushEvent<? extends LogEntry>>> streamBuilder = pushStreamProvider
 					.buildStream(logEntrySource);
-			// creating a buffered push stream
-			LinkedBlockingQueue<PushEvent<? extends LogEntry>> historyQueue = new LinkedBlockingQueue<>();
-			PushStream<LogEntry> logStream = streamBuilder.withBuffer(historyQueue).withExecutor(executor)
-					.withParallelism(1).withQueuePolicy(QueuePolicyOption.DISCARD_OLDEST).build();
+			// the subscriptions of the source already decouple the consumer from logging
+			PushStream<LogEntry> logStream = streamBuilder.unbuffered().build();
 			logEntrySource.setLogStream(logStream);
 			// Adding to sources makes the source start listening for new entries
 			logEntrySources.add(logEntrySource);
@@ -88,20 +88,33 @@ public class LogStreamProviderImpl implements LogStreamProvider {
 	}
 
 	/*
-	 * Send the incoming log entries to the logEntrySource.logged(entry) for the
-	 * consumer to accept it.
+	 * Signal the logEntrySources that a new entry was published to the ring for
+	 * the consumers to accept it.
 	 */
-	public void logged(LogEntry entry) {
+	public void signal() {
 		historyLock.readLock().lock();
 		try {
 			for (LogEntrySource logEntrySource : logEntrySources) {
-				logEntrySource.logged(entry);
+				logEntrySource.signal();
 			}
 		} finally {
 			historyLock.readLock().unlock();
 		}
 	}
 
+	long getBlockingCursor() {
+		long result = Long.MAX_VALUE;
+		historyLock.readLock().lock();
+		try {
+			for (LogEntrySource logEntrySource : logEntrySources) {
+				result = Math.min(result, logEntrySource.getBlockingCursor());
+			}
+		} finally {
+			historyLock.readLock().unlock();
+		}
+		return result;
+	}
+
 	/*
 	 * Closing the stream for each source.
 	 */
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.internal.log.stream;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.osgi.service.log.LogEntry;
+import org.osgi.util.pushstream.PushEvent;
+import org.osgi.util.pushstream.PushEventConsumer;
+
+/*
+ * A consumer of a log entry source that reads the shared LogEntryRing with its
+ * own cursor. Entries are delivered by at most one executor thread at a time, so
+ * a slow consumer only delays itself; the consumer's back pressure is honored by
+ * delaying the next delivery. The policy decides what happens once the consumer
+ * falls behind the ring.
+ */
+public class LogSubscription {
+
+	public enum Policy {
+		/*
+		 * Entries that are overwritten before the consumer reads them are dropped.
+		 */
+		DISCARD_OLDEST,
+		/*
+		 * Logging waits up to the block timeout for the consumer before entries it
+		 * has not read yet are overwritten.
+		 */
+		BLOCK,
+		/*
+		 * Once the consumer is more than half the ring behind, only a sample of the
+		 * entries is delivered until it caught up.
+		 */
+		SAMPLE;
+
+		static Policy parse(String value) {
+			if (value != null) {
+				for (Policy policy : values()) {
+					if (policy.name().replace("_", "").equalsIgnoreCase(value.replace("_", ""))) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+						return policy;
+					}
+				}
+			}
+			return DISCARD_OLDEST;
+		}
+	}
+
+	private final LogEntryRing ring;
+	private final Policy policy;
+	private final ScheduledExecutorService executor;
+	private final PushEventConsumer<? super LogEntry> consumer;
+	private final Runnable onClose;
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+	private Iterator<LogEntry> history;
+	private volatile int pendingHistory;
+	// the sequence number of the most recent history entry; entries of the ring up
+	// to it were delivered with the history already
+	private final long historySequence;
+	// the sequence number of the next entry to deliver
+	private volatile long cursor;
+	// only written by the delivering thread
+	private volatile long dropped;
+	private volatile long delivered;
+	private boolean closeDelivered;
+
+	public LogSubscription(LogEntryRing ring, long cursor, Policy policy, ScheduledExecutorService executor,
+			PushEventConsumer<? super LogEntry> consumer, List<LogEntry> history, Runnable onClose) {
+		this.ring = ring;
+		this.policy = policy;
+		this.executor = executor;
+		this.consumer = consumer;
+		this.onClose = onClose;
+		this.history = history.isEmpty() ? null : history.iterator();
+		this.pendingHistory = history.size();
+		long sequence = Long.MIN_VALUE;
+		for (LogEntry entry : history) {
+			sequence = Math.max(sequence, entry.getSequence());
+		}
+		this.historySequence = sequence;
+		this.cursor = cursor;
+	}
+
+	/*
+	 * Returns the number of entries that are available to this subscription but
+	 * have not been delivered yet.
+	 */
+	public long getLag() {
+		return Math.max(0, ring.head() - cursor) + pendingHistory;
+	}
+
+	/*
+	 * Returns the number of entries that were never delivered because of the
+	 * policy.
+	 */
+	public long getDropped() {
+		return dropped;
+	}
+
+	public long getDelivered() {
+		return delivered;
+	}
+
+	/*
+	 * Returns the cursor that publishing has to wait for, or Long.MAX_VALUE if
+	 * this subscription does not block publishing.
+	 */
+	public long getBlockingCursor() {
+		return policy == Policy.BLOCK && !closed.get() ? cursor : Long.MAX_VALUE;
+	}
+
+	/*
+	 * Called after a new entry was published to the ring.
+	 */
+	public void signal() {
+		if (scheduled.compareAndSet(false, true)) {
+			try {
+				executor.execute(this::deliver);
+			} catch (RejectedExecutionException e) {
+				// shutting down
+				scheduled.set(false);
+			}
+		}
+	}
+
+	public void close() {
+		if (closed.compareAndSet(false, true)) {
+			onClose.run();
+			if (policy == Policy.BLOCK) {
+				ring.advanced();
+			}
+			signal();
+		}
+	}
+
+	private void deliver() {
+		while (true) {
+			long delay = deliverAvailable();
+			if (delay > 0) {
+				try {
+					// stay scheduled so that signals do not deliver early
+					executor.schedule(this::deliver, delay, TimeUnit.MILLISECONDS);
+					return;
+				} catch (RejectedExecutionException e) {
+					// shutting down
+				}
+			}
+			scheduled.set(false);
+			// an entry may have been published after the last check
+			if (!hasWork() || !scheduled.compareAndSet(false, true)) {
+				return;
+			}
+		}
+	}
+
+	private boolean hasWork() {
+		return closed.get() ? !closeDelivered : history != null || cursor < ring.head();
+	}
+
+	/*
+	 * Delivers the available entries and returns the back pressure of the consumer.
+	 */
+	private long deliverAvailable() {
+		while (true) {
+			if (closed.get()) {
+				deliverClose();
+				return 0;
+			}
+			LogEntry entry = nextEntry();
+			if (entry == null) {
+				return 0;
+			}
+			long backPressure;
+			try {
+				backPressure = consumer.accept(PushEvent.data(entry));
+			} catch (Exception e) {
+				// we ignore exceptions here for log stream
+				backPressure = 0;
+			}
+			delivered++;
+			if (backPressure < 0) {
+				close();
+				deliverClose();
+				return 0;
+			}
+			if (backPressure > 0) {
+				return backPressure;
+			}
+		}
+	}
+
+	private LogEntry nextEntry() {
+		if (history != null) {
+			LogEntry entry = history.next();
+			pendingHistory--;
+			if (!history.hasNext()) {
+				history = null;
+			}
+			return entry;
+		}
+		while (true) {
+			long next = cursor;
+			long head = ring.head();
+			if (next >= head) {
+				return null;
+			}
+			long tail = ring.tail();
+			if (next < tail) {
+				// overwritten before it could be delivered
+				dropped += tail - next;
+				next = tail;
+			}
+			if (policy == Policy.SAMPLE) {
+				long half = ring.capacity() / 2;
+				long lag = head - next;
+				if (lag > half) {
+					// deliver one of every n entries; n grows with the lag
+					long skip = Math.min(lag / half, lag - 1);
+					dropped += skip;
+					next += skip;
+				}
+			}
+			LogEntry entry = ring.get(next);
+			cursor = next + 1;
+			if (policy == Policy.BLOCK) {
+				ring.advanced();
+			}
+			if (entry == null) {
+				dropped++;
+			} else if (entry.getSequence() > historySequence) {
+				return entry;
+			}
+		}
+	}
+
+	private void deliverClose() {
+		if (closeDelivered) {
+			return;
+		}
+		closeDelivered = true;
+		try {
+			consumer.accept(PushEvent.close());
+		} catch (Exception e) {
+			// ignore here for log stream
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,10 @@ public class MetaTypeServiceImpl implements EquinoxMetaTypeService, SynchronousB
 	private static String CACHE_FILE = "metaTypeCache"; //$NON-NLS-1$
 	SAXParserFactory _parserFactory;
 	private final Hashtable<Long, EquinoxMetaTypeInformation> _mtps = new Hashtable<>(7);
+	// cache entries loaded from the cache file which have not been requested yet;
+	// guarded by _mtps
+	private final Map<Long, CacheEntry> _cacheEntries = new HashMap<>();
+	private BundleContext _systemContext;
 
 	private final LogTracker logger;
 	private final ServiceTracker<Object, Object> metaTypeProviderTracker;
@@ -73,6 +77,11 @@ public class MetaTypeServiceImpl implements EquinoxMetaTypeService, SynchronousB
 			if (_mtps.containsKey(bID)) {
 				return _mtps.get(bID);
 			}
+			MetaTypeInformationImpl cached = loadCacheEntry(_cacheEntries.remove(bID));
+			if (cached != null) {
+				_mtps.put(bID, cached);
+				return cached;
+			}
 			EquinoxMetaTypeInformation mti = AccessController
 					.doPrivileged(new PrivilegedAction<EquinoxMetaTypeInformation>() {
 						@Override
@@ -140,7 +149,10 @@ public class MetaTypeServiceImpl implements EquinoxMetaTypeService, SynchronousB
 		switch (type) {
 		case BundleEvent.UPDATED:
 		case BundleEvent.UNINSTALLED:
-			_mtps.remove(bID);
+			synchronized (_mtps) {
+				_mtps.remove(bID);
+				_cacheEntries.remove(bID);
+			}
 			break;
 		case BundleEvent.INSTALLED:
 		case BundleEvent.RESOLVED:
@@ -156,6 +168,9 @@ public class MetaTypeServiceImpl implements EquinoxMetaTypeService, SynchronousB
 		File cache = context.getDataFile(CACHE_FILE);
 		// using system context to see all bundles by the ID
 		BundleContext systemContext = context.getBundle(Constants.SYSTEM_BUNDLE_LOCATION).getBundleContext();
+		synchronized (_mtps) {
+			_systemContext = systemContext;
+		}
 		if (cache.isFile()) {
 			try (Reader reader = new Reader(new DataInputStream(new BufferedInputStream(new FileInputStream(cache))))) {
 				if (!reader.isValidPersistenceVersion()) {
@@ -171,25 +186,47 @@ public class MetaTypeServiceImpl implements EquinoxMetaTypeService, SynchronousB
 					}
 				}
 
-				reader.readIndexedStrings();
-
+				// The XML infos are only read as raw entries here; the object class
+				// definitions of a bundle are loaded on the first request for its info.
 				int numXML = reader.readInt();
 				for (int i = 0; i < numXML; i++) {
-					MetaTypeInformationImpl info = MetaTypeInformationImpl.load(systemContext, log, reader);
-					if (info != null) {
-						_mtps.put(info.getBundle().getBundleId(), info);
+					long id = reader.readLong();
+					long lastModified = reader.readLong();
+					byte[] data = reader.readBytes();
+					Bundle b = systemContext.getBundle(id);
+					if (b != null && b.getLastModified() == lastModified) {
+						synchronized (_mtps) {
+							if (!_mtps.containsKey(id)) {
+								_cacheEntries.put(id, new CacheEntry(lastModified, data));
+							}
+						}
 					}
 				}
 			}
 		}
 	}
 
+	private MetaTypeInformationImpl loadCacheEntry(CacheEntry entry) {
+		if (entry == null) {
+			return null;
+		}
+		try (Reader reader = new Reader(new DataInputStream(new ByteArrayInputStream(entry.data)))) {
+			reader.readIndexedStrings();
+			return MetaTypeInformationImpl.load(_systemContext, logger, reader);
+		} catch (IOException | RuntimeException e) {
+			// a damaged entry, for instance with a negative length, falls back to the XML
+			logger.log(LogTracker.LOG_WARNING, "Error loading cached metatype info.", e); //$NON-NLS-1$
+			return null;
+		}
+	}
+
 	void save(BundleContext context) throws IOException {
 		File cache = context.getDataFile(CACHE_FILE);
 		try (Writer writer = new Writer(new DataOutputStream(new BufferedOutputStream(new FileOutputStream(cache))))) {
 			writer.writePersistenceVersion();
 			List<MetaTypeInformation> serviceInfos = new ArrayList<>();
 			List<MetaTypeInformationImpl> xmlInfos = new ArrayList<>();
+			Map<Long, CacheEntry> cacheEntries;
 			synchronized (_mtps) {
 				for (MetaTypeInformation info : _mtps.values()) {
 					if (info instanceof MetaTypeInformationImpl) {
@@ -198,6 +235,7 @@ public class MetaTypeServiceImpl implements EquinoxMetaTypeService, SynchronousB
 						serviceInfos.add(info);
 					}
 				}
+				cacheEntries = new HashMap<>(_cacheEntries);
 			}
 
 			writer.writeInt(serviceInfos.size());
@@ -205,16 +243,44 @@ public class MetaTypeServiceImpl implements EquinoxMetaTypeService, SynchronousB
 				writer.writeLong(info.getBundle().getBundleId());
 			}
 
-			Set<String> strings = new HashSet<>();
+			writer.writeInt(xmlInfos.size() + cacheEntries.size());
 			for (MetaTypeInformationImpl info : xmlInfos) {
-				info.getStrings(strings);
+				Bundle b = info.getBundle();
+				writer.writeLong(b.getBundleId());
+				writer.writeLong(b.getLastModified());
+				writer.writeBytes(toCacheEntryData(info));
+			}
+			// entries never requested are written back as is
+			for (Map.Entry<Long, CacheEntry> entry : cacheEntries.entrySet()) {
+				writer.writeLong(entry.getKey());
+				writer.writeLong(entry.getValue().lastModified);
+				writer.writeBytes(entry.getValue().data);
 			}
+		}
+	}
+
+	private static byte[] toCacheEntryData(MetaTypeInformationImpl info) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (Writer writer = new Writer(new DataOutputStream(bytes))) {
+			Set<String> strings = new HashSet<>();
+			info.getStrings(strings);
 			writer.writeIndexedStrings(strings);
+			info.write(writer);
+		}
+		return bytes.toByteArray();
+	}
 
-			writer.writeInt(xmlInfos.size());
-			for (MetaTypeInformationImpl info : xmlInfos) {
-				info.write(writer);
-			}
+	/**
+	 * The persisted info of a single bundle. Each entry has its own string table
+	 * so that it can be loaded, and written back, independently of the others.
+	 */
+	private static final class CacheEntry {
+		final long lastModified;
+		final byte[] data;
+
+		CacheEntry(long lastModified, byte[] data) {
+			this.lastModified = lastModified;
+			this.data = data;
 		}
 	}
 }
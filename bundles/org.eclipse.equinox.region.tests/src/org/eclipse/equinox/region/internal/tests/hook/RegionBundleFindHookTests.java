@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2013 VMware Inc.
+ * Copyright (c) 2011, 2026 VMware Inc.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -228,6 +228,31 @@ public class RegionBundleFindHookTests {
 		assertTrue(this.candidates.contains(bundle(BUNDLE_X)));
 	}
 
+	@Test
+	public void testFindAfterDigraphChanges() throws BundleException, InvalidSyntaxException {
+		// populate any cached visibility before changing the digraph
+		this.candidates.add(bundle(BUNDLE_B));
+		this.candidates.add(bundle(BUNDLE_C));
+		this.bundleFindHook.find(bundleContext(BUNDLE_A), this.candidates);
+		assertTrue(this.candidates.isEmpty());
+
+		region(REGION_A).connectRegion(region(REGION_B), createFilter(false, BUNDLE_B, BUNDLE_C));
+		region(REGION_B).connectRegion(region(REGION_C), createFilter(false, BUNDLE_C));
+		this.candidates.add(bundle(BUNDLE_B));
+		this.candidates.add(bundle(BUNDLE_C));
+		this.bundleFindHook.find(bundleContext(BUNDLE_A), this.candidates);
+		assertEquals(2, this.candidates.size());
+
+		this.digraph.replaceConnection(region(REGION_A), createFilter(false, BUNDLE_C), region(REGION_B));
+		this.bundleFindHook.find(bundleContext(BUNDLE_A), this.candidates);
+		assertEquals(1, this.candidates.size());
+		assertTrue(this.candidates.contains(bundle(BUNDLE_C)));
+
+		this.digraph.removeRegion(region(REGION_B));
+		this.bundleFindHook.find(bundleContext(BUNDLE_A), this.candidates);
+		assertTrue(this.candidates.isEmpty());
+	}
+
 	@Test
 	public void testFindFromSystemBundle() {
 		this.candidates.add(bundle(BUNDLE_A));
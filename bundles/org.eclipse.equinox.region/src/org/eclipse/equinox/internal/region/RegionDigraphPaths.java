@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.equinox.internal.region;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.equinox.region.*;
+import org.eclipse.equinox.region.RegionDigraph.FilteredRegion;
+
+/**
+ * {@link RegionDigraphPaths} is an immutable snapshot of the paths through a
+ * {@link StandardRegionDigraph}. For each starting region it records, per
+ * reachable region, the filters of every path leading to that region. This
+ * allows the framework hooks to decide the visibility of a candidate by
+ * looking up the region of the candidate instead of traversing the digraph
+ * with a {@link RegionDigraphVisitor} for each find or resolve operation.
+ * <p>
+ * A snapshot is discarded by the digraph whenever regions or connections
+ * change. Changes to the bundles contained in regions do not invalidate a
+ * snapshot since the paths do not depend on them.
+ * </p>
+ * <strong>Concurrent Semantics</strong><br />
+ * Thread safe.
+ */
+public final class RegionDigraphPaths {
+
+	/**
+	 * Determines whether a candidate is allowed by a region filter.
+	 *
+	 * @param <C> the candidate type
+	 */
+	public interface CandidateFilter<C> {
+		boolean isAllowed(C candidate, RegionFilter filter);
+	}
+
+	// The maximum number of paths recorded from a single starting region.
+	// Densely connected digraphs can have very many paths; in that case
+	// the hooks fall back to traversing the digraph.
+	private static final int MAX_PATHS = 1024;
+
+	private static final Map<Region, List<RegionFilter[]>> TOO_MANY_PATHS = Collections.emptyMap();
+
+	private static final RegionFilter[] NO_FILTERS = new RegionFilter[0];
+
+	private final Map<Region, Map<Region, List<RegionFilter[]>>> paths = new ConcurrentHashMap<>();
+
+	RegionDigraphPaths() {
+		// only created by StandardRegionDigraph
+	}
+
+	/**
+	 * Determines whether a candidate contained in the given candidate region is
+	 * visible from the given starting region. A candidate is visible if it is
+	 * contained in the starting region or if there is a path from the starting
+	 * region to the candidate region for which all filters allow the candidate.
+	 *
+	 * @param startingRegion  the region looking for the candidate
+	 * @param candidateRegion the region containing the candidate, may be
+	 *                        <code>null</code>
+	 * @param candidate       the candidate
+	 * @param filter          determines whether a filter allows the candidate
+	 * @return <code>true</code> if the candidate is visible, <code>false</code>
+	 *         otherwise
+	 */
+	public <C> boolean isVisible(Region startingRegion, Region candidateRegion, C candidate,
+			CandidateFilter<C> filter) {
+		if (candidateRegion == null) {
+			return false;
+		}
+		List<RegionFilter[]> regionPaths = getPaths(startingRegion).get(candidateRegion);
+		if (regionPaths == null) {
+			return false;
+		}
+		for (RegionFilter[] path : regionPaths) {
+			if (isAllowed(path, candidate, filter)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns <code>false</code> if the given starting region has too many
+	 * paths to be recorded in this snapshot. In that case the digraph must be
+	 * traversed with a {@link RegionDigraphVisitor}.
+	 *
+	 * @param startingRegion the starting region
+	 * @return <code>true</code> if the paths from the starting region are
+	 *         recorded
+	 */
+	public boolean hasPaths(Region startingRegion) {
+		return getPaths(startingRegion) != TOO_MANY_PATHS;
+	}
+
+	private static <C> boolean isAllowed(RegionFilter[] path, C candidate, CandidateFilter<C> filter) {
+		for (RegionFilter regionFilter : path) {
+			if (!filter.isAllowed(candidate, regionFilter)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Map<Region, List<RegionFilter[]>> getPaths(Region startingRegion) {
+		Map<Region, List<RegionFilter[]>> result = paths.get(startingRegion);
+		if (result == null) {
+			// computed outside of the map; reading the edges locks the digraph monitor
+			result = computePaths(startingRegion);
+			Map<Region, List<RegionFilter[]>> existing = paths.putIfAbsent(startingRegion, result);
+			if (existing != null) {
+				result = existing;
+			}
+		}
+		return result;
+	}
+
+	private static Map<Region, List<RegionFilter[]>> computePaths(Region startingRegion) {
+		Map<Region, List<RegionFilter[]>> result = new HashMap<>();
+		addPath(result, startingRegion, NO_FILTERS);
+		int[] count = { 1 };
+		Set<Region> path = new HashSet<>();
+		if (!computePaths(startingRegion, new ArrayList<RegionFilter>(), path, result, count)) {
+			return TOO_MANY_PATHS;
+		}
+		return result;
+	}
+
+	private static boolean computePaths(Region current, List<RegionFilter> filters, Set<Region> path,
+			Map<Region, List<RegionFilter[]>> result, int[] count) {
+		// only simple paths are followed, same as the SubgraphTraverser
+		path.add(current);
+		try {
+			for (FilteredRegion edge : current.getEdges()) {
+				Region head = edge.getRegion();
+				if (path.contains(head)) {
+					continue;
+				}
+				if (++count[0] > MAX_PATHS) {
+					return false;
+				}
+				filters.add(edge.getFilter());
+				try {
+					addPath(result, head, filters.toArray(new RegionFilter[filters.size()]));
+					if (!computePaths(head, filters, path, result, count)) {
+						return false;
+					}
+				} finally {
+					filters.remove(filters.size() - 1);
+				}
+			}
+			return true;
+		} finally {
+			path.remove(current);
+		}
+	}
+
+	private static void addPath(Map<Region, List<RegionFilter[]>> result, Region region, RegionFilter[] filters) {
+		List<RegionFilter[]> regionPaths = result.get(region);
+		if (regionPaths == null) {
+			regionPaths = new ArrayList<>(1);
+			result.put(region, regionPaths);
+		}
+		regionPaths.add(filters);
+	}
+}
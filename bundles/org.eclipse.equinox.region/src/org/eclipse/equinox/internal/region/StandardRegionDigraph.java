@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 VMware Inc. and others
+ * Copyright (c) 2011, 2026 VMware Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,6 +76,10 @@ public final class StandardRegionDigraph implements BundleIdToRegionMapping, Reg
 
 	private volatile Region defaultRegion;
 
+	// Snapshot of the paths through this digraph; discarded when regions or
+	// edges change. Set to null while holding this.monitor.
+	private volatile RegionDigraphPaths paths;
+
 	public StandardRegionDigraph(StandardRegionDigraph origin) throws BundleException {
 		this(null, null, origin);
 
@@ -133,6 +137,7 @@ public final class StandardRegionDigraph implements BundleIdToRegionMapping, Reg
 			}
 			this.regions.put(region.getName(), region);
 			this.edges.put(region, EMPTY_EDGE_SET);
+			this.paths = null;
 			incrementUpdateCount();
 		}
 		if (notify) {
@@ -216,6 +221,7 @@ public final class StandardRegionDigraph implements BundleIdToRegionMapping, Reg
 			}
 
 			this.edges.put(tailRegion, Collections.unmodifiableSet(connections));
+			this.paths = null;
 			incrementUpdateCount();
 		}
 		if (tailAdded) {
@@ -335,10 +341,32 @@ public final class StandardRegionDigraph implements BundleIdToRegionMapping, Reg
 				}
 			}
 			this.bundleIdToRegionMapping.dissociateRegion(region);
+			this.paths = null;
 			incrementUpdateCount();
 		}
 	}
 
+	/**
+	 * Returns a snapshot of the paths through this digraph which the framework
+	 * hooks use instead of visiting the digraph. The snapshot stays valid until
+	 * regions or connections are added or removed.
+	 *
+	 * @return the current snapshot of paths
+	 */
+	public RegionDigraphPaths getPaths() {
+		RegionDigraphPaths current = this.paths;
+		if (current == null) {
+			synchronized (this.monitor) {
+				current = this.paths;
+				if (current == null) {
+					current = new RegionDigraphPaths();
+					this.paths = current;
+				}
+			}
+		}
+		return current;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -496,6 +524,7 @@ public final class StandardRegionDigraph implements BundleIdToRegionMapping, Reg
 			this.regions.clear();
 			this.edges.clear();
 			this.bundleIdToRegionMapping.clear();
+			this.paths = null;
 			for (Region original : filteredRegions.keySet()) {
 				Region copy = nameToRegion.get(original.getName());
 				if (copy != null) {
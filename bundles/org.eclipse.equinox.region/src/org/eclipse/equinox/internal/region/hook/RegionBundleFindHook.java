@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2015 VMware Inc. and others
+ * Copyright (c) 2013, 2026 VMware Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,9 @@
 
 package org.eclipse.equinox.internal.region.hook;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.*;
+import org.eclipse.equinox.internal.region.RegionDigraphPaths;
+import org.eclipse.equinox.internal.region.StandardRegionDigraph;
 import org.eclipse.equinox.region.*;
 import org.osgi.framework.*;
 import org.osgi.framework.hooks.bundle.FindHook;
@@ -66,6 +67,18 @@ public final class RegionBundleFindHook implements FindHook {
 			return;
 		}
 
+		RegionDigraph digraph = finderRegion.getRegionDigraph();
+		RegionDigraphPaths paths = getPaths(digraph, finderRegion);
+		if (paths != null) {
+			for (Iterator<Bundle> iBundles = bundles.iterator(); iBundles.hasNext();) {
+				Bundle candidate = iBundles.next();
+				if (!paths.isVisible(finderRegion, digraph.getRegion(candidate), candidate, Visitor::isAllowedBy)) {
+					iBundles.remove();
+				}
+			}
+			return;
+		}
+
 		Visitor visitor = new Visitor(bundles);
 		finderRegion.visitSubgraph(visitor);
 		Collection<Bundle> allowed = visitor.getAllowed();
@@ -92,10 +105,14 @@ public final class RegionBundleFindHook implements FindHook {
 		 */
 		@Override
 		protected boolean isAllowed(Bundle candidate, RegionFilter filter) {
+			return isAllowedBy(candidate, filter);
+		}
+
+		static boolean isAllowedBy(Bundle candidate, RegionFilter filter) {
 			return filter.isAllowed(candidate) || isLifecycleAllowed(filter, candidate);
 		}
 
-		private boolean isLifecycleAllowed(RegionFilter filter, Bundle bundle) {
+		private static boolean isLifecycleAllowed(RegionFilter filter, Bundle bundle) {
 			HashMap<String, Object> attrs = new HashMap<>(4);
 			String bsn = bundle.getSymbolicName();
 			if (bsn != null) {
@@ -107,6 +124,18 @@ public final class RegionBundleFindHook implements FindHook {
 		}
 	}
 
+	/**
+	 * Returns the snapshot of paths to use for finding candidates visible from the
+	 * given region, or <code>null</code> if the digraph must be visited instead.
+	 */
+	static RegionDigraphPaths getPaths(RegionDigraph digraph, Region finderRegion) {
+		if (!(digraph instanceof StandardRegionDigraph)) {
+			return null;
+		}
+		RegionDigraphPaths paths = ((StandardRegionDigraph) digraph).getPaths();
+		return paths.hasPaths(finderRegion) ? paths : null;
+	}
+
 	static Bundle getBundle(BundleContext context) {
 		try {
 			return context.getBundle();
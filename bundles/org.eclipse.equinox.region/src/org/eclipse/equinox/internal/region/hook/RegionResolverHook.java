@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 VMware Inc.
+ * Copyright (c) 2011, 2026 VMware Inc.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.equinox.internal.region.hook;
 import java.util.Collection;
 import java.util.Iterator;
 import org.eclipse.equinox.internal.region.EquinoxStateHelper;
+import org.eclipse.equinox.internal.region.RegionDigraphPaths;
 import org.eclipse.equinox.region.*;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.hooks.resolver.ResolverHook;
@@ -64,6 +65,18 @@ public final class RegionResolverHook implements ResolverHook {
 				return;
 			}
 
+			RegionDigraphPaths paths = RegionBundleFindHook.getPaths(this.regionDigraph, requirerRegion);
+			if (paths != null) {
+				for (Iterator<BundleCapability> iCandidates = candidates.iterator(); iCandidates.hasNext();) {
+					BundleCapability candidate = iCandidates.next();
+					if (!paths.isVisible(requirerRegion, getRegion(candidate.getRevision()), candidate,
+							RegionResolverHook::isAllowedBy)) {
+						iCandidates.remove();
+					}
+				}
+				return;
+			}
+
 			Visitor visitor = new Visitor(candidates);
 			requirerRegion.visitSubgraph(visitor);
 			Collection<BundleCapability> allowed = visitor.getAllowed();
@@ -89,11 +102,15 @@ public final class RegionResolverHook implements ResolverHook {
 
 		@Override
 		protected boolean isAllowed(BundleCapability candidate, RegionFilter filter) {
-			return filter.isAllowed(candidate) || filter.isAllowed(candidate.getRevision());
+			return isAllowedBy(candidate, filter);
 		}
 
 	}
 
+	static boolean isAllowedBy(BundleCapability candidate, RegionFilter filter) {
+		return filter.isAllowed(candidate) || filter.isAllowed(candidate.getRevision());
+	}
+
 	Region getRegion(BundleRevision bundleRevision) {
 		Bundle bundle = bundleRevision.getBundle();
 		if (bundle != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015, 2016 VMware Inc.
+ * Copyright (c) 2015, 2026 VMware Inc.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@
 package org.eclipse.equinox.internal.region.hook;
 
 import java.util.Collection;
+import java.util.Iterator;
+import org.eclipse.equinox.internal.region.RegionDigraphPaths;
 import org.eclipse.equinox.region.*;
 import org.osgi.framework.*;
 import org.osgi.framework.hooks.service.FindHook;
@@ -61,6 +63,20 @@ public final class RegionServiceFindHook implements FindHook {
 			return;
 		}
 
+		RegionDigraph digraph = finderRegion.getRegionDigraph();
+		RegionDigraphPaths paths = RegionBundleFindHook.getPaths(digraph, finderRegion);
+		if (paths != null) {
+			for (Iterator<ServiceReference<?>> iReferences = references.iterator(); iReferences.hasNext();) {
+				ServiceReference<?> candidate = iReferences.next();
+				Bundle b = candidate.getBundle();
+				Region candidateRegion = b == null ? null : digraph.getRegion(b);
+				if (!paths.isVisible(finderRegion, candidateRegion, candidate, Visitor::isAllowedBy)) {
+					iReferences.remove();
+				}
+			}
+			return;
+		}
+
 		Visitor visitor = new Visitor(references);
 		finderRegion.visitSubgraph(visitor);
 		Collection<ServiceReference<?>> allowed = visitor.getAllowed();
@@ -88,6 +104,10 @@ public final class RegionServiceFindHook implements FindHook {
 		 */
 		@Override
 		protected boolean isAllowed(ServiceReference<?> candidate, RegionFilter filter) {
+			return isAllowedBy(candidate, filter);
+		}
+
+		static boolean isAllowedBy(ServiceReference<?> candidate, RegionFilter filter) {
 			return filter.isAllowed(candidate) || filter.isAllowed(candidate.getBundle());
 		}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -78,7 +78,6 @@ public final class AdapterManagerListener implements IRegistryEventListener, IAd
 		for (IExtension extension : extensions) {
 			registerExtension(extension);
 		}
-		theAdapterManager.flushLookup();
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2006 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,11 @@ public class Contribution implements KeyedElement {
 	static final public byte EXTENSION_POINT = 0;
 	static final public byte EXTENSION = 1;
 
+	// The objects created by the parser, in the order they were created. Until the
+	// contribution is added to the registry they have temporary ids, see
+	// ExtensionsParser.
+	private RegistryObject[] parsedObjects;
+
 	protected Contribution(String contributorId, ExtensionRegistry registry, boolean persist) {
 		this.contributorId = contributorId;
 		this.registry = registry;
@@ -89,6 +94,21 @@ public class Contribution implements KeyedElement {
 		this.children = children;
 	}
 
+	void setParsedObjects(RegistryObject[] objects) {
+		parsedObjects = objects;
+	}
+
+	/**
+	 * Returns the objects created by the parser that still have to be registered
+	 * with the object manager, or <code>null</code> if there are none. Subsequent
+	 * calls return <code>null</code>.
+	 */
+	RegistryObject[] takeParsedObjects() {
+		RegistryObject[] result = parsedObjects;
+		parsedObjects = null;
+		return result;
+	}
+
 	protected String getContributorId() {
 		return contributorId;
 	}
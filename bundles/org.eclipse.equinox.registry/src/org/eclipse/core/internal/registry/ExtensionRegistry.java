@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -137,6 +137,7 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 	private void add(Contribution element) {
 		access.enterWrite();
 		try {
+			registerParsedObjects(element);
 			eventDelta = CombinedEventDelta.recordAddition();
 			basicAdd(element, true);
 			fireRegistryChangeEvent();
@@ -146,6 +147,74 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 		}
 	}
 
+	/*
+	 * Registers the objects of a contribution created by the parser with the object
+	 * manager. This hands out their real ids, so the ids only depend on the order
+	 * in which contributions are added, not on the order in which they were
+	 * parsed. An extension point with an id that is already taken is dropped from
+	 * the contribution.
+	 */
+	private void registerParsedObjects(Contribution contribution) {
+		RegistryObject[] parsedObjects = contribution.takeParsedObjects();
+		if (parsedObjects == null) {
+			return;
+		}
+		int[] ids = new int[parsedObjects.length];
+		for (int i = 0; i < parsedObjects.length; i++) {
+			RegistryObject object = parsedObjects[i];
+			object.setObjectId(RegistryObjectManager.UNKNOWN);
+			if (object instanceof ExtensionPoint) {
+				ExtensionPoint extensionPoint = (ExtensionPoint) object;
+				// avoid adding extension point second time as it might cause
+				// extensions associated with the existing extension point to
+				// become inaccessible.
+				if (!registryObjects.addExtensionPoint(extensionPoint, true)) {
+					if (debug()) {
+						String msg = NLS.bind(RegistryMessages.parse_duplicateExtensionPoint,
+								extensionPoint.getUniqueIdentifier(), contribution.getDefaultNamespace());
+						log(new Status(IStatus.ERROR, RegistryMessages.OWNER_NAME, 0, msg, null));
+					}
+				}
+			} else {
+				registryObjects.add(object, true);
+			}
+			ids[i] = object.getObjectId();
+		}
+		for (RegistryObject object : parsedObjects) {
+			if (object.getObjectId() == RegistryObjectManager.UNKNOWN) {
+				continue;
+			}
+			int[] children = object.getRawChildren();
+			for (int i = 0; i < children.length; i++) {
+				children[i] = ids[ExtensionsParser.getParsedIndex(children[i])];
+			}
+			if (object instanceof ConfigurationElement) {
+				ConfigurationElement element = (ConfigurationElement) object;
+				element.setParentId(ids[ExtensionsParser.getParsedIndex(element.parentId)]);
+			}
+		}
+
+		// [number of extension points, number of extensions, ids...] without the
+		// dropped extension points
+		int[] children = contribution.getRawChildren();
+		int[] registered = new int[children.length];
+		int extensionPoints = 0;
+		int position = 2;
+		for (int i = 0; i < children[Contribution.EXTENSION_POINT]; i++) {
+			int id = ids[ExtensionsParser.getParsedIndex(children[2 + i])];
+			if (id != RegistryObjectManager.UNKNOWN) {
+				registered[position++] = id;
+				extensionPoints++;
+			}
+		}
+		for (int i = 2 + children[Contribution.EXTENSION_POINT]; i < children.length; i++) {
+			registered[position++] = ids[ExtensionsParser.getParsedIndex(children[i])];
+		}
+		registered[Contribution.EXTENSION_POINT] = extensionPoints;
+		registered[Contribution.EXTENSION] = children[Contribution.EXTENSION];
+		contribution.setRawChildren(Arrays.copyOf(registered, position));
+	}
+
 	/* Utility method to help with array concatenations */
 	static Object concatArrays(Object a, Object b) {
 		Object[] result = (Object[]) Array.newInstance(a.getClass().getComponentType(),
@@ -779,6 +848,7 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 					theTableReader.setContributorsFile(cacheStorageManager.lookup(TableReader.CONTRIBUTORS, false));
 					theTableReader.setNamespacesFile(cacheStorageManager.lookup(TableReader.NAMESPACES, false));
 					theTableReader.setOrphansFile(cacheStorageManager.lookup(TableReader.ORPHANS, false));
+					theTableReader.setStringsFile(cacheStorageManager.lookup(TableReader.STRINGS, false));
 					long timestamp = strategy.getContributionsTimestamp();
 					isRegistryFilledFromCache = registryObjects.init(timestamp);
 					if (isRegistryFilledFromCache) {
@@ -865,6 +935,7 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 		File contributorsFile = null;
 		File namespacesFile = null;
 		File orphansFile = null;
+		File stringsFile = null;
 
 		TableWriter theTableWriter = new TableWriter(this);
 
@@ -876,6 +947,7 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 			cacheStorageManager.lookup(TableReader.CONTRIBUTORS, true);
 			cacheStorageManager.lookup(TableReader.NAMESPACES, true);
 			cacheStorageManager.lookup(TableReader.ORPHANS, true);
+			cacheStorageManager.lookup(TableReader.STRINGS, true);
 			tableFile = File.createTempFile(TableReader.TABLE, ".new", cacheStorageManager.getBase()); //$NON-NLS-1$
 			mainFile = File.createTempFile(TableReader.MAIN, ".new", cacheStorageManager.getBase()); //$NON-NLS-1$
 			extraFile = File.createTempFile(TableReader.EXTRA, ".new", cacheStorageManager.getBase()); //$NON-NLS-1$
@@ -883,6 +955,7 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 			contributorsFile = File.createTempFile(TableReader.CONTRIBUTORS, ".new", cacheStorageManager.getBase()); //$NON-NLS-1$
 			namespacesFile = File.createTempFile(TableReader.NAMESPACES, ".new", cacheStorageManager.getBase()); //$NON-NLS-1$
 			orphansFile = File.createTempFile(TableReader.ORPHANS, ".new", cacheStorageManager.getBase()); //$NON-NLS-1$
+			stringsFile = File.createTempFile(TableReader.STRINGS, ".new", cacheStorageManager.getBase()); //$NON-NLS-1$
 			theTableWriter.setTableFile(tableFile);
 			theTableWriter.setExtraDataFile(extraFile);
 			theTableWriter.setMainDataFile(mainFile);
@@ -890,6 +963,7 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 			theTableWriter.setContributorsFile(contributorsFile);
 			theTableWriter.setNamespacesFile(namespacesFile);
 			theTableWriter.setOrphansFile(orphansFile);
+			theTableWriter.setStringsFile(stringsFile);
 		} catch (IOException e) {
 			cacheStorageManager.close();
 			return; // Ignore the exception since we can recompute the cache
@@ -912,10 +986,10 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 				cacheStorageManager.update(
 						new String[] { TableReader.TABLE, TableReader.MAIN, TableReader.EXTRA,
 								TableReader.CONTRIBUTIONS, TableReader.CONTRIBUTORS, TableReader.NAMESPACES,
-								TableReader.ORPHANS },
+								TableReader.ORPHANS, TableReader.STRINGS },
 						new String[] { tableFile.getName(), mainFile.getName(), extraFile.getName(),
 								contributionsFile.getName(), contributorsFile.getName(), namespacesFile.getName(),
-								orphansFile.getName() });
+								orphansFile.getName(), stringsFile.getName() });
 			}
 		} catch (IOException e) {
 			// Ignore the exception since we can recompute the cache
@@ -930,7 +1004,7 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 	 */
 	public void clearRegistryCache() {
 		for (String key : new String[] { TableReader.TABLE, TableReader.MAIN, TableReader.EXTRA,
-				TableReader.CONTRIBUTIONS, TableReader.ORPHANS }) {
+				TableReader.CONTRIBUTIONS, TableReader.ORPHANS, TableReader.STRINGS }) {
 			try {
 				cacheStorageManager.remove(key);
 			} catch (IOException e) {
@@ -1190,6 +1264,34 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 	@Override
 	public boolean addContribution(InputStream is, IContributor contributor, boolean persist, String contributionName,
 			ResourceBundle translationBundle, Object key) {
+		Contribution contribution = parseContribution(is, contributor, persist, contributionName, translationBundle,
+				key);
+		if (contribution == null) {
+			return false;
+		}
+		add(contribution); // the add() method does synchronization
+		return true;
+	}
+
+	/**
+	 * Parses a contribution without adding it to the registry. Unlike
+	 * {@link #addContribution(InputStream, IContributor, boolean, String, ResourceBundle, Object)}
+	 * this method may be called concurrently, so that the contributions of many
+	 * bundles can be parsed in parallel and then added with
+	 * {@link #addContribution(Contribution, long)} in a deterministic order.
+	 * <p>
+	 * The objects of the contribution are only registered with the object manager
+	 * when the contribution is added. Their ids, and which contribution gets an
+	 * extension point id declared more than once, therefore depend on the order in
+	 * which the contributions are added and not on the order in which they were
+	 * parsed.
+	 * </p>
+	 *
+	 * @return the parsed contribution or <code>null</code> if the contribution
+	 *         could not be parsed; problems have been logged already
+	 */
+	public Contribution parseContribution(InputStream is, IContributor contributor, boolean persist,
+			String contributionName, ResourceBundle translationBundle, Object key) {
 		if (!checkReadWriteAccess(key, persist)) {
 			throw new IllegalArgumentException(
 					"Unauthorized access to the ExtensionRegistry.addContribution() method. Check if proper access token is supplied."); //$NON-NLS-1$
@@ -1209,18 +1311,18 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 		Contribution contribution = getElementFactory().createContribution(internalContributor.getActualId(), persist);
 
 		try {
-			parser.parseManifest(strategy.getXMLParser(), new InputSource(is), contributionName, getObjectManager(),
-					contribution, translationBundle);
+			parser.parseManifest(strategy.getXMLParser(), new InputSource(is), contributionName, contribution,
+					translationBundle);
 			int status = problems.getSeverity();
 			if (status != IStatus.OK) {
 				log(problems);
 				if (status == IStatus.ERROR || status == IStatus.CANCEL) {
-					return false;
+					return null;
 				}
 			}
 		} catch (ParserConfigurationException | SAXException | IOException e) {
 			logError(ownerName, contributionName, e);
-			return false;
+			return null;
 		} finally {
 			try {
 				is.close();
@@ -1228,8 +1330,25 @@ public class ExtensionRegistry implements IExtensionRegistry, IDynamicExtensionR
 				// nothing to do
 			}
 		}
-		add(contribution); // the add() method does synchronization
-		return true;
+		return contribution;
+	}
+
+	/**
+	 * Adds a contribution returned by
+	 * {@link #parseContribution(InputStream, IContributor, boolean, String, ResourceBundle, Object)}
+	 * to the registry.
+	 *
+	 * @param contribution the parsed contribution or <code>null</code> if parsing
+	 *                     failed, in which case only the timestamp is recorded
+	 * @param timestamp    the timestamp of the contribution or 0
+	 */
+	public void addContribution(Contribution contribution, long timestamp) {
+		if (contribution != null) {
+			add(contribution);
+		}
+		if (timestamp != 0) {
+			aggregatedTimestamp.add(timestamp);
+		}
 	}
 
 	private void logError(String owner, String contributionName, Exception e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.core.internal.registry;
 import java.io.IOException;
 import java.util.*;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 import org.eclipse.core.runtime.*;
 import org.eclipse.osgi.util.NLS;
@@ -83,9 +84,6 @@ public class ExtensionsParser extends DefaultHandler {
 	// Resource bundle used to translate the content of the plugin.xml
 	protected ResourceBundle resources;
 
-	// Keep track of the object encountered.
-	private RegistryObjectManager objectManager;
-
 	private Contribution contribution;
 
 	// This keeps tracks of the value of the configuration element in case the value
@@ -148,10 +146,11 @@ public class ExtensionsParser extends DefaultHandler {
 
 	private ArrayList<String> processedExtensionIds = null;
 
-	// Keep track of elements added into the registry manager in case we encounter a
-	// error
-	// and need to rollback
-	private final ArrayList<RegistryObject> addedRegistryObjects = new ArrayList<>(5);
+	// The objects are not registered with the object manager while parsing, so
+	// that several contributions can be parsed at the same time. They get
+	// temporary ids -2, -3, ... in the order they are created, and the registry
+	// replaces them with real ids when the contribution is added.
+	private final ArrayList<RegistryObject> parsedObjects = new ArrayList<>();
 
 	public ExtensionsParser(MultiStatus status, ExtensionRegistry registry) {
 		super();
@@ -318,23 +317,21 @@ public class ExtensionsParser extends DefaultHandler {
 	 */
 	@Override
 	public void fatalError(SAXParseException ex) throws SAXException {
-		cleanup();
 		logStatus(ex);
 		throw ex;
 	}
 
+	private void addParsedObject(RegistryObject object) {
+		parsedObjects.add(object);
+		object.setObjectId(-1 - parsedObjects.size());
+	}
+
 	/**
-	 * Remove all elements that we have added so far into registry manager
+	 * Returns the position in the list of parsed objects of the object with the
+	 * given temporary id.
 	 */
-	private void cleanup() {
-		for (RegistryObject object : addedRegistryObjects) {
-			if (object instanceof ExtensionPoint) {
-				String id = ((ExtensionPoint) object).getUniqueIdentifier();
-				objectManager.removeExtensionPoint(id);
-			} else {
-				objectManager.remove(object.getObjectId(), true);
-			}
-		}
+	static int getParsedIndex(int temporaryId) {
+		return -2 - temporaryId;
 	}
 
 	private void handleExtensionPointState(String elementName) {
@@ -368,8 +365,7 @@ public class ExtensionsParser extends DefaultHandler {
 		// property with the name/value pair of the attribute. Note there will be one
 		// configuration property for each attribute
 		parseConfigurationElementAttributes(attributes);
-		objectManager.add(currentConfigurationElement, true);
-		addedRegistryObjects.add(currentConfigurationElement);
+		addParsedObject(currentConfigurationElement);
 	}
 
 	private void handleInitialState(String elementName, Attributes attributes) {
@@ -422,11 +418,10 @@ public class ExtensionsParser extends DefaultHandler {
 	}
 
 	public Contribution parseManifest(SAXParserFactory factory, InputSource in, String manifestName,
-			RegistryObjectManager registryObjects, Contribution currentNamespace, ResourceBundle bundle)
+			Contribution currentNamespace, ResourceBundle bundle)
 			throws ParserConfigurationException, SAXException, IOException {
 		long start = 0;
 		this.resources = bundle;
-		this.objectManager = registryObjects;
 		// initialize the parser with this object
 		this.contribution = currentNamespace;
 		if (registry.debug()) {
@@ -442,15 +437,22 @@ public class ExtensionsParser extends DefaultHandler {
 			if (locationName == null) {
 				locationName = manifestName;
 			}
-			factory.setNamespaceAware(true);
-			try {
-				factory.setFeature("http://xml.org/sax/features/string-interning", true); //$NON-NLS-1$
-			} catch (SAXException se) {
-				// ignore; we can still operate without string-interning
+			SAXParser parser;
+			// the factory is shared by contributions that are parsed in parallel
+			synchronized (factory) {
+				factory.setNamespaceAware(true);
+				try {
+					factory.setFeature("http://xml.org/sax/features/string-interning", true); //$NON-NLS-1$
+				} catch (SAXException se) {
+					// ignore; we can still operate without string-interning
+				}
+				factory.setValidating(false);
+				parser = factory.newSAXParser();
 			}
-			factory.setValidating(false);
-			factory.newSAXParser().parse(in, this);
-			return (Contribution) objectStack.pop();
+			parser.parse(in, this);
+			Contribution result = (Contribution) objectStack.pop();
+			result.setParsedObjects(parsedObjects.toArray(new RegistryObject[parsedObjects.size()]));
+			return result;
 		} finally {
 			if (registry.debug()) {
 				cumulativeTime = cumulativeTime + (System.currentTimeMillis() - start);
@@ -553,8 +555,7 @@ public class ExtensionsParser extends DefaultHandler {
 			processedExtensionIds.add(uniqueId);
 		}
 
-		objectManager.add(currentExtension, true);
-		addedRegistryObjects.add(currentExtension);
+		addParsedObject(currentExtension);
 	}
 
 	// todo: Are all three methods needed??
@@ -625,24 +626,12 @@ public class ExtensionsParser extends DefaultHandler {
 			stateStack.push(Integer.valueOf(IGNORED_ELEMENT_STATE));
 			return;
 		}
-		if (!objectManager.addExtensionPoint(currentExtPoint, true)) {
-			// avoid adding extension point second time as it might cause
-			// extensions associated with the existing extension point to
-			// become inaccessible.
-			if (registry.debug()) {
-				String msg = NLS.bind(RegistryMessages.parse_duplicateExtensionPoint,
-						currentExtPoint.getUniqueIdentifier(), contribution.getDefaultNamespace());
-				registry.log(new Status(IStatus.ERROR, RegistryMessages.OWNER_NAME, 0, msg, null));
-			}
-			stateStack.pop();
-			stateStack.push(Integer.valueOf(IGNORED_ELEMENT_STATE));
-			return;
-		}
 		if (currentExtPoint.getNamespace() == null) {
 			currentExtPoint.setNamespace(contribution.getDefaultNamespace());
 		}
 		currentExtPoint.setContributorId(contribution.getContributorId());
-		addedRegistryObjects.add(currentExtPoint);
+		// duplicate extension points are dropped when the contribution is added
+		addParsedObject(currentExtPoint);
 
 		// Now populate the the vector just below us on the objectStack with this
 		// extension point
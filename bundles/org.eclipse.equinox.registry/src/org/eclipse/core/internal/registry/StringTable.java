@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.registry;
+
+import java.io.*;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The strings of the registry cache. Every distinct string is stored once and
+ * the main and extra data files refer to it by its index. The format is:
+ *
+ * <pre>
+ * count, offset[0] ... offset[count], UTF-8 bytes of all strings
+ * </pre>
+ *
+ * where the bytes of string <code>i</code> range from <code>offset[i]</code> to
+ * <code>offset[i + 1]</code>.
+ * <p>
+ * The reader loads the file into memory and decodes a string the first time it
+ * is asked for. The file is not kept open or mapped, so it can be deleted once
+ * the cache is rewritten. Decoded strings are kept softly reachable, so
+ * re-reading registry objects after their soft references have been cleared
+ * does not decode their strings again unless memory ran low in between.
+ * </p>
+ */
+public final class StringTable {
+	// Index of the null string
+	static final int NULL = -1;
+
+	private final ByteBuffer buffer;
+	private final int size;
+	private final int dataStart;
+	// Strings are immutable, so racing threads at worst decode a string twice
+	private volatile SoftReference<String[]> decoded = new SoftReference<>(null);
+
+	private StringTable(ByteBuffer buffer) throws IOException {
+		this.buffer = buffer;
+		if (buffer.limit() < 4) {
+			throw new EOFException();
+		}
+		this.size = buffer.getInt(0);
+		if (size < 0 || 4 + 4 * ((long) size + 1) > buffer.limit()) {
+			throw new IOException("Inconsistent string table"); //$NON-NLS-1$
+		}
+		this.dataStart = 4 + 4 * (size + 1);
+		// check the offsets up front so that a corrupt table rejects the whole cache
+		int previous = 0;
+		for (int i = 0; i <= size; i++) {
+			int offset = buffer.getInt(4 + 4 * i);
+			if (offset < previous || (i == 0 && offset != 0)) {
+				throw new IOException("Inconsistent string table"); //$NON-NLS-1$
+			}
+			previous = offset;
+		}
+		if ((long) dataStart + previous != buffer.limit()) {
+			throw new IOException("Inconsistent string table"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Loads the given string table file into memory.
+	 */
+	static StringTable load(File file) throws IOException {
+		return new StringTable(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the string with the given index, or <code>null</code> for
+	 * {@link #NULL}.
+	 */
+	String get(int index) throws IOException {
+		if (index == NULL) {
+			return null;
+		}
+		if (index < 0 || index >= size) {
+			throw new IOException("Invalid string index: " + index); //$NON-NLS-1$
+		}
+		String[] strings = decoded.get();
+		if (strings == null) {
+			strings = new String[size];
+			decoded = new SoftReference<>(strings);
+		}
+		String result = strings[index];
+		if (result == null) {
+			int start = buffer.getInt(4 + 4 * index);
+			int end = buffer.getInt(4 + 4 * (index + 1));
+			byte[] data = new byte[end - start];
+			buffer.get(dataStart + start, data);
+			result = new String(data, StandardCharsets.UTF_8);
+			strings[index] = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Collects the strings while the cache is written.
+	 */
+	static class Builder {
+		private final Map<String, Integer> indexes = new HashMap<>();
+		private final List<byte[]> strings = new ArrayList<>();
+		private int length;
+
+		/**
+		 * Returns the index of the given string, adding it to the table if necessary.
+		 */
+		int indexOf(String string) {
+			if (string == null) {
+				return NULL;
+			}
+			Integer index = indexes.get(string);
+			if (index == null) {
+				byte[] data = string.getBytes(StandardCharsets.UTF_8);
+				index = Integer.valueOf(strings.size());
+				indexes.put(string, index);
+				strings.add(data);
+				length += data.length;
+			}
+			return index.intValue();
+		}
+
+		void save(DataOutputStream out) throws IOException {
+			out.writeInt(strings.size());
+			int offset = 0;
+			for (byte[] data : strings) {
+				out.writeInt(offset);
+				offset += data.length;
+			}
+			out.writeInt(length);
+			for (byte[] data : strings) {
+				out.write(data);
+			}
+		}
+	}
+}
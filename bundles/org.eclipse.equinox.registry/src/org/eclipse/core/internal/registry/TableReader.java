@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2018 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,7 +30,7 @@ public class TableReader {
 	static final int LOBJECT = 2;
 
 	// The version of the cache
-	static final int CACHE_VERSION = 8;
+	static final int CACHE_VERSION = 9;
 	// Version 1 -> 2: the contributor Ids changed from "long" to "String"
 	// Version 2 -> 3: added namespace index and the table of contributors
 	// Version 3 -> 4: offset table saved in a binary form (performance)
@@ -40,6 +40,8 @@ public class TableReader {
 	// optimization)
 	// Version 6 -> 7: added option for multi-language support
 	// Version 7 -> 8: added support for large UTF-8 strings
+	// Version 8 -> 9: the main and extra data files refer to the strings of the
+	// string table
 
 	// Informations representing the MAIN file
 	static final String MAIN = ".mainData"; //$NON-NLS-1$
@@ -71,6 +73,11 @@ public class TableReader {
 	static final String ORPHANS = ".orphans"; //$NON-NLS-1$
 	File orphansFile;
 
+	// The string table
+	static final String STRINGS = ".strings"; //$NON-NLS-1$
+	File stringsFile;
+	private StringTable strings;
+
 	// Status code
 	private static final byte fileError = 0;
 	private static final boolean DEBUG = false; // TODO need to change
@@ -111,6 +118,10 @@ public class TableReader {
 		orphansFile = orphan;
 	}
 
+	void setStringsFile(File file) {
+		stringsFile = file;
+	}
+
 	public TableReader(ExtensionRegistry registry) {
 		this.registry = registry;
 	}
@@ -126,6 +137,7 @@ public class TableReader {
 				return null;
 			}
 
+			strings = StringTable.load(stringsFile);
 			Integer nextId = Integer.valueOf(tableInput.readInt());
 			OffsetTable offsets = OffsetTable.load(tableInput);
 			extensionPoints = new HashtableOfStringAndInt();
@@ -164,6 +176,7 @@ public class TableReader {
 			long contributorsFileSize = in.readLong();
 			long namespacesFileSize = in.readLong();
 			long orphansFileSize = in.readLong();
+			long stringsFileSize = in.readLong();
 			String osStamp = readUTF(in, OBJECT);
 			String windowsStamp = readUTF(in, OBJECT);
 			String localeStamp = readUTF(in, OBJECT);
@@ -189,8 +202,10 @@ public class TableReader {
 			boolean validContributors = (contributorsFileSize == contributorsFile.length());
 			boolean validNamespace = (namespacesFileSize == namespacesFile.length());
 			boolean validOrphan = (orphansFileSize == orphansFile.length());
+			boolean validStrings = (stringsFile != null && stringsFileSize == stringsFile.length());
 
-			return (validMain && validExtra && validContrib && validContributors && validNamespace && validOrphan);
+			return (validMain && validExtra && validContrib && validContributors && validNamespace && validOrphan
+					&& validStrings);
 		} catch (IOException e) {
 			log(new Status(IStatus.ERROR, RegistryMessages.OWNER_NAME, fileError,
 					RegistryMessages.meta_registryCacheInconsistent, e));
@@ -218,8 +233,8 @@ public class TableReader {
 	private ConfigurationElement basicLoadConfigurationElement(DataInputStream is, String actualContributorId)
 			throws IOException {
 		int self = is.readInt();
-		String contributorId = readStringOrNull(is);
-		String name = readStringOrNull(is);
+		String contributorId = readStringReference(is);
+		String name = readStringReference(is);
 		int parentId = is.readInt();
 		byte parentType = is.readByte();
 		int misc = is.readInt();// this is set in second level CEs, to indicate where in the extra data file the
@@ -257,7 +272,7 @@ public class TableReader {
 		}
 		String[] result = new String[size];
 		for (int i = 0; i < size; i++) {
-			result[i] = readStringOrNull(is);
+			result[i] = readStringReference(is);
 		}
 		return result;
 	}
@@ -312,7 +327,7 @@ public class TableReader {
 		}
 		String[] properties = new String[numberOfProperties];
 		for (int i = 0; i < numberOfProperties; i++) {
-			properties[i] = readStringOrNull(inputStream);
+			properties[i] = readStringReference(inputStream);
 		}
 		return properties;
 	}
@@ -336,8 +351,8 @@ public class TableReader {
 
 	private Extension basicLoadExtension(DataInputStream inputStream) throws IOException {
 		int self = inputStream.readInt();
-		String simpleId = readStringOrNull(mainInput);
-		String namespace = readStringOrNull(mainInput);
+		String simpleId = readStringReference(mainInput);
+		String namespace = readStringReference(mainInput);
 		int[] children = readArray(mainInput);
 		int extraData = mainInput.readInt();
 		return getObjectFactory().createExtension(self, simpleId, namespace, children, extraData, true);
@@ -426,6 +441,10 @@ public class TableReader {
 		return readUTF(in, type);
 	}
 
+	private String readStringReference(DataInputStream in) throws IOException {
+		return strings.get(in.readInt());
+	}
+
 	public String[] loadExtensionExtraData(int dataPosition) {
 		try {
 			synchronized (extraDataFile) {
@@ -444,8 +463,8 @@ public class TableReader {
 	}
 
 	private String[] basicLoadExtensionExtraData() throws IOException {
-		return new String[] { readStringOrNull(extraInput), readStringOrNull(extraInput),
-				readStringOrNull(extraInput) };
+		return new String[] { readStringReference(extraInput), readStringReference(extraInput),
+				readStringReference(extraInput) };
 	}
 
 	public String[] loadExtensionPointExtraData(int offset) {
@@ -467,11 +486,11 @@ public class TableReader {
 
 	private String[] basicLoadExtensionPointExtraData() throws IOException {
 		String[] result = new String[5];
-		result[0] = readStringOrNull(extraInput); // the label
-		result[1] = readStringOrNull(extraInput); // the schema
-		result[2] = readStringOrNull(extraInput); // the fully qualified name
-		result[3] = readStringOrNull(extraInput); // the namespace
-		result[4] = readStringOrNull(extraInput); // the contributor Id
+		result[0] = readStringReference(extraInput); // the label
+		result[1] = readStringReference(extraInput); // the schema
+		result[2] = readStringReference(extraInput); // the fully qualified name
+		result[3] = readStringReference(extraInput); // the namespace
+		result[4] = readStringReference(extraInput); // the contributor Id
 		return result;
 	}
 
@@ -698,6 +717,7 @@ public class TableReader {
 			if (extraInput != null) {
 				extraInput.close();
 			}
+			strings = null;
 		} catch (IOException e) {
 			log(new Status(IStatus.ERROR, RegistryMessages.OWNER_NAME, fileError,
 					RegistryMessages.meta_registryCacheReadProblems, e));
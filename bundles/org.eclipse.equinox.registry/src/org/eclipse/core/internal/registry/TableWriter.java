@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2016 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ public class TableWriter {
 	File contributorsFile;
 	File namespacesFile;
 	File orphansFile;
+	File stringsFile;
 
 	void setMainDataFile(File main) {
 		mainDataFile = main;
@@ -59,12 +60,18 @@ public class TableWriter {
 		orphansFile = orphan;
 	}
 
+	void setStringsFile(File strings) {
+		stringsFile = strings;
+	}
+
 	DataOutputStream mainOutput;
 	DataOutputStream extraOutput;
 	FileOutputStream mainFileOutput = null;
 	FileOutputStream extraFileOutput = null;
 
 	private OffsetTable offsets;
+	// The strings referenced from the main and extra data files
+	private StringTable.Builder strings;
 
 	private final ExtensionRegistry registry;
 	private RegistryObjectManager objectManager;
@@ -150,6 +157,7 @@ public class TableWriter {
 	private void saveExtensionRegistry(long timestamp) throws IOException {
 		ExtensionPointHandle[] points = objectManager.getExtensionPointsHandles();
 		offsets = new OffsetTable(objectManager.getNextId());
+		strings = new StringTable.Builder();
 		for (ExtensionPointHandle point : points) {
 			saveExtensionPoint(point);
 		}
@@ -157,6 +165,7 @@ public class TableWriter {
 		saveContributions(objectManager.getContributions());
 		saveContributors(objectManager.getContributors());
 		saveNamespaces(objectManager.getNamespacesIndex());
+		saveStrings();
 		closeFiles(); // Close the files here so we can write the appropriate size information in the
 						// table file.
 		saveTables(timestamp); // Write the table last so if that is something went wrong we can know
@@ -272,6 +281,15 @@ public class TableWriter {
 		}
 	}
 
+	private void saveStrings() throws IOException {
+		try (FileOutputStream fosStrings = new FileOutputStream(stringsFile);
+				DataOutputStream outputStrings = new DataOutputStream(new BufferedOutputStream(fosStrings))) {
+			strings.save(outputStrings);
+			outputStrings.flush();
+			fosStrings.getFD().sync();
+		}
+	}
+
 	private void saveTables(long registryTimeStamp) throws IOException {
 		try (FileOutputStream fosTable = new FileOutputStream(tableFile);
 				DataOutputStream outputTable = new DataOutputStream(new BufferedOutputStream(fosTable))) {
@@ -294,6 +312,7 @@ public class TableWriter {
 		output.writeLong(contributorsFile.length());
 		output.writeLong(namespacesFile.length());
 		output.writeLong(orphansFile.length());
+		output.writeLong(stringsFile.length());
 		output.writeUTF(RegistryProperties.getProperty(IRegistryConstants.PROP_OS, RegistryProperties.empty));
 		output.writeUTF(RegistryProperties.getProperty(IRegistryConstants.PROP_WS, RegistryProperties.empty));
 		output.writeUTF(RegistryProperties.getProperty(IRegistryConstants.PROP_NL, RegistryProperties.empty));
@@ -332,8 +351,8 @@ public class TableWriter {
 		}
 		offsets.put(ext.getId(), outputStream.size());
 		outputStream.writeInt(ext.getId());
-		writeStringOrNull(ext.getSimpleIdentifier(), outputStream);
-		writeStringOrNull(ext.getNamespaceIdentifier(), outputStream);
+		writeStringReference(ext.getSimpleIdentifier(), outputStream);
+		writeStringReference(ext.getNamespaceIdentifier(), outputStream);
 		saveArray(filter(ext.getObject().getRawChildren()), outputStream);
 		outputStream.writeInt(getExtraDataPosition());
 		saveExtensionData(ext);
@@ -342,7 +361,7 @@ public class TableWriter {
 	private void writeStringArray(String[] array, DataOutputStream outputStream) throws IOException {
 		outputStream.writeInt(array == null ? 0 : array.length);
 		for (int i = 0; i < (array == null ? 0 : array.length); i++) {
-			writeStringOrNull(array[i], outputStream);
+			writeStringReference(array[i], outputStream);
 		}
 	}
 
@@ -352,7 +371,7 @@ public class TableWriter {
 			return;
 		}
 		for (int i = 0; i < size; i++) {
-			writeStringOrNull(array[i], outputStream);
+			writeStringReference(array[i], outputStream);
 		}
 	}
 
@@ -372,8 +391,8 @@ public class TableWriter {
 		currentOutput.writeInt(element.getId());
 		ConfigurationElement actualCe = (ConfigurationElement) element.getObject();
 
-		writeStringOrNull(actualCe.getContributorId(), currentOutput);
-		writeStringOrNull(actualCe.getName(), currentOutput);
+		writeStringReference(actualCe.getContributorId(), currentOutput);
+		writeStringReference(actualCe.getName(), currentOutput);
 		currentOutput.writeInt(actualCe.parentId);
 		currentOutput.writeByte(actualCe.parentType);
 		currentOutput.writeInt(depth > 1 ? extraOutputStream.size() : -1);
@@ -429,17 +448,17 @@ public class TableWriter {
 	}
 
 	private void saveExtensionPointData(ExtensionPointHandle xpt) throws IOException {
-		writeStringOrNull(xpt.getLabelAsIs(), extraOutput);
-		writeStringOrNull(xpt.getSchemaReference(), extraOutput);
-		writeStringOrNull(xpt.getUniqueIdentifier(), extraOutput);
-		writeStringOrNull(xpt.getNamespaceIdentifier(), extraOutput);
-		writeStringOrNull(((ExtensionPoint) xpt.getObject()).getContributorId(), extraOutput);
+		writeStringReference(xpt.getLabelAsIs(), extraOutput);
+		writeStringReference(xpt.getSchemaReference(), extraOutput);
+		writeStringReference(xpt.getUniqueIdentifier(), extraOutput);
+		writeStringReference(xpt.getNamespaceIdentifier(), extraOutput);
+		writeStringReference(((ExtensionPoint) xpt.getObject()).getContributorId(), extraOutput);
 	}
 
 	private void saveExtensionData(ExtensionHandle extension) throws IOException {
-		writeStringOrNull(extension.getLabelAsIs(), extraOutput);
-		writeStringOrNull(extension.getExtensionPointUniqueIdentifier(), extraOutput);
-		writeStringOrNull(extension.getContributorId(), extraOutput);
+		writeStringReference(extension.getLabelAsIs(), extraOutput);
+		writeStringReference(extension.getExtensionPointUniqueIdentifier(), extraOutput);
+		writeStringReference(extension.getContributorId(), extraOutput);
 	}
 
 	private void writeStringOrNull(String string, DataOutputStream out) throws IOException {
@@ -458,6 +477,11 @@ public class TableWriter {
 		}
 	}
 
+	// Strings of the main and extra data files are stored once in the string table
+	private void writeStringReference(String string, DataOutputStream out) throws IOException {
+		out.writeInt(strings.indexOf(string));
+	}
+
 	private void saveOrphans() throws IOException {
 		Map<String, int[]> orphans = objectManager.getOrphanExtensions();
 		Map<String, int[]> filteredOrphans = new HashMap<>();
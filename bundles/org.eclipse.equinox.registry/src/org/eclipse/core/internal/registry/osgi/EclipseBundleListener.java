@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2018 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,8 @@ package org.eclipse.core.internal.registry.osgi;
 import java.io.*;
 import java.net.URL;
 import java.util.*;
-import org.eclipse.core.internal.registry.ExtensionRegistry;
-import org.eclipse.core.internal.registry.RegistryMessages;
+import java.util.concurrent.*;
+import org.eclipse.core.internal.registry.*;
 import org.eclipse.core.internal.runtime.ResourceTranslator;
 import org.eclipse.core.internal.runtime.RuntimeLog;
 import org.eclipse.core.runtime.*;
@@ -89,6 +89,11 @@ public class EclipseBundleListener implements SynchronousBundleListener {
 	}
 
 	public void processBundles(Bundle[] bundles) {
+		if (bundles.length > 1 && "true" //$NON-NLS-1$
+				.equalsIgnoreCase(RegistryProperties.getProperty(IRegistryConstants.PROP_PARALLEL_PARSING))) {
+			processBundlesInParallel(bundles);
+			return;
+		}
 		for (Bundle bundle : bundles) {
 			if (isBundleResolved(bundle)) {
 				addBundle(bundle, false);
@@ -98,6 +103,80 @@ public class EclipseBundleListener implements SynchronousBundleListener {
 		}
 	}
 
+	/*
+	 * Parses the extension manifests of the bundles with a pool of threads. The
+	 * parsed contributions are added to the registry one at a time in the order of
+	 * the bundles. Object ids are handed out and extension points registered only
+	 * when a contribution is added, so the registry ends up with the same contents
+	 * as if the bundles had been processed sequentially.
+	 */
+	private void processBundlesInParallel(Bundle[] bundles) {
+		int threads = Math.min(bundles.length, Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "Registry Parser"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<Runnable>> additions = new ArrayList<>(bundles.length);
+			for (Bundle bundle : bundles) {
+				if (isBundleResolved(bundle)) {
+					IContributor contributor = ContributorFactoryOSGi.createContributor(bundle);
+					URL pluginManifest = getManifestToAdd(bundle, contributor);
+					if (pluginManifest != null) {
+						additions.add(executor.submit(() -> parseBundle(bundle, contributor, pluginManifest)));
+					}
+				} else {
+					removeBundle(bundle);
+				}
+			}
+			boolean interrupted = false;
+			for (Future<Runnable> addition : additions) {
+				while (true) {
+					try {
+						Runnable add = addition.get();
+						if (add != null) {
+							add.run();
+						}
+						break;
+					} catch (InterruptedException e) {
+						// the bundles must be added anyway
+						interrupted = true;
+					} catch (ExecutionException e) {
+						Throwable cause = e.getCause();
+						if (cause instanceof RuntimeException) {
+							throw (RuntimeException) cause;
+						}
+						if (cause instanceof Error) {
+							throw (Error) cause;
+						}
+						throw new IllegalStateException(cause);
+					}
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/*
+	 * Parses the extension manifest of the bundle and returns the task that adds
+	 * the contribution to the registry, or null if there is nothing to add.
+	 */
+	private Runnable parseBundle(Bundle bundle, IContributor contributor, URL pluginManifest) {
+		InputStream is = openManifest(pluginManifest);
+		if (is == null) {
+			return null;
+		}
+		Contribution contribution = registry.parseContribution(is, contributor, true, pluginManifest.getPath(),
+				getTranslationBundle(bundle), token);
+		long timestamp = getTimestamp(bundle, pluginManifest);
+		return () -> registry.addContribution(contribution, timestamp);
+	}
+
 	private boolean isBundleResolved(Bundle bundle) {
 		return (bundle.getState() & (Bundle.RESOLVED | Bundle.ACTIVE | Bundle.STARTING | Bundle.STOPPING)) != 0;
 	}
@@ -167,37 +246,50 @@ public class EclipseBundleListener implements SynchronousBundleListener {
 		if (checkNLSFragments) {
 			checkForNLSFragment(bundle);
 		}
-		// if the given bundle already exists in the registry then return.
-		// note that this does not work for update cases.
 		IContributor contributor = ContributorFactoryOSGi.createContributor(bundle);
-		if (registry.hasContributor(contributor)) {
+		URL pluginManifest = getManifestToAdd(bundle, contributor);
+		if (pluginManifest == null) {
 			return;
 		}
-		URL pluginManifest = getExtensionURL(bundle, true);
-		if (pluginManifest == null) {
+		InputStream is = openManifest(pluginManifest);
+		if (is == null) {
 			return;
 		}
-		InputStream is;
+		registry.addContribution(is, contributor, true, pluginManifest.getPath(), getTranslationBundle(bundle), token,
+				getTimestamp(bundle, pluginManifest));
+	}
+
+	private URL getManifestToAdd(Bundle bundle, IContributor contributor) {
+		// if the given bundle already exists in the registry then return.
+		// note that this does not work for update cases.
+		if (registry.hasContributor(contributor)) {
+			return null;
+		}
+		return getExtensionURL(bundle, true);
+	}
+
+	private static InputStream openManifest(URL pluginManifest) {
 		try {
-			is = new BufferedInputStream(pluginManifest.openStream());
+			return new BufferedInputStream(pluginManifest.openStream());
 		} catch (IOException ex) {
-			is = null;
-		}
-		if (is == null) {
-			return;
+			return null;
 		}
+	}
 
-		ResourceBundle translationBundle = null;
+	private static ResourceBundle getTranslationBundle(Bundle bundle) {
 		try {
-			translationBundle = ResourceTranslator.getResourceBundle(bundle);
+			return ResourceTranslator.getResourceBundle(bundle);
 		} catch (MissingResourceException e) {
 			// Ignore the exception
+			return null;
 		}
-		long timestamp = 0;
+	}
+
+	private long getTimestamp(Bundle bundle, URL pluginManifest) {
 		if (strategy.checkContributionsTimestamp()) {
-			timestamp = strategy.getExtendedTimestamp(bundle, pluginManifest);
+			return strategy.getExtendedTimestamp(bundle, pluginManifest);
 		}
-		registry.addContribution(is, contributor, true, pluginManifest.getPath(), translationBundle, token, timestamp);
+		return 0;
 	}
 
 	private void checkForNLSFragment(Bundle bundle) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 
 package org.eclipse.equinox.internal.transforms;
 
+import java.io.IOException;
 import java.net.URL;
 import java.util.regex.Pattern;
 
@@ -32,4 +33,21 @@ public class TransformTuple {
 	public Pattern bundlePattern;
 	public Pattern pathPattern;
 	public URL transformerUrl;
+	private volatile String transformerDigest;
+
+	/**
+	 * Return a digest of the content at the transformer URL. The content is only
+	 * read the first time.
+	 *
+	 * @return the digest
+	 * @throws IOException thrown if the content cannot be read
+	 */
+	String getTransformerDigest() throws IOException {
+		String digest = transformerDigest;
+		if (digest == null) {
+			digest = TransformedEntryCache.digest(transformerUrl);
+			transformerDigest = digest;
+		}
+		return digest;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2013 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,12 +25,16 @@ import org.eclipse.osgi.storage.BundleInfo.Generation;
 import org.eclipse.osgi.storage.StorageUtil;
 import org.eclipse.osgi.storage.bundlefile.*;
 import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * This class is capable of providing transformed versions of entries contained
  * within a base bundle file. For requests that transform bundle contents into
  * local resources (such as file URLs) the transformed state of the bundle is
- * written to the configuration area.
+ * written to the configuration area. Unless disabled with
+ * {@link TransformerHook#PROP_CACHE}, transformed entries are also cached in
+ * the storage area of the bundle so that they are not transformed again on the
+ * next launch.
  */
 public class TransformedBundleFile extends BundleFileWrapper {
 
@@ -71,6 +75,35 @@ public class TransformedBundleFile extends BundleFileWrapper {
 			return original;
 		}
 
+		final Bundle bundle = generation.getRevision().getBundle();
+		// directory entries are not cached; their cache files would hide the cache
+		// files of their content
+		final String cacheKey = transformerHook.isCacheEnabled() && !path.endsWith("/") //$NON-NLS-1$
+				? getCacheKey(original, bundle, path)
+				: null;
+		if (cacheKey != null) {
+			final File cacheFile = getCacheFile(path);
+			if (cacheFile.isFile()) {
+				// only transform if the cached entry turns out to be stale
+				return new TransformedBundleEntry(this, original, new LazyInputStream(new InputStreamProvider() {
+
+					@Override
+					public InputStream getInputStream() throws IOException {
+						InputStream cached = TransformedEntryCache.read(cacheFile, cacheKey);
+						if (cached != null) {
+							return cached;
+						}
+						InputStream transformed = TransformedBundleFile.this
+								.getInputStream(new LazyInputStream(original::getInputStream), bundle, path);
+						if (transformed == null) {
+							return original.getInputStream();
+						}
+						return TransformedEntryCache.write(cacheFile, cacheKey, transformed);
+					}
+				}));
+			}
+		}
+
 		LazyInputStream stream = new LazyInputStream(new InputStreamProvider() {
 
 			@Override
@@ -78,13 +111,59 @@ public class TransformedBundleFile extends BundleFileWrapper {
 				return original.getInputStream();
 			}
 		});
-		InputStream wrappedStream = getInputStream(stream, generation.getRevision().getBundle(), path);
+		InputStream wrappedStream = getInputStream(stream, bundle, path);
 		if (wrappedStream == null) {
 			return original;
 		}
+		if (cacheKey != null) {
+			wrappedStream = TransformedEntryCache.write(getCacheFile(path), cacheKey, wrappedStream);
+		}
 		return new TransformedBundleEntry(this, original, wrappedStream);
 	}
 
+	/**
+	 * Return the key of the cached transformed entry for the given path. The key
+	 * identifies the original entry, the transformer with its version and the
+	 * content of the transform template, so that a cached entry is not used
+	 * anymore once any of these change.
+	 *
+	 * @return the key or <code>null</code> if no transform applies to the entry or
+	 *         the transform cannot be identified
+	 */
+	private String getCacheKey(BundleEntry original, Bundle bundle, String path) {
+		String namespace = bundle.getSymbolicName();
+		for (String transformType : transformerHook.getTransformTypes()) {
+			StreamTransformer transformer = transformerHook.getTransformer(transformType);
+			if (transformer == null) {
+				continue;
+			}
+			TransformTuple[] transformTuples = transformerHook.getTransformsFor(transformType);
+			if (transformTuples == null) {
+				continue;
+			}
+			for (TransformTuple transformTuple : transformTuples) {
+				if (match(transformTuple.bundlePattern, namespace) && match(transformTuple.pathPattern, path)) {
+					Object impl = transformer instanceof ProxyStreamTransformer
+							? ((ProxyStreamTransformer) transformer).getTransformer()
+							: transformer;
+					Bundle implBundle = FrameworkUtil.getBundle(impl.getClass());
+					try {
+						return TransformedEntryCache.createKey(path, Long.toString(original.getTime()),
+								Long.toString(original.getSize()), transformType, impl.getClass().getName(),
+								implBundle == null ? null : implBundle.getVersion().toString(),
+								implBundle == null ? null : Long.toString(implBundle.getLastModified()),
+								transformTuple.transformerUrl.toExternalForm(),
+								transformTuple.getTransformerDigest());
+					} catch (IOException e) {
+						// the template cannot be read; do not cache
+						return null;
+					}
+				}
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Return the input stream that results from applying the given transformer URL
 	 * to the provided input stream.
@@ -230,7 +309,14 @@ public class TransformedBundleFile extends BundleFileWrapper {
 	}
 
 	protected File getExtractFile(String entryName) {
-		String path = ".tf"; /* put all these entries in this subdir *///$NON-NLS-1$
+		return getStorageFile(".tf", entryName); /* put all these entries in this subdir *///$NON-NLS-1$
+	}
+
+	private File getCacheFile(String entryName) {
+		return getStorageFile(".tfcache", entryName); //$NON-NLS-1$
+	}
+
+	private File getStorageFile(String path, String entryName) {
 		String name = entryName.replace('/', File.separatorChar);
 		/*
 		 * if name has a leading slash
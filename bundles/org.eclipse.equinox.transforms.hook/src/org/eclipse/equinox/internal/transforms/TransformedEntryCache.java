@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.equinox.internal.transforms;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Stores transformed entries on disk so that a transform does not need to be
+ * repeated as long as neither the original entry nor the transformer change.
+ * Each cache file starts with the key it was written for, followed by the
+ * transformed bytes. A cache file with a different key is a miss and gets
+ * overwritten with the new result.
+ */
+final class TransformedEntryCache {
+
+	private TransformedEntryCache() {
+		// no instances
+	}
+
+	/**
+	 * Returns a digest of the given key parts that can be used as the key of a
+	 * cache file.
+	 *
+	 * @param parts the parts that identify a transformed entry
+	 * @return the key
+	 */
+	static String createKey(String... parts) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			for (String part : parts) {
+				digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+			}
+			return toHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns a digest of the content at the given URL.
+	 *
+	 * @param url the URL
+	 * @return the digest
+	 * @throws IOException if the content cannot be read
+	 */
+	static String digest(java.net.URL url) throws IOException {
+		try (InputStream in = url.openStream()) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			byte[] buffer = new byte[8192];
+			for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+				digest.update(buffer, 0, read);
+			}
+			return toHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder result = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Opens the transformed content cached for the given key.
+	 *
+	 * @param cacheFile the cache file
+	 * @param key       the key of the transformed entry
+	 * @return the transformed content or <code>null</code> if the cache file does
+	 *         not exist or was written for a different key
+	 */
+	static InputStream read(File cacheFile, String key) {
+		if (!cacheFile.isFile()) {
+			return null;
+		}
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)));
+			if (key.equals(in.readUTF())) {
+				return in;
+			}
+		} catch (IOException e) {
+			// treat as a miss; the file gets rewritten
+		}
+		if (in != null) {
+			try {
+				in.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a stream that reads the given transformed stream and stores its
+	 * content in the cache file once it has been read completely.
+	 *
+	 * @param cacheFile   the cache file
+	 * @param key         the key of the transformed entry
+	 * @param transformed the transformed stream
+	 * @return the stream to read the transformed content from
+	 */
+	static InputStream write(File cacheFile, String key, InputStream transformed) {
+		return new CachingInputStream(transformed, cacheFile, key);
+	}
+
+	private static final class CachingInputStream extends FilterInputStream {
+		private final File cacheFile;
+		private final String key;
+		private ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+		CachingInputStream(InputStream in, File cacheFile, String key) {
+			super(in);
+			this.cacheFile = cacheFile;
+			this.key = key;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b == -1) {
+				store();
+			} else if (content != null) {
+				content.write(b);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read == -1) {
+				store();
+			} else if (content != null) {
+				content.write(b, off, read);
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			// read the skipped bytes so that they get cached
+			byte[] buffer = new byte[(int) Math.min(n, 8192)];
+			long skipped = 0;
+			while (skipped < n) {
+				int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+				if (read == -1) {
+					break;
+				}
+				skipped += read;
+			}
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// an incompletely read stream is not cached
+			content = null;
+			super.close();
+		}
+
+		private void store() {
+			if (content == null) {
+				return;
+			}
+			byte[] bytes = content.toByteArray();
+			content = null;
+			File dir = cacheFile.getParentFile();
+			File tempFile = null;
+			try {
+				if (!dir.isDirectory() && !dir.mkdirs()) {
+					return;
+				}
+				tempFile = File.createTempFile(cacheFile.getName(), ".tmp", dir); //$NON-NLS-1$
+				try (DataOutputStream out = new DataOutputStream(
+						new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+					out.writeUTF(key);
+					out.write(bytes);
+				}
+				try {
+					Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+							StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+				tempFile = null;
+			} catch (IOException | SecurityException e) {
+				// the storage may be read-only; the entry is transformed again next time
+			} finally {
+				if (tempFile != null) {
+					tempFile.delete();
+				}
+			}
+		}
+	}
+}
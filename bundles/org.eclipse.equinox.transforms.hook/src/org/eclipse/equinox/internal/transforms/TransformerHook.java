@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,9 +28,16 @@ import org.osgi.framework.*;
  */
 public class TransformerHook
 		implements BundleFileWrapperFactoryHook, HookConfigurator, ActivatorHookFactory, BundleActivator {
+	/**
+	 * Configuration property that controls whether transformed entries are cached
+	 * in the storage area of their bundle. Caching is enabled unless the property
+	 * is set to <code>false</code>.
+	 */
+	public static final String PROP_CACHE = "equinox.transforms.cache"; //$NON-NLS-1$
 	private volatile TransformerList transformers;
 	private volatile TransformInstanceListData templates;
 	private EquinoxLogServices logServices;
+	private boolean cacheEnabled = true;
 
 	@Override
 	public BundleFileWrapper wrapBundleFile(BundleFile bundleFile, Generation generation, boolean base) {
@@ -45,6 +52,7 @@ public class TransformerHook
 		hookRegistry.addActivatorHookFactory(this);
 		hookRegistry.addBundleFileWrapperFactoryHook(this);
 		logServices = hookRegistry.getContainer().getLogServices();
+		cacheEnabled = !"false".equalsIgnoreCase(hookRegistry.getConfiguration().getConfiguration(PROP_CACHE)); //$NON-NLS-1$
 	}
 
 	@Override
@@ -106,6 +114,10 @@ public class TransformerHook
 		return current == null ? false : current.hasTransformers();
 	}
 
+	public boolean isCacheEnabled() {
+		return cacheEnabled;
+	}
+
 	public boolean hasTransformsFor(Bundle bundle) {
 		TransformInstanceListData current = templates;
 		return current == null ? false : current.hasTransformsFor(bundle);
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.internal.transforms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.eclipse.osgi.container.ModuleRevision;
+import org.eclipse.osgi.launch.EquinoxFactory;
+import org.eclipse.osgi.storage.BundleInfo.Generation;
+import org.eclipse.osgi.storage.bundlefile.BundleEntry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.Constants;
+import org.osgi.framework.launch.Framework;
+import org.osgi.framework.wiring.BundleRevision;
+
+/**
+ * Tests the cache of transformed entries in {@link TransformedBundleFile}.
+ */
+public class TransformedBundleFileTest {
+
+	private static final String ENTRY = "data.txt";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final AtomicInteger transforms = new AtomicInteger();
+	private final StreamTransformer transformer = new StreamTransformer() {
+		@Override
+		public InputStream getInputStream(InputStream inputStream, URL transformerUrl) throws IOException {
+			transforms.incrementAndGet();
+			byte[] template;
+			try (InputStream in = transformerUrl.openStream()) {
+				template = in.readAllBytes();
+			}
+			String transformed = new String(template, StandardCharsets.UTF_8)
+					+ new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+			return new ByteArrayInputStream(transformed.getBytes(StandardCharsets.UTF_8));
+		}
+	};
+
+	private Framework framework;
+	private Generation generation;
+	private File entry;
+	private File template;
+	private TransformTuple transformTuple;
+
+	@Before
+	public void setUp() throws Exception {
+		File bundleDir = folder.newFolder("bundle");
+		File manifest = new File(bundleDir, "META-INF/MANIFEST.MF");
+		manifest.getParentFile().mkdirs();
+		Files.writeString(manifest.toPath(),
+				"Manifest-Version: 1.0\nBundle-ManifestVersion: 2\nBundle-SymbolicName: test.transformed\n");
+		entry = new File(bundleDir, ENTRY);
+		Files.writeString(entry.toPath(), "original");
+		template = folder.newFile("template.txt");
+		Files.writeString(template.toPath(), "template1:");
+		transformTuple = createTransformTuple();
+
+		Map<String, String> configuration = new HashMap<>();
+		configuration.put(Constants.FRAMEWORK_STORAGE, folder.newFolder("storage").getAbsolutePath());
+		framework = new EquinoxFactory().newFramework(configuration);
+		framework.start();
+		Bundle bundle = framework.getBundleContext().installBundle("reference:" + bundleDir.toURI());
+		generation = (Generation) ((ModuleRevision) bundle.adapt(BundleRevision.class)).getRevisionInfo();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		framework.stop();
+		framework.waitForStop(10000);
+	}
+
+	@Test
+	public void testCacheHitSkipsTransformer() throws IOException {
+		assertEquals("template1:original", read(createBundleFile().getEntry(ENTRY)));
+		assertEquals(1, transforms.get());
+		assertTrue("Missing cache file", getCacheFile().isFile());
+
+		assertEquals("template1:original", read(createBundleFile().getEntry(ENTRY)));
+		assertEquals("Cached entry transformed again", 1, transforms.get());
+	}
+
+	@Test
+	public void testEntryChangeInvalidatesCache() throws IOException {
+		assertEquals("template1:original", read(createBundleFile().getEntry(ENTRY)));
+
+		Files.writeString(entry.toPath(), "changed entry");
+		assertEquals("template1:changed entry", read(createBundleFile().getEntry(ENTRY)));
+		assertEquals(2, transforms.get());
+
+		assertEquals("template1:changed entry", read(createBundleFile().getEntry(ENTRY)));
+		assertEquals(2, transforms.get());
+	}
+
+	@Test
+	public void testTemplateChangeInvalidatesCache() throws IOException {
+		assertEquals("template1:original", read(createBundleFile().getEntry(ENTRY)));
+
+		Files.writeString(template.toPath(), "template2:");
+		// the digest of a template is only computed once for each transform tuple
+		transformTuple = createTransformTuple();
+		assertEquals("template2:original", read(createBundleFile().getEntry(ENTRY)));
+		assertEquals(2, transforms.get());
+
+		assertEquals("template2:original", read(createBundleFile().getEntry(ENTRY)));
+		assertEquals(2, transforms.get());
+	}
+
+	@Test
+	public void testPartiallyReadEntryIsNotCached() throws IOException {
+		try (InputStream in = createBundleFile().getEntry(ENTRY).getInputStream()) {
+			assertEquals('t', in.read());
+		}
+		assertFalse("Partially read entry was cached", getCacheFile().exists());
+
+		assertEquals("template1:original", read(createBundleFile().getEntry(ENTRY)));
+		assertEquals(2, transforms.get());
+	}
+
+	private TransformTuple createTransformTuple() throws IOException {
+		TransformTuple tuple = new TransformTuple();
+		tuple.bundlePattern = Pattern.compile("test\\.transformed");
+		tuple.pathPattern = Pattern.compile(".*\\.txt");
+		tuple.transformerUrl = template.toURI().toURL();
+		return tuple;
+	}
+
+	private TransformedBundleFile createBundleFile() {
+		TransformerHook hook = new TransformerHook() {
+			@Override
+			public String[] getTransformTypes() {
+				return new String[] { "test" };
+			}
+
+			@Override
+			public StreamTransformer getTransformer(String type) {
+				return transformer;
+			}
+
+			@Override
+			public TransformTuple[] getTransformsFor(String type) {
+				return new TransformTuple[] { transformTuple };
+			}
+		};
+		return new TransformedBundleFile(hook, generation, generation.getBundleFile());
+	}
+
+	private File getCacheFile() {
+		return generation.getExtractFile(".tfcache" + File.separator + ENTRY);
+	}
+
+	private static String read(BundleEntry bundleEntry) throws IOException {
+		try (InputStream in = bundleEntry.getInputStream()) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,12 +20,15 @@ import java.io.*;
  * This class facilitates the moving of data from one input stream to another.
  * Subclasses may customize the behavior of this move by overriding the
  * {@link #pipeInput(InputStream, OutputStream)} method.
+ * <p>
+ * The data is moved by the thread that first reads from the
+ * {@link #getPipedInputStream() piped input stream}; the result is buffered
+ * and then served from memory.
  */
 public class Pipe {
 
 	protected InputStream input;
-	private PipedInputStream pipedInputStream;
-	protected PipedOutputStream pipedOutputStream;
+	private final InputStream pipedInputStream;
 
 	/**
 	 * Create a new Pipe based on the provided input stream.
@@ -36,82 +39,77 @@ public class Pipe {
 	public Pipe(InputStream original) throws IOException {
 		this.input = original;
 
-		// The following streams do the majority of the work.
-		// The first operation on the input stream will provoke a new thread to start.
-		// This thread will invoke pipeInput and push the data from the original input
-		// stream to the output stream.
-		// The output stream is tied to this input stream via PipedI/OStream properties
-		// so the data is available to callers on the input stream.
-		// Any IOException thrown from within the thread will be caught and rethrown to
-		// callers of methods on this stream.
-		this.pipedInputStream = new PipedInputStream() {
-			protected IOException failure;
-			private boolean started = false;
-			protected Object lock = this;
-
-			private void start() throws IOException {
-				synchronized (lock) {
-					if (failure != null) {
-						IOException e = new IOException("Problem piping the stream."); //$NON-NLS-1$
-						e.fillInStackTrace();
-						e.initCause(failure);
+		// The first operation on the input stream invokes pipeInput to push the data
+		// from the original input stream into a buffer that the remaining operations
+		// read from. Any IOException thrown by pipeInput is rethrown to callers of
+		// methods on this stream.
+		this.pipedInputStream = new InputStream() {
+			private IOException failure;
+			private ByteArrayInputStream result;
+
+			private ByteArrayInputStream getResult() throws IOException {
+				if (failure != null) {
+					IOException e = new IOException("Problem piping the stream."); //$NON-NLS-1$
+					e.initCause(failure);
+					throw e;
+				}
+				if (result == null) {
+					ByteArrayOutputStream out = new ByteArrayOutputStream();
+					try {
+						pipeInput(input, out);
+					} catch (IOException e) {
+						failure = e;
 						throw e;
 					}
-					if (!started) {
-						started = true;
-						Thread pipeThread = new Thread(new Runnable() {
-							@Override
-							public void run() {
-								try {
-									pipeInput(input, pipedOutputStream);
-									pipedOutputStream.close();
-								} catch (IOException e) {
-									synchronized (lock) {
-										failure = e;
-									}
-								}
-							}
-						});
-						pipeThread.start();
-					}
+					result = new ByteArrayInputStream(out.toByteArray());
 				}
+				return result;
 			}
 
 			@Override
 			public synchronized int available() throws IOException {
-				start();
-				return super.available();
+				return getResult().available();
 			}
 
 			@Override
 			public synchronized int read() throws IOException {
-				start();
-				int c = super.read();
-				return c;
+				return getResult().read();
 			}
 
 			@Override
-			public int read(byte[] b) throws IOException {
-				start();
-				return super.read(b);
+			public synchronized int read(byte[] b, int off, int len) throws IOException {
+				return getResult().read(b, off, len);
 			}
 
 			@Override
-			public synchronized int read(byte[] b, int off, int len) throws IOException {
-				start();
-				return super.read(b, off, len);
+			public synchronized long skip(long n) throws IOException {
+				return getResult().skip(n);
+			}
+
+			@Override
+			public boolean markSupported() {
+				return true;
+			}
+
+			@Override
+			public synchronized void mark(int readlimit) {
+				if (result != null) {
+					result.mark(readlimit);
+				}
 			}
 
 			@Override
 			public synchronized void reset() throws IOException {
-				started = false;
-				failure = null;
-				input.reset();
-				super.reset();
+				getResult().reset();
 			}
-		};
-		this.pipedOutputStream = new PipedOutputStream(pipedInputStream);
 
+			@Override
+			public synchronized void close() throws IOException {
+				if (result != null || failure != null) {
+					input.close();
+				}
+			}
+		};
 	}
 
 	/**
@@ -135,10 +133,6 @@ public class Pipe {
 	 *                     or writing to the output stream.
 	 */
 	protected void pipeInput(InputStream original, OutputStream result) throws IOException {
-		byte[] buffer = new byte[2048];
-		int len = 0;
-		while ((len = original.read(buffer)) != 0) {
-			result.write(buffer, 0, len);
-		}
+		original.transferTo(result);
 	}
 }
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.equinox.internal.transforms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+/**
+ * Tests that {@link Pipe} transforms in the reading thread and reports transform
+ * failures to the reader.
+ */
+public class PipeTest {
+
+	@Test
+	public void testPipeInReadingThread() throws IOException {
+		AtomicInteger pipes = new AtomicInteger();
+		AtomicReference<Thread> pipingThread = new AtomicReference<>();
+		Pipe pipe = new Pipe(new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8))) {
+			@Override
+			protected void pipeInput(InputStream original, OutputStream result) throws IOException {
+				pipes.incrementAndGet();
+				pipingThread.set(Thread.currentThread());
+				super.pipeInput(original, result);
+			}
+		};
+		try (InputStream in = pipe.getPipedInputStream()) {
+			assertEquals("Piped before the first read", 0, pipes.get());
+			assertEquals("content", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+			assertEquals(-1, in.read());
+		}
+		assertEquals(1, pipes.get());
+		assertSame(Thread.currentThread(), pipingThread.get());
+	}
+
+	@Test
+	public void testTransformFailureRethrown() throws IOException {
+		IOException failure = new IOException("Could not perform transform.");
+		AtomicInteger pipes = new AtomicInteger();
+		Pipe pipe = new Pipe(new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8))) {
+			@Override
+			protected void pipeInput(InputStream original, OutputStream result) throws IOException {
+				pipes.incrementAndGet();
+				result.write("partial".getBytes(StandardCharsets.UTF_8));
+				throw failure;
+			}
+		};
+		try (InputStream in = pipe.getPipedInputStream()) {
+			assertSame(failure, assertThrows(IOException.class, in::read));
+			// later reads fail as well instead of returning a partial result
+			IOException e = assertThrows(IOException.class, in::readAllBytes);
+			assertSame(failure, e.getCause());
+		}
+		assertEquals("Transform retried", 1, pipes.get());
+	}
+}
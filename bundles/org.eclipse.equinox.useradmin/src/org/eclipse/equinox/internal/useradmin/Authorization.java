@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2001, 2008 IBM Corporation and others.
+ * Copyright (c) 2001, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.equinox.internal.useradmin;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.Vector;
 
 /**
@@ -62,6 +65,11 @@ public class Authorization implements org.osgi.service.useradmin.Authorization {
 	protected UserAdmin useradmin;
 	protected Role user;
 	protected String name; // user to distinguish between the anonymous user and user.anyone
+	// the names of all roles implied by this context, valid for one role graph version
+	private volatile ImpliedRoles impliedRoles;
+
+	private record ImpliedRoles(long version, Set<String> names) {
+	}
 
 	protected Authorization(User user, UserAdmin useradmin) {
 		this.useradmin = useradmin;
@@ -107,13 +115,7 @@ public class Authorization implements org.osgi.service.useradmin.Authorization {
 	@Override
 	public boolean hasRole(String name_) {
 		useradmin.checkAlive();
-		synchronized (useradmin) {
-			Role checkRole = (org.eclipse.equinox.internal.useradmin.Role) useradmin.getRole(name_);
-			if (checkRole == null) {
-				return (false);
-			}
-			return checkRole.isImpliedBy(user, new Vector<>());
-		}
+		return getImpliedRoles().contains(name_);
 	}
 
 	/**
@@ -126,29 +128,51 @@ public class Authorization implements org.osgi.service.useradmin.Authorization {
 	public String[] getRoles() {
 		useradmin.checkAlive();
 
+		Set<String> implied = getImpliedRoles();
+		// exclude user.anyone from the list
+		int size = implied.contains(Role.anyoneString) ? implied.size() - 1 : implied.size();
+		if (size == 0) {
+			return (null);
+		}
+		String[] copyrole = new String[size];
+		int i = 0;
+		for (String roleName : implied) {
+			if (!roleName.equals(Role.anyoneString)) {
+				copyrole[i++] = roleName;
+			}
+		}
+		return copyrole;
+	}
+
+	/**
+	 * Returns the names of all roles implied by this authorization context. The
+	 * result is cached until the roles or group members of the UserAdmin change,
+	 * so that checking roles does not need to hold the UserAdmin lock.
+	 */
+	private Set<String> getImpliedRoles() {
+		ImpliedRoles current = impliedRoles;
+		if (current != null && current.version == useradmin.roleGraphVersion) {
+			return current.names;
+		}
 		// go through all of the roles and find out which ones are implied by this
 		// authorization context.
 		synchronized (useradmin) // we don't want anything changing while we get the list
 		{
-			int length = useradmin.roles.size();
-			Vector<String> result = new Vector<>(length);
-			for (int i = 0; i < length; i++) {
-				Role role = useradmin.roles.elementAt(i);
+			long version = useradmin.roleGraphVersion;
+			current = impliedRoles;
+			if (current != null && current.version == version) {
+				// another thread beat us
+				return current.names;
+			}
+			Set<String> names = new HashSet<>();
+			for (Role role : useradmin.roles) {
 				if (role.isImpliedBy(user, new Vector<>())) {
-					String roleName = role.getName();
-					// exclude user.anyone from the list
-					if (!roleName.equals(Role.anyoneString)) {
-						result.addElement(roleName);
-					}
+					names.add(role.getName());
 				}
 			}
-			int size = result.size();
-			if (size == 0) {
-				return (null);
-			}
-			String[] copyrole = new String[size];
-			result.copyInto(copyrole);
-			return copyrole;
+			names = Collections.unmodifiableSet(names);
+			impliedRoles = new ImpliedRoles(version, names);
+			return names;
 		}
 	}
 }
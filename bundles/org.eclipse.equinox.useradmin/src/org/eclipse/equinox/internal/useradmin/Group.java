@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2001, 2008 IBM Corporation and others.
+ * Copyright (c) 2001, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -133,6 +133,7 @@ public class Group extends User implements org.osgi.service.useradmin.Group {
 			}
 		}
 		basicMembers.addElement(role);
+		useradmin.roleGraphChanged();
 		return (true);
 	}
 
@@ -174,6 +175,7 @@ public class Group extends User implements org.osgi.service.useradmin.Group {
 			}
 		}
 		requiredMembers.addElement(role);
+		useradmin.roleGraphChanged();
 		return (true);
 	}
 
@@ -214,6 +216,7 @@ public class Group extends User implements org.osgi.service.useradmin.Group {
 			// simply try to remove it from both.
 			boolean removeRequired = requiredMembers.removeElement(role);
 			boolean removeBasic = basicMembers.removeElement(role);
+			useradmin.roleGraphChanged();
 			return (removeRequired || removeBasic);
 		}
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2001, 2008 IBM Corporation and others.
+ * Copyright (c) 2001, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,9 @@ public class UserAdmin implements org.osgi.service.useradmin.UserAdmin {
 	protected UserAdminPermission adminPermission;
 	protected ServiceReference reference;
 	protected LogTracker log;
+	// incremented whenever a change to roles or group members may change which
+	// roles are implied; used by Authorization to validate its cached roles
+	protected volatile long roleGraphVersion;
 
 	protected UserAdmin(PreferencesService preferencesService, BundleContext context) throws Exception {
 		roles = new Vector<>();
@@ -147,6 +150,7 @@ public class UserAdmin implements org.osgi.service.useradmin.UserAdmin {
 			users.addElement(newRole);
 		}
 		roles.addElement(newRole);
+		roleGraphChanged();
 		return (newRole);
 	}
 
@@ -185,6 +189,7 @@ public class UserAdmin implements org.osgi.service.useradmin.UserAdmin {
 				roles.removeElement(role);
 				users.removeElement(role);
 				role.destroy();
+				roleGraphChanged();
 				eventProducer.generateEvent(UserAdminEvent.ROLE_REMOVED, role);
 				role = null;
 				return (true);
@@ -316,6 +321,11 @@ public class UserAdmin implements org.osgi.service.useradmin.UserAdmin {
 		return (new Authorization((User) user, this));
 	}
 
+	// must hold the monitor on this UserAdmin when calling
+	protected void roleGraphChanged() {
+		roleGraphVersion++;
+	}
+
 	protected synchronized void destroy() {
 		alive = false;
 		eventProducer.close();
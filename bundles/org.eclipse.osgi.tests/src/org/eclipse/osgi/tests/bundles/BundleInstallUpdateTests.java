@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2025 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,9 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.internal.framework.BundleContextImpl;
+import org.eclipse.osgi.internal.framework.EquinoxConfiguration;
+import org.eclipse.osgi.launch.Equinox;
 import org.eclipse.osgi.service.urlconversion.URLConverter;
 import org.eclipse.osgi.tests.OSGiTestsActivator;
 import org.junit.Test;
@@ -357,4 +360,69 @@ public class BundleInstallUpdateTests extends AbstractBundleTests {
 		assertFalse("File escaped zip root: " + rootEscapedFile3.getCanonicalPath(), rootEscapedFile3.exists());
 
 	}
+
+	@Test
+	public void testInstallAll() throws Exception {
+		File bundlesDirectory = OSGiTestsActivator.getContext().getDataFile(getName());
+		bundlesDirectory.mkdirs();
+		int numBundles = 20;
+		String[] locations = new String[numBundles + 1];
+		URL[] contents = new URL[numBundles + 1];
+		for (int i = 0; i < numBundles; i++) {
+			Map<String, String> headers = new HashMap<>();
+			headers.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+			headers.put(Constants.BUNDLE_SYMBOLICNAME, getName() + i);
+			if (i == 5) {
+				headers.put(Constants.IMPORT_PACKAGE, "invalid;version=\"[1");
+			}
+			File bundleFile = SystemBundleTests.createBundle(bundlesDirectory, getName() + i, headers,
+					Collections.singletonMap("entry" + i + ".txt", "value"));
+			if (i % 2 == 0) {
+				locations[i] = bundleFile.toURI().toString();
+			} else {
+				// the content of these is opened from the content URL
+				locations[i] = "installAll:" + i;
+				contents[i] = bundleFile.toURI().toURL();
+			}
+		}
+		// install the same location twice
+		locations[numBundles] = locations[3];
+		contents[numBundles] = contents[3];
+
+		Map<String, Object> configuration = createConfiguration();
+		configuration.put(EquinoxConfiguration.PROP_EQUINOX_INSTALL_THREAD_COUNT, "4");
+		Equinox equinox = new Equinox(configuration);
+		initAndStart(equinox);
+		try {
+			BundleContextImpl context = (BundleContextImpl) equinox.getBundleContext();
+			BundleException[] failures = new BundleException[locations.length];
+			Bundle[] bundles = context.installBundles(locations, contents, failures);
+
+			for (int i = 0; i < numBundles; i++) {
+				if (i == 5) {
+					assertNull("Invalid bundle installed.", bundles[i]);
+					assertNotNull("No failure for invalid bundle.", failures[i]);
+					continue;
+				}
+				assertNull("Unexpected failure.", failures[i]);
+				assertEquals("Wrong symbolic name.", getName() + i, bundles[i].getSymbolicName());
+				// the same ids as installing one at a time, the invalid bundle uses up its id
+				assertEquals("Wrong bundle id.", i + 1, bundles[i].getBundleId());
+				assertEquals("Wrong location.", locations[i], bundles[i].getLocation());
+			}
+			assertEquals("Wrong bundle for same location.", bundles[3], bundles[numBundles]);
+			// the system bundle and all valid bundles
+			assertEquals("Wrong number of bundles.", numBundles, context.getBundles().length);
+
+			// installing the same location twice does not use up an id
+			Map<String, String> headers = new HashMap<>();
+			headers.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+			headers.put(Constants.BUNDLE_SYMBOLICNAME, getName() + "next");
+			File nextFile = SystemBundleTests.createBundle(bundlesDirectory, getName() + "next", headers);
+			Bundle next = context.installBundle(nextFile.toURI().toString());
+			assertEquals("Wrong bundle id.", numBundles + 1, next.getBundleId());
+		} finally {
+			stopQuietly(equinox);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2022 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,8 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -2662,6 +2664,77 @@ public class ClassLoadingBundleTests extends AbstractBundleTests {
 		}
 	}
 
+	@Test
+	public void testStartupProfile() throws Exception {
+		File config = OSGiTestsActivator.getContext().getDataFile(getName());
+		File profile = new File(config, "startup.profile");
+		String location = installer.getBundleLocation("chain.test.d");
+		String hostLocation = installer.getBundleLocation("host.multiple.exports");
+
+		Map<String, String> fwkConfig = new HashMap<>();
+		fwkConfig.put(Constants.FRAMEWORK_STORAGE, config.getAbsolutePath());
+		fwkConfig.put("equinox.startup.profile", profile.getAbsolutePath());
+		fwkConfig.put("equinox.startup.profile.record", "true");
+		Equinox equinox = new Equinox(fwkConfig);
+		try {
+			equinox.start();
+			Bundle host = equinox.getBundleContext().installBundle(hostLocation);
+			host.start();
+			host.loadClass("host.multiple.exports.PublicClass1");
+			host.loadClass("host.multiple.exports.PublicClass2");
+			Bundle chainTestD = equinox.getBundleContext().installBundle(location);
+			chainTestD.start(Bundle.START_ACTIVATION_POLICY);
+			chainTestD.loadClass("chain.test.d.DMultipleChain1");
+			assertEquals("Wrong state", Bundle.ACTIVE, chainTestD.getState());
+		} finally {
+			stopQuietly(equinox);
+		}
+
+		List<String> lines = Files.readAllLines(profile.toPath(), StandardCharsets.UTF_8);
+		assertTrue("Missing bundle: " + lines, lines.contains('@' + hostLocation));
+		assertTrue("Missing class: " + lines, lines.contains("host.multiple.exports.PublicClass1"));
+		assertTrue("Missing class: " + lines, lines.contains("host.multiple.exports.PublicClass2"));
+		assertTrue("Missing bundle: " + lines, lines.contains('@' + location));
+		assertTrue("Missing class: " + lines, lines.contains("chain.test.d.DMultipleChain1"));
+		assertTrue("Missing class: " + lines, lines.contains("chain.test.d.Activator"));
+
+		fwkConfig.remove("equinox.startup.profile.record");
+		equinox = new Equinox(fwkConfig);
+		try {
+			equinox.start();
+			Bundle host = equinox.getBundleContext().getBundle(hostLocation);
+			Bundle chainTestD = equinox.getBundleContext().getBundle(location);
+			// the profiled classes of the active bundle get preloaded
+			waitForLoadedClass(host, "host.multiple.exports.PublicClass1");
+			waitForLoadedClass(host, "host.multiple.exports.PublicClass2");
+
+			// preloading must not activate the lazy bundle
+			assertEquals("Wrong state", Bundle.STARTING, chainTestD.getState());
+			assertNull("Class of lazy bundle preloaded.", getLoadedClass(chainTestD, "chain.test.d.DMultipleChain1"));
+
+			// once it is active the profiled classes of the lazy bundle get preloaded
+			chainTestD.start();
+			assertEquals("Wrong state", Bundle.ACTIVE, chainTestD.getState());
+			waitForLoadedClass(chainTestD, "chain.test.d.DMultipleChain1");
+		} finally {
+			stopQuietly(equinox);
+		}
+	}
+
+	private static Class<?> getLoadedClass(Bundle bundle, String className) {
+		return ((ModuleClassLoader) bundle.adapt(BundleWiring.class).getClassLoader()).publicFindLoaded(className);
+	}
+
+	private static void waitForLoadedClass(Bundle bundle, String className) throws InterruptedException {
+		long timeout = System.currentTimeMillis() + 10000;
+		while (getLoadedClass(bundle, className) == null) {
+			if (System.currentTimeMillis() > timeout) {
+				fail("Class not preloaded: " + className);
+			}
+			Thread.sleep(10);
+		}
+	}
+
 	void refreshBundles(Collection<Bundle> bundles) throws InterruptedException {
 		final CountDownLatch refreshSignal = new CountDownLatch(1);
 		getContext().getBundle(Constants.SYSTEM_BUNDLE_LOCATION).adapt(FrameworkWiring.class).refreshBundles(bundles,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,27 @@
  *******************************************************************************/
 package org.eclipse.osgi.tests.bundles;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
+import org.eclipse.osgi.internal.framework.EquinoxContainer;
 import org.eclipse.osgi.launch.Equinox;
+import org.eclipse.osgi.storage.Storage;
 import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.Constants;
+import org.osgi.framework.startlevel.BundleStartLevel;
 
 /*
  * The framework must persist data according to the value of the
@@ -140,4 +155,76 @@ public class PersistedBundleTests extends AbstractBundleTests {
 		}
 	}
 
+	/*
+	 * Test that modifications to the start level and the persistent start state of
+	 * bundles are persisted with the journal and that the journal is removed when
+	 * the framework is stopped. The journal is read by a framework that runs on a
+	 * copy of the storage, so that only the first framework can remove it.
+	 */
+	@Test
+	public void testJournaledPersistence() throws Exception {
+		Map<String, Object> configuration = createConfiguration();
+		configuration.put(ECLIPSE_STATESAVEDELAYINTERVAL, IMMEDIATE_PERSISTENCE);
+		File journal = new File(new File((String) configuration.get(Constants.FRAMEWORK_STORAGE), EquinoxContainer.NAME),
+				Storage.FRAMEWORK_INFO_JOURNAL);
+		Equinox equinox1 = new Equinox(configuration);
+		initAndStart(equinox1);
+		try {
+			Bundle bundle = equinox1.getBundleContext().installBundle(getName(),
+					new BundleBuilder().symbolicName(getName()).build());
+			assertFalse("Journal exists", journal.exists());
+			bundle.start();
+			bundle.adapt(BundleStartLevel.class).setStartLevel(5);
+			bundle.stop();
+			bundle.start(Bundle.START_ACTIVATION_POLICY);
+			assertTrue("Journal does not exist", journal.isFile());
+
+			Map<String, Object> copyConfiguration = new HashMap<>(configuration);
+			File copy = new File((String) configuration.get(Constants.FRAMEWORK_STORAGE) + ".copy");
+			copyDirectory(new File((String) configuration.get(Constants.FRAMEWORK_STORAGE)), copy);
+			copyConfiguration.put(Constants.FRAMEWORK_STORAGE, copy.getAbsolutePath());
+			Equinox equinox2 = new Equinox(copyConfiguration);
+			equinox2.init();
+			try {
+				BundleStartLevel startLevel = equinox2.getBundleContext().getBundle(getName())
+						.adapt(BundleStartLevel.class);
+				assertEquals("Wrong start level", 5, startLevel.getStartLevel());
+				assertTrue("Not persistently started", startLevel.isPersistentlyStarted());
+				assertTrue("Activation policy not used", startLevel.isActivationPolicyUsed());
+			} finally {
+				stopQuietly(equinox2);
+			}
+			assertTrue("Journal does not exist", journal.isFile());
+		} finally {
+			stopQuietly(equinox1);
+		}
+		assertFalse("Journal exists", journal.exists());
+
+		equinox1 = new Equinox(configuration);
+		equinox1.init();
+		try {
+			BundleStartLevel startLevel = equinox1.getBundleContext().getBundle(getName())
+					.adapt(BundleStartLevel.class);
+			assertEquals("Wrong start level", 5, startLevel.getStartLevel());
+			assertTrue("Not persistently started", startLevel.isPersistentlyStarted());
+			assertTrue("Activation policy not used", startLevel.isActivationPolicyUsed());
+		} finally {
+			stopQuietly(equinox1);
+		}
+	}
+
+	private static void copyDirectory(File source, File target) throws IOException {
+		Path sourcePath = source.toPath();
+		Path targetPath = target.toPath();
+		try (Stream<Path> paths = Files.walk(sourcePath)) {
+			for (Path path : (Iterable<Path>) paths::iterator) {
+				Path copy = targetPath.resolve(sourcePath.relativize(path));
+				if (Files.isDirectory(path)) {
+					Files.createDirectories(copy);
+				} else {
+					Files.copy(path, copy, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+	}
 }
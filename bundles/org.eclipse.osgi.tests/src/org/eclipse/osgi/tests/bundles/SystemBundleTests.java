@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2022 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -3463,4 +3463,42 @@ public class SystemBundleTests extends AbstractBundleTests {
 		// second one should be from b2
 		assertEquals("Wrong error bundle.", b2, errors.get(1).getBundle());
 	}
+
+	@Test
+	public void testManifestLocalizationCacheSize() throws Exception {
+		File config = OSGiTestsActivator.getContext().getDataFile(getName());
+		Map<String, Object> configuration = new HashMap<>();
+		configuration.put(Constants.FRAMEWORK_STORAGE, config.getAbsolutePath());
+		// every lookup evicts the previous entry
+		configuration.put(EquinoxConfiguration.PROP_LOCALIZATION_CACHE_SIZE, "1");
+		Equinox equinox = new Equinox(configuration);
+		equinox.start();
+		try {
+			BundleContext systemContext = equinox.getBundleContext();
+			Map<String, String> headers = new HashMap<>();
+			headers.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+			headers.put(Constants.BUNDLE_SYMBOLICNAME, getName());
+			headers.put(Constants.BUNDLE_NAME, "%name");
+			headers.put(Constants.BUNDLE_VENDOR, "%vendor");
+			Map<String, String> entries = new HashMap<>();
+			entries.put("OSGI-INF/l10n/bundle.properties", "name=Root\nvendor=Vendor");
+			entries.put("OSGI-INF/l10n/bundle_de.properties", "name=German");
+			File bundleFile = createBundle(config, getName() + "1", headers, entries);
+			Bundle b = systemContext.installBundle(bundleFile.toURI().toString());
+
+			for (int i = 0; i < 2; i++) {
+				assertEquals("Wrong name.", "German", b.getHeaders("de_DE").get(Constants.BUNDLE_NAME));
+				assertEquals("Wrong vendor.", "Vendor", b.getHeaders("de_DE").get(Constants.BUNDLE_VENDOR));
+				assertEquals("Wrong name.", "German", b.getHeaders("de").get(Constants.BUNDLE_NAME));
+				assertEquals("Wrong name.", "%name", b.getHeaders("").get(Constants.BUNDLE_NAME));
+			}
+
+			entries.put("OSGI-INF/l10n/bundle_de.properties", "name=German2");
+			bundleFile = createBundle(config, getName() + "2", headers, entries);
+			b.update(new FileInputStream(bundleFile));
+			assertEquals("Wrong name after update.", "German2", b.getHeaders("de_DE").get(Constants.BUNDLE_NAME));
+		} finally {
+			stop(equinox);
+		}
+	}
 }
@@ -19,7 +19,8 @@ import org.junit.platform.suite.api.Suite;
 @Suite
 @SelectClasses({ //
 		StatePerformanceTest.class, //
-		StateUsesPerformanceTest.class //
+		StateUsesPerformanceTest.class, //
+		FindEntriesPerformanceTest.class //
 })
 public class AllTests {
 	public static final String DEGRADATION_RESOLUTION = "Performance decrease caused by additional fuctionality required for ResovlerHooks in OSGi R4.3 specification. See https://bugs.eclipse.org/bugs/show_bug.cgi?id=324753 for details.";
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.osgi.tests.perf;
+
+import static org.eclipse.osgi.tests.OSGiTestsActivator.getContext;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.core.tests.harness.PerformanceTestRunner;
+import org.eclipse.osgi.launch.Equinox;
+import org.eclipse.osgi.tests.bundles.AbstractBundleTests;
+import org.eclipse.osgi.tests.bundles.SystemBundleTests;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.wiring.BundleWiring;
+
+public class FindEntriesPerformanceTest {
+	private static final int NUM_BUNDLES = 2000;
+	private static final int NUM_PACKAGES = 10;
+	private static final int NUM_CLASSES = 20;
+
+	@Rule
+	public TestName testName = new TestName();
+
+	private Equinox equinox;
+	private final List<Bundle> bundles = new ArrayList<>();
+
+	@Before
+	public void setUp() throws Exception {
+		File root = getContext().getDataFile(getClass().getSimpleName());
+		File bundlesDir = new File(root, "bundles");
+		bundlesDir.mkdirs();
+		Map<String, Object> configuration = new HashMap<>();
+		configuration.put(Constants.FRAMEWORK_STORAGE, new File(root, "storage").getAbsolutePath());
+		equinox = new Equinox(configuration);
+		equinox.start();
+		BundleContext context = equinox.getBundleContext();
+		for (int i = 0; i < NUM_BUNDLES; i++) {
+			Map<String, String> headers = new HashMap<>();
+			headers.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+			headers.put(Constants.BUNDLE_SYMBOLICNAME, "bundle" + i);
+			Map<String, String> entries = new HashMap<>();
+			entries.put("OSGI-INF/component" + i + ".xml", "<component/>");
+			entries.put("OSGI-INF/l10n/bundle.properties", "name=bundle");
+			for (int p = 0; p < NUM_PACKAGES; p++) {
+				for (int c = 0; c < NUM_CLASSES; c++) {
+					entries.put("org/example/bundle" + i + "/p" + p + "/Class" + c + ".class", "");
+				}
+			}
+			File bundleFile = SystemBundleTests.createBundle(bundlesDir, String.valueOf(i), headers, entries);
+			bundles.add(context.installBundle(bundleFile.toURI().toString()));
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		AbstractBundleTests.stopQuietly(equinox);
+	}
+
+	@Test
+	public void testFindEntriesRecursePattern() throws Exception {
+		doTestFindEntries("/", "*.xml", true, 1);
+	}
+
+	@Test
+	public void testFindEntriesRecurseAll() throws Exception {
+		doTestFindEntries("/", null, true, -1);
+	}
+
+	@Test
+	public void testFindEntriesDirectory() throws Exception {
+		doTestFindEntries("OSGI-INF", "*.xml", false, 1);
+	}
+
+	@Test
+	public void testFindEntriesRoot() throws Exception {
+		doTestFindEntries("/", "*", false, 3);
+	}
+
+	@Test
+	public void testListResources() throws Exception {
+		new PerformanceTestRunner() {
+			@Override
+			protected void test() {
+				for (Bundle bundle : bundles) {
+					bundle.adapt(BundleWiring.class).listResources("/", "*.class",
+							BundleWiring.LISTRESOURCES_RECURSE);
+				}
+			}
+		}.run(getClass(), testName.getMethodName(), 10, 1);
+	}
+
+	private void doTestFindEntries(final String path, final String filePattern, final boolean recurse,
+			final int expected) throws Exception {
+		new PerformanceTestRunner() {
+			@Override
+			protected void test() {
+				for (Bundle bundle : bundles) {
+					Enumeration<?> entries = bundle.findEntries(path, filePattern, recurse);
+					if (expected >= 0) {
+						int count = 0;
+						while (entries.hasMoreElements()) {
+							entries.nextElement();
+							count++;
+						}
+						assertEquals("Wrong number of entries: " + bundle, expected, count);
+					}
+				}
+			}
+		}.run(getClass(), testName.getMethodName(), 10, 1);
+	}
+}
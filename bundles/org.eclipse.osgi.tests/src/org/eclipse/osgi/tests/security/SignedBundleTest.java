@@ -24,28 +24,45 @@ import static org.eclipse.osgi.tests.security.SecurityTestUtil.getTrustEngine;
 import static org.eclipse.osgi.tests.security.SecurityTestUtil.installBundle;
 import static org.eclipse.osgi.tests.security.SecurityTestUtil.registerEclipseTrustEngine;
 import static org.junit.Assert.assertNull;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
+import java.util.HashMap;
+import java.util.Map;
 import org.eclipse.core.tests.harness.session.CustomSessionConfiguration;
 import org.eclipse.core.tests.harness.session.SessionTestExtension;
+import org.eclipse.osgi.internal.framework.EquinoxBundle;
+import org.eclipse.osgi.internal.signedcontent.SignedContentFromBundleFile;
+import org.eclipse.osgi.internal.signedcontent.SignedStorageHook;
+import org.eclipse.osgi.internal.signedcontent.SignedStorageHook.SignedStorageHookImpl;
+import org.eclipse.osgi.launch.Equinox;
 import org.eclipse.osgi.signedcontent.InvalidContentException;
 import org.eclipse.osgi.signedcontent.SignedContent;
 import org.eclipse.osgi.signedcontent.SignedContentEntry;
+import org.eclipse.osgi.signedcontent.SignedContentFactory;
 import org.eclipse.osgi.signedcontent.SignerInfo;
+import org.eclipse.osgi.storage.BundleInfo.Generation;
+import org.eclipse.osgi.tests.OSGiTestsActivator;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
 import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
 import org.osgi.framework.ServiceRegistration;
+import org.osgi.framework.launch.Framework;
 
 public class SignedBundleTest {
 
@@ -917,4 +934,95 @@ public class SignedBundleTest {
 			getTrustEngine().removeTrustAnchor("ca2_leafa");
 		}
 	}
+
+	@Test
+	public void testSignedContentVerifiedOnce() throws Exception {
+
+		Bundle testBundle = null;
+		try {
+			testBundle = installBundle(getTestJarPath("signedJava16"));
+			getTrustEngine().addTrustAnchor(getTestCertificate("ca2_leafa"), "ca2_leafa");
+
+			SignedContent first = getSignedContentFactory().getSignedContent(testBundle);
+			// the second signed content is created from the recorded verification result
+			SignedContent second = getSignedContentFactory().getSignedContent(testBundle);
+			assertNotSame(first, second, "Expected new signed content");
+			assertTrue(second.isSigned(), "Should be signed");
+			SignerInfo[] firstInfos = first.getSignerInfos();
+			SignerInfo[] secondInfos = second.getSignerInfos();
+			assertEquals(firstInfos.length, secondInfos.length, "wrong number of signers");
+			assertArrayEquals(firstInfos[0].getCertificateChain(), secondInfos[0].getCertificateChain(),
+					"wrong certificate chain");
+			assertTrue(secondInfos[0].isTrusted(), "Signer is not trusted");
+			SignedContentEntry[] firstEntries = first.getSignedEntries();
+			SignedContentEntry[] secondEntries = second.getSignedEntries();
+			assertEquals(firstEntries.length, secondEntries.length, "wrong number of entries");
+			for (SignedContentEntry entry : secondEntries) {
+				entry.verify();
+				assertNotNull(first.getSignedEntry(entry.getName()), "Unexpected entry: " + entry.getName());
+				assertEquals(secondInfos[0], entry.getSignerInfos()[0], "Entry signer does not equal content signer");
+			}
+		} finally {
+			testBundle.uninstall();
+			getTrustEngine().removeTrustAnchor("ca2_leafa");
+		}
+	}
+
+	@Test
+	public void testSignedContentVerificationPersisted(@TempDir Path storage) throws Exception {
+		Map<String, Object> configuration = new HashMap<>();
+		configuration.put(Constants.FRAMEWORK_STORAGE, storage.toString());
+		String location = getTestJarPath("signedJava16");
+
+		Equinox equinox = new Equinox(configuration);
+		equinox.start();
+		try {
+			equinox.getBundleContext().installBundle(location,
+					OSGiTestsActivator.getBundle().getEntry(location).openStream());
+		} finally {
+			stopFramework(equinox);
+		}
+
+		// verifying the content records the result although no bundle changed
+		equinox = new Equinox(configuration);
+		equinox.start();
+		try {
+			BundleContext context = equinox.getBundleContext();
+			Bundle testBundle = context.getBundle(location);
+			assertNull(getRecordedSignedContent(testBundle), "Content already verified");
+			SignedContentFactory factory = context.getService(context.getServiceReference(SignedContentFactory.class));
+			assertTrue(factory.getSignedContent(testBundle).isSigned(), "Should be signed");
+			assertNotNull(getRecordedSignedContent(testBundle), "Verification result not recorded");
+		} finally {
+			stopFramework(equinox);
+		}
+
+		// the recorded result is loaded from the storage, the content is not verified
+		// again
+		equinox = new Equinox(configuration);
+		equinox.start();
+		try {
+			Bundle testBundle = equinox.getBundleContext().getBundle(location);
+			SignedContentFromBundleFile signedContent = getRecordedSignedContent(testBundle);
+			assertNotNull(signedContent, "Verification result not persisted");
+			SignerInfo[] infos = signedContent.getSignerInfos();
+			assertEquals(1, infos.length, "wrong number of signers");
+			X509Certificate signer = (X509Certificate) infos[0].getCertificateChain()[0];
+			assertTrue(signer.getSubjectX500Principal().getName().indexOf("CA2 LeafA") >= 0, "wrong signer");
+		} finally {
+			stopFramework(equinox);
+		}
+	}
+
+	private static SignedContentFromBundleFile getRecordedSignedContent(Bundle bundle) {
+		Generation generation = (Generation) ((EquinoxBundle) bundle).getModule().getCurrentRevision()
+				.getRevisionInfo();
+		SignedStorageHookImpl hook = generation.getStorageHook(SignedStorageHook.class);
+		return hook.getSignedContent(generation.getBundleFile().getBaseFile());
+	}
+
+	private static void stopFramework(Framework framework) throws Exception {
+		framework.stop();
+		framework.waitForStop(10000);
+	}
 }
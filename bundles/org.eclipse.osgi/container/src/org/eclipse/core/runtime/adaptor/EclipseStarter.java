@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2016 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,6 @@ package org.eclipse.core.runtime.adaptor;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
@@ -46,6 +45,7 @@ import org.eclipse.osgi.framework.log.FrameworkLog;
 import org.eclipse.osgi.framework.log.FrameworkLogEntry;
 import org.eclipse.osgi.framework.util.FilePath;
 import org.eclipse.osgi.internal.debug.Debug;
+import org.eclipse.osgi.internal.framework.BundleContextImpl;
 import org.eclipse.osgi.internal.framework.EquinoxConfiguration;
 import org.eclipse.osgi.internal.framework.EquinoxContainer;
 import org.eclipse.osgi.internal.location.EquinoxLocations;
@@ -1070,47 +1070,79 @@ public class EclipseStarter {
 
 	private static void installBundles(InitialBundle[] initialBundles, Bundle[] curInitBundles,
 			List<Bundle> startBundles, List<Bundle> lazyActivationBundles, List<Bundle> toRefresh) {
+		Map<InitialBundle, Bundle> installed = installNewBundles(initialBundles, curInitBundles);
 		for (InitialBundle initialBundle : initialBundles) {
 			Bundle osgiBundle = getBundleByLocation(initialBundle.locationString, curInitBundles);
-			try {
-				// don't need to install if it is already installed
+			// don't need to install if it is already installed
+			if (osgiBundle == null) {
+				osgiBundle = installed.get(initialBundle);
 				if (osgiBundle == null) {
-					InputStream in = LocationHelper.getStream(initialBundle.location);
-					try {
-						osgiBundle = context.installBundle(initialBundle.locationString, in);
-					} catch (BundleException e) {
-						if (e.getType() == BundleException.DUPLICATE_BUNDLE_ERROR) {
-							continue;
-							// TODO should attempt to lookup the existing bundle
-						}
-						throw e;
-					}
-					// only check for lazy activation header if this is a newly installed bundle and
-					// is not marked for persistent start
-					if (!initialBundle.start && hasLazyActivationPolicy(osgiBundle)) {
-						lazyActivationBundles.add(osgiBundle);
-					}
-				}
-				// always set the startlevel incase it has changed (bug 111549)
-				// this is a no-op if the level is the same as previous launch.
-				if ((osgiBundle.getState() & Bundle.UNINSTALLED) == 0 && initialBundle.level >= 0) {
-					osgiBundle.adapt(BundleStartLevel.class).setStartLevel(initialBundle.level);
+					// failed to install
+					continue;
 				}
-				// if this bundle is supposed to be started then add it to the start list
-				if (initialBundle.start) {
-					startBundles.add(osgiBundle);
+				// only check for lazy activation header if this is a newly installed bundle and
+				// is not marked for persistent start
+				if (!initialBundle.start && hasLazyActivationPolicy(osgiBundle)) {
+					lazyActivationBundles.add(osgiBundle);
 				}
-				// include basic bundles in case they were not resolved before
-				if ((osgiBundle.getState() & Bundle.INSTALLED) != 0)
-					toRefresh.add(osgiBundle);
-			} catch (BundleException | IOException e) {
-				FrameworkLogEntry entry = new FrameworkLogEntry(EquinoxContainer.NAME, FrameworkLogEntry.ERROR, 0,
-						NLS.bind(Msg.ECLIPSE_STARTUP_FAILED_INSTALL, initialBundle.location), 0, e, null);
-				log.log(entry);
 			}
+			// always set the startlevel incase it has changed (bug 111549)
+			// this is a no-op if the level is the same as previous launch.
+			if ((osgiBundle.getState() & Bundle.UNINSTALLED) == 0 && initialBundle.level >= 0) {
+				osgiBundle.adapt(BundleStartLevel.class).setStartLevel(initialBundle.level);
+			}
+			// if this bundle is supposed to be started then add it to the start list
+			if (initialBundle.start) {
+				startBundles.add(osgiBundle);
+			}
+			// include basic bundles in case they were not resolved before
+			if ((osgiBundle.getState() & Bundle.INSTALLED) != 0)
+				toRefresh.add(osgiBundle);
 		}
 	}
 
+	/*
+	 * Installs the initial bundles which are not installed yet. The content and
+	 * manifests of the bundles are prepared in parallel by the storage, the bundles
+	 * are installed in the order of the initial bundles.
+	 */
+	private static Map<InitialBundle, Bundle> installNewBundles(InitialBundle[] initialBundles,
+			Bundle[] curInitBundles) {
+		List<InitialBundle> toInstall = new ArrayList<>(initialBundles.length);
+		for (InitialBundle initialBundle : initialBundles) {
+			if (getBundleByLocation(initialBundle.locationString, curInitBundles) == null) {
+				toInstall.add(initialBundle);
+			}
+		}
+		Map<InitialBundle, Bundle> result = new HashMap<>();
+		if (toInstall.isEmpty()) {
+			return result;
+		}
+		String[] locations = new String[toInstall.size()];
+		// the content is opened by the install threads, one bundle at a time
+		URL[] contents = new URL[locations.length];
+		for (int i = 0; i < locations.length; i++) {
+			locations[i] = toInstall.get(i).locationString;
+			contents[i] = toInstall.get(i).location;
+		}
+		BundleException[] failures = new BundleException[locations.length];
+		Bundle[] installed = ((BundleContextImpl) context).installBundles(locations, contents, failures);
+		for (int i = 0; i < locations.length; i++) {
+			if (installed[i] != null) {
+				result.put(toInstall.get(i), installed[i]);
+			} else if (failures[i].getType() != BundleException.DUPLICATE_BUNDLE_ERROR) {
+				logInstallFailure(toInstall.get(i), failures[i]);
+			}
+		}
+		return result;
+	}
+
+	private static void logInstallFailure(InitialBundle initialBundle, Exception e) {
+		FrameworkLogEntry entry = new FrameworkLogEntry(EquinoxContainer.NAME, FrameworkLogEntry.ERROR, 0,
+				NLS.bind(Msg.ECLIPSE_STARTUP_FAILED_INSTALL, initialBundle.location), 0, e, null);
+		log.log(entry);
+	}
+
 	@SuppressWarnings("deprecation")
 	private static boolean hasLazyActivationPolicy(Bundle target) {
 		// check the bundle manifest to see if it defines a lazy activation policy
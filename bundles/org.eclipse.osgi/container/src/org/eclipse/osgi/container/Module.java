@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2020 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -292,6 +292,12 @@ public abstract class Module implements BundleReference, BundleStartLevel, Compa
 		this.startlevel = newStartLevel;
 	}
 
+	final void loadSettings(EnumSet<Settings> newSettings, int newStartLevel) {
+		settings.clear();
+		settings.addAll(newSettings);
+		this.startlevel = newStartLevel;
+	}
+
 	/**
 	 * Returns the time when this module was last modified. A module is considered
 	 * to be modified when it is installed, updated or uninstalled.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2021 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -133,6 +133,12 @@ public class ModuleDatabase {
 	 */
 	final Map<Long, EnumSet<Settings>> moduleSettings;
 
+	/**
+	 * A map of the {@link #getTimestamp() timestamp} of the last modification to
+	 * the settings or start level of a module keyed by module id.
+	 */
+	final Map<Long, Long> moduleSettingsTimestamps;
+
 	/**
 	 * The initial module start level.
 	 */
@@ -176,6 +182,7 @@ public class ModuleDatabase {
 		this.revisionsTimeStamp = new AtomicLong(constructionTime);
 		this.allTimeStamp = new AtomicLong(constructionTime);
 		this.moduleSettings = new HashMap<>();
+		this.moduleSettingsTimestamps = new HashMap<>();
 		this.capabilities = new Capabilities();
 	}
 
@@ -314,6 +321,7 @@ public class ModuleDatabase {
 			modulesByLocations.remove(module.getLocation());
 			modulesById.remove(module.getId());
 			moduleSettings.remove(module.getId());
+			moduleSettingsTimestamps.remove(module.getId());
 			// remove the revisions by name
 			List<ModuleRevision> revisions = uninstalling.getModuleRevisions();
 			for (ModuleRevision revision : revisions) {
@@ -806,6 +814,18 @@ public class ModuleDatabase {
 		adaptor.updatedDatabase();
 	}
 
+	/**
+	 * Increments the timestamps of this database for a modification of the
+	 * settings or start level of the specified module.
+	 * 
+	 * @param module the modified module
+	 */
+	private void incrementTimestamps(Module module) {
+		// record the modification before the adaptor is notified of the update
+		moduleSettingsTimestamps.put(module.getId(), Long.valueOf(allTimeStamp.get() + 1));
+		incrementTimestamps(false);
+	}
+
 	private void setSystemLastModified(long currentTime) {
 		// sanity check
 		checkWrite();
@@ -971,13 +991,71 @@ public class ModuleDatabase {
 		}
 	}
 
+	/**
+	 * Stores the modifications made to this database after the specified timestamp
+	 * to the output data stream. Only the modifications to the initial module start
+	 * level and to the settings and start levels of modules are stored. The caller
+	 * must ensure that the {@link #getRevisionsTimestamp() revisions} of this
+	 * database have not been modified after the specified timestamp, otherwise the
+	 * complete database must be {@link #store(DataOutputStream, boolean) stored}.
+	 * <p>
+	 * The stored modifications can be applied to a database which was loaded from a
+	 * stream containing this database at the specified timestamp with
+	 * {@link #loadModifications(DataInputStream)}. The size of the stored
+	 * modifications is proportional to the number of modified modules.
+	 * <p>
+	 * A read operation protected by the {@link #readLock() read} lock.
+	 * <p>
+	 * The specified stream remains open after this method returns.
+	 * 
+	 * @param out       the data output steam.
+	 * @param timestamp the timestamp of this database when it was last stored
+	 * @throws IOException if writing the modifications to the specified output
+	 *                     stream throws an IOException
+	 * @since 3.25
+	 */
+	public final void storeModifications(DataOutputStream out, long timestamp) throws IOException {
+		readLock();
+		try {
+			Persistence.storeModifications(this, out, timestamp);
+		} finally {
+			readUnlock();
+		}
+	}
+
+	/**
+	 * Loads modifications stored with {@link #storeModifications(DataOutputStream,
+	 * long)} into this database. The modifications are only loaded if they were
+	 * stored for the current {@link #getTimestamp() timestamp} of this database.
+	 * <p>
+	 * Since this method modifies this database it is considered a write operation.
+	 * This method acquires the {@link #writeLock() write} lock while loading the
+	 * modifications into this database.
+	 * <p>
+	 * The specified stream remains open after this method returns.
+	 * 
+	 * @param in the data input stream.
+	 * @return true if the modifications were loaded, false if the modifications
+	 *         were stored for a different timestamp
+	 * @throws IOException if an error occurred when reading from the input stream.
+	 * @since 3.25
+	 */
+	public final boolean loadModifications(DataInputStream in) throws IOException {
+		writeLock();
+		try {
+			return Persistence.loadModifications(this, in);
+		} finally {
+			writeUnlock();
+		}
+	}
+
 	final void persistSettings(EnumSet<Settings> settings, Module module) {
 		writeLock();
 		try {
 			EnumSet<Settings> existing = moduleSettings.get(module.getId());
 			if (!settings.equals(existing)) {
 				moduleSettings.put(module.getId(), EnumSet.copyOf(settings));
-				incrementTimestamps(false);
+				incrementTimestamps(module);
 			}
 		} finally {
 			writeUnlock();
@@ -989,7 +1067,7 @@ public class ModuleDatabase {
 		try {
 			module.checkValid();
 			module.storeStartLevel(startlevel);
-			incrementTimestamps(false);
+			incrementTimestamps(module);
 		} finally {
 			writeUnlock();
 		}
@@ -1138,6 +1216,69 @@ public class ModuleDatabase {
 			out.flush();
 		}
 
+		public static void storeModifications(ModuleDatabase moduleDatabase, DataOutputStream out, long timestamp)
+				throws IOException {
+			out.writeInt(VERSION);
+			out.writeLong(timestamp);
+			out.writeLong(moduleDatabase.getTimestamp());
+			out.writeInt(moduleDatabase.getInitialModuleStartLevel());
+
+			List<Module> modified = new ArrayList<>();
+			for (Map.Entry<Long, Long> entry : moduleDatabase.moduleSettingsTimestamps.entrySet()) {
+				if (entry.getValue().longValue() > timestamp) {
+					Module module = moduleDatabase.getModule(entry.getKey().longValue());
+					if (module != null) {
+						modified.add(module);
+					}
+				}
+			}
+			out.writeInt(modified.size());
+			for (Module module : modified) {
+				out.writeLong(module.getId());
+				EnumSet<Settings> settings = moduleDatabase.moduleSettings.get(module.getId());
+				out.writeInt(settings == null ? 0 : settings.size());
+				if (settings != null) {
+					for (Settings setting : settings) {
+						out.writeUTF(setting.name());
+					}
+				}
+				out.writeInt(module.getStartLevel());
+			}
+			out.flush();
+		}
+
+		public static boolean loadModifications(ModuleDatabase moduleDatabase, DataInputStream in)
+				throws IOException {
+			int version = in.readInt();
+			if (version > VERSION || VERSION / 1000 != version / 1000)
+				throw new IllegalArgumentException("The version of the persistent framework data is not compatible: " //$NON-NLS-1$
+						+ version + " expecting: " + VERSION); //$NON-NLS-1$
+			long timestamp = in.readLong();
+			if (timestamp != moduleDatabase.allTimeStamp.get()) {
+				return false;
+			}
+			long allTimeStamp = in.readLong();
+			moduleDatabase.initialModuleStartLevel = in.readInt();
+
+			int numModules = in.readInt();
+			for (int i = 0; i < numModules; i++) {
+				long id = in.readLong();
+				EnumSet<Settings> settings = EnumSet.noneOf(Settings.class);
+				int numSettings = in.readInt();
+				for (int j = 0; j < numSettings; j++) {
+					settings.add(Settings.valueOf(in.readUTF()));
+				}
+				int startlevel = in.readInt();
+				Module module = moduleDatabase.modulesById.get(id);
+				if (module != null) {
+					moduleDatabase.moduleSettings.put(module.getId(), settings);
+					module.loadSettings(settings, startlevel);
+				}
+			}
+			moduleDatabase.allTimeStamp.set(allTimeStamp);
+			return true;
+		}
+
 		private static void getStringsVersionsAndMaps(Module module, ModuleDatabase moduleDatabase,
 				Set<String> allStrings, Set<Version> allVersions, Set<Map<String, ?>> allMaps) {
 			ModuleRevision current = module.getCurrentRevision();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2021 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import static org.eclipse.osgi.internal.debug.Debug.OPTION_DEBUG_GENERAL;
 import java.io.File;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
@@ -184,6 +185,32 @@ public class BundleContextImpl implements BundleContext, EventDispatcher<Object,
 		return generation.getRevision().getBundle();
 	}
 
+	/**
+	 * Installs the bundles at the given locations, preparing them in parallel. See
+	 * {@link org.eclipse.osgi.storage.Storage#installAll(Module, String[], URL[], BundleException[])}.
+	 *
+	 * @param locations the locations of the bundles
+	 * @param contents  the URLs of the content of the bundles, an element may be
+	 *                  {@code null} to get the content from the location
+	 * @param failures  receives the exception for each bundle which failed to
+	 *                  install
+	 * @return the installed bundles, the element for a bundle which failed to
+	 *         install is {@code null}
+	 */
+	public Bundle[] installBundles(String[] locations, URL[] contents, BundleException[] failures) {
+		checkValid();
+
+		Generation[] generations = container.getStorage().installAll(bundle.getModule(), locations, contents,
+				failures);
+		Bundle[] result = new Bundle[generations.length];
+		for (int i = 0; i < generations.length; i++) {
+			if (generations[i] != null) {
+				result[i] = generations[i].getRevision().getBundle();
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Retrieve the bundle that has the given unique identifier.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,9 @@
 package org.eclipse.osgi.internal.framework;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.net.URL;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -21,8 +24,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import org.eclipse.osgi.internal.loader.BundleLoader;
 import org.eclipse.osgi.internal.loader.ModuleClassLoader;
 
@@ -42,13 +48,39 @@ public class ContextFinder extends ClassLoader implements PrivilegedAction<List<
 	// resources
 	private static ThreadLocal<Set<String>> cycleDetector = new ThreadLocal<>();
 	static ClassLoader finderClassLoader;
+	// The StackWalker is used when available. It allows the walk to stop at the
+	// first bundle class loader instead of getting the classes of the complete
+	// stack. It is accessed with method handles since the framework runs on Java 8.
+	static Object stackWalker;
+	static MethodHandle walk;
+	static MethodHandle getDeclaringClass;
 	static Finder contextFinder;
 	static {
 		AccessController.doPrivileged(new PrivilegedAction<Void>() {
 			@Override
 			public Void run() {
 				finderClassLoader = ContextFinder.class.getClassLoader();
-				contextFinder = new Finder();
+				try {
+					Class<?> stackWalkerClass = Class.forName("java.lang.StackWalker"); //$NON-NLS-1$
+					Class<?> optionClass = Class.forName("java.lang.StackWalker$Option"); //$NON-NLS-1$
+					@SuppressWarnings({ "unchecked", "rawtypes" })
+					Object retainClassReference = Enum.valueOf((Class) optionClass, "RETAIN_CLASS_REFERENCE"); //$NON-NLS-1$
+					// walk is caller sensitive, it cannot be found with the public lookup
+					MethodHandles.Lookup lookup = MethodHandles.lookup();
+					walk = lookup
+							.findVirtual(stackWalkerClass, "walk", MethodType.methodType(Object.class, Function.class)) //$NON-NLS-1$
+							.asType(MethodType.methodType(Object.class, Object.class, Function.class));
+					getDeclaringClass = lookup
+							.findVirtual(Class.forName("java.lang.StackWalker$StackFrame"), "getDeclaringClass", //$NON-NLS-1$ //$NON-NLS-2$
+									MethodType.methodType(Class.class))
+							.asType(MethodType.methodType(Class.class, Object.class));
+					stackWalker = stackWalkerClass.getMethod("getInstance", optionClass).invoke(null, //$NON-NLS-1$
+							retainClassReference);
+				} catch (Throwable t) {
+					// fall back to the security manager class context
+					stackWalker = null;
+					contextFinder = new Finder();
+				}
 				return null;
 			}
 		});
@@ -69,24 +101,66 @@ public class ContextFinder extends ClassLoader implements PrivilegedAction<List<
 	// We assume that the bootclassloader never uses the context classloader to find
 	// classes in itself.
 	List<ClassLoader> basicFindClassLoaders() {
+		if (stackWalker != null) {
+			return walkClassLoaders();
+		}
 		Class<?>[] stack = contextFinder.getClassContext();
 		List<ClassLoader> result = new ArrayList<>(1);
-		ClassLoader previousLoader = null;
 		for (int i = 1; i < stack.length; i++) {
-			ClassLoader tmp = stack[i].getClassLoader();
-			if (stack[i] != THIS && tmp != null && tmp != this) {
-				if (checkClassLoader(tmp)) {
-					if (previousLoader != tmp) {
-						result.add(tmp);
-						previousLoader = tmp;
-					}
+			if (addClassLoader(stack[i], result)) {
+				break;
+			}
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ClassLoader> walkClassLoaders() {
+		Function<Stream<?>, List<ClassLoader>> walker = frames -> {
+			List<ClassLoader> result = new ArrayList<>(1);
+			for (Iterator<?> iFrames = frames.iterator(); iFrames.hasNext();) {
+				Class<?> frameClass;
+				try {
+					frameClass = (Class<?>) getDeclaringClass.invokeExact(iFrames.next());
+				} catch (Throwable t) {
+					throw sneakyThrow(t);
 				}
-				// stop at the framework classloader or the first bundle classloader
-				if (tmp == finderClassLoader || tmp instanceof ModuleClassLoader)
+				if (addClassLoader(frameClass, result)) {
 					break;
+				}
 			}
+			return result;
+		};
+		Object result;
+		try {
+			result = walk.invokeExact(stackWalker, (Function<?, ?>) walker);
+		} catch (Throwable t) {
+			throw sneakyThrow(t);
 		}
-		return result;
+		return (List<ClassLoader>) result;
+	}
+
+	// Adds the classloader of a class on the stack to the list of classloaders
+	// unless it is the same as the previously added one. Returns true if the
+	// classloader is the framework classloader or the first bundle classloader
+	// which ends the search.
+	private boolean addClassLoader(Class<?> clazz, List<ClassLoader> result) {
+		ClassLoader tmp = clazz.getClassLoader();
+		if (clazz != THIS && tmp != null && tmp != this) {
+			if (checkClassLoader(tmp)) {
+				if (result.isEmpty() || result.get(result.size() - 1) != tmp) {
+					result.add(tmp);
+				}
+			}
+			// stop at the framework classloader or the first bundle classloader
+			return tmp == finderClassLoader || tmp instanceof ModuleClassLoader;
+		}
+		return false;
+	}
+
+	private static RuntimeException sneakyThrow(Throwable t) {
+		EquinoxContainer.sneakyThrow(t);
+		return null;
 	}
 
 	// ensures that a classloader does not have the ContextFinder as part of the
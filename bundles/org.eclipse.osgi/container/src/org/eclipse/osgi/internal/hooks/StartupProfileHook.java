@@ -0,0 +1,302 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.osgi.internal.hooks;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.eclipse.osgi.container.Module;
+import org.eclipse.osgi.container.Module.State;
+import org.eclipse.osgi.container.ModuleRevision;
+import org.eclipse.osgi.framework.log.FrameworkLogEntry;
+import org.eclipse.osgi.internal.framework.EquinoxConfiguration;
+import org.eclipse.osgi.internal.framework.EquinoxContainer;
+import org.eclipse.osgi.internal.hookregistry.ActivatorHookFactory;
+import org.eclipse.osgi.internal.hookregistry.ClassLoaderHook;
+import org.eclipse.osgi.internal.hookregistry.HookConfigurator;
+import org.eclipse.osgi.internal.hookregistry.HookRegistry;
+import org.eclipse.osgi.internal.loader.classpath.ClasspathEntry;
+import org.eclipse.osgi.internal.loader.classpath.ClasspathManager;
+import org.eclipse.osgi.storage.bundlefile.BundleEntry;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleActivator;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.BundleListener;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * Records the classes defined by each bundle into a startup profile and
+ * preloads the classes of a startup profile in parallel while the framework
+ * starts.
+ * <p>
+ * With {@link EquinoxConfiguration#PROP_STARTUP_PROFILE_RECORD} set to true the
+ * classes defined by bundle class loaders are recorded in the order they are
+ * defined and written to the {@link EquinoxConfiguration#PROP_STARTUP_PROFILE
+ * profile file} when the framework stops. Otherwise the classes of an existing
+ * profile are loaded, without being initialized, by a pool of threads as soon
+ * as their bundle is resolved. Classes of bundles with a lazy activation policy
+ * are only preloaded once the bundle is active so that preloading never
+ * triggers or delays the activation of a bundle.
+ * <p>
+ * The profile is a text file; each bundle starts with a line containing
+ * {@code @} followed by the bundle location, followed by one line for each
+ * class name.
+ */
+public class StartupProfileHook extends ClassLoaderHook implements ActivatorHookFactory, HookConfigurator {
+	private static final char LOCATION_PREFIX = '@';
+
+	private final ThreadLocal<Boolean> preloading = new ThreadLocal<>();
+	// bundle location -> class names in the order the classes got defined
+	private final Map<String, Set<String>> recorded = new LinkedHashMap<>();
+	// bundle location -> class names still to be preloaded
+	private final Map<String, List<String>> pending = new LinkedHashMap<>();
+
+	private EquinoxContainer container;
+	private File profile;
+	private boolean record;
+	private volatile ExecutorService executor;
+	private BundleListener listener;
+
+	@Override
+	public void addHooks(HookRegistry hookRegistry) {
+		EquinoxConfiguration configuration = hookRegistry.getConfiguration();
+		String profilePath = configuration.getConfiguration(EquinoxConfiguration.PROP_STARTUP_PROFILE);
+		if (profilePath == null || profilePath.trim().isEmpty()) {
+			return;
+		}
+		container = hookRegistry.getContainer();
+		profile = new File(profilePath.trim());
+		record = Boolean.parseBoolean(configuration.getConfiguration(EquinoxConfiguration.PROP_STARTUP_PROFILE_RECORD));
+		if (!record && !profile.isFile()) {
+			return;
+		}
+		hookRegistry.addClassLoaderHook(this);
+		hookRegistry.addActivatorHookFactory(this);
+	}
+
+	@Override
+	public BundleActivator createActivator() {
+		return new BundleActivator() {
+
+			@Override
+			public void start(BundleContext bc) throws Exception {
+				if (!record) {
+					startPreload(bc);
+				}
+			}
+
+			@Override
+			public void stop(BundleContext bc) throws Exception {
+				stopPreload(bc);
+				if (record) {
+					writeProfile();
+				}
+			}
+		};
+	}
+
+	@Override
+	public void preFindLocalClass(String name, ClasspathManager manager) throws ClassNotFoundException {
+		if (preloading.get() == null) {
+			return;
+		}
+		ModuleRevision revision = manager.getGeneration().getRevision();
+		if (revision.hasLazyActivatePolicy() && !State.ACTIVE.equals(revision.getRevisions().getModule().getState())) {
+			// loading the class would trigger the activation of the bundle
+			throw new ClassNotFoundException(name);
+		}
+	}
+
+	@Override
+	public void recordClassDefine(String name, Class<?> clazz, byte[] classbytes, ClasspathEntry classpathEntry,
+			BundleEntry entry, ClasspathManager manager) {
+		if (!record || clazz == null) {
+			return;
+		}
+		String location = manager.getGeneration().getBundleInfo().getLocation();
+		synchronized (recorded) {
+			Set<String> classes = recorded.get(location);
+			if (classes == null) {
+				classes = new LinkedHashSet<>();
+				recorded.put(location, classes);
+			}
+			classes.add(name);
+		}
+	}
+
+	void startPreload(BundleContext bc) {
+		try {
+			readProfile();
+		} catch (IOException e) {
+			container.getLogServices().log(EquinoxContainer.NAME, FrameworkLogEntry.WARNING,
+					"Could not read the startup profile: " + profile, e); //$NON-NLS-1$
+			return;
+		}
+		int threadCount = Runtime.getRuntime().availableProcessors();
+		executor = Executors.newFixedThreadPool(threadCount, r -> {
+			Thread t = new Thread(r, "Equinox startup profile thread - " + container); //$NON-NLS-1$
+			t.setDaemon(true);
+			return t;
+		});
+		listener = event -> {
+			if (event.getType() == BundleEvent.RESOLVED || event.getType() == BundleEvent.STARTED) {
+				schedule(event.getBundle());
+			}
+		};
+		bc.addBundleListener(listener);
+		List<String> locations;
+		synchronized (pending) {
+			locations = new ArrayList<>(pending.keySet());
+		}
+		for (String location : locations) {
+			Bundle bundle = bc.getBundle(location);
+			if (bundle != null) {
+				schedule(bundle);
+			}
+		}
+	}
+
+	void stopPreload(BundleContext bc) {
+		if (listener != null) {
+			bc.removeBundleListener(listener);
+			listener = null;
+		}
+		ExecutorService current = executor;
+		if (current != null) {
+			executor = null;
+			current.shutdownNow();
+		}
+		synchronized (pending) {
+			pending.clear();
+		}
+	}
+
+	private void schedule(Bundle bundle) {
+		Module module = bundle.adapt(Module.class);
+		if (module == null) {
+			return;
+		}
+		State state = module.getState();
+		if (State.INSTALLED.equals(state) || State.UNINSTALLED.equals(state)) {
+			return;
+		}
+		ModuleRevision revision = module.getCurrentRevision();
+		if (revision != null && revision.hasLazyActivatePolicy() && !State.ACTIVE.equals(state)) {
+			// wait for the bundle to get activated
+			return;
+		}
+		List<String> classes;
+		synchronized (pending) {
+			classes = pending.remove(bundle.getLocation());
+		}
+		ExecutorService current = executor;
+		if (classes == null || current == null) {
+			return;
+		}
+		try {
+			current.execute(() -> preload(bundle, classes));
+		} catch (RejectedExecutionException e) {
+			// the framework is stopping
+		}
+	}
+
+	private void preload(Bundle bundle, List<String> classes) {
+		BundleWiring wiring = bundle.adapt(BundleWiring.class);
+		ClassLoader loader = wiring == null ? null : wiring.getClassLoader();
+		if (loader == null) {
+			return;
+		}
+		preloading.set(Boolean.TRUE);
+		try {
+			for (String name : classes) {
+				if (Thread.currentThread().isInterrupted()) {
+					return;
+				}
+				try {
+					Class.forName(name, false, loader);
+				} catch (Exception | LinkageError e) {
+					// the class gets loaded, and the error reported, when it is used
+				}
+			}
+		} finally {
+			preloading.remove();
+		}
+	}
+
+	private void readProfile() throws IOException {
+		Map<String, List<String>> result = new LinkedHashMap<>();
+		try (BufferedReader reader = Files.newBufferedReader(profile.toPath(), StandardCharsets.UTF_8)) {
+			List<String> classes = null;
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				if (line.isEmpty()) {
+					continue;
+				}
+				if (line.charAt(0) == LOCATION_PREFIX) {
+					String location = line.substring(1);
+					classes = result.get(location);
+					if (classes == null) {
+						classes = new ArrayList<>();
+						result.put(location, classes);
+					}
+				} else if (classes != null) {
+					classes.add(line.trim());
+				}
+			}
+		}
+		synchronized (pending) {
+			pending.putAll(result);
+		}
+	}
+
+	private void writeProfile() {
+		File parent = profile.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		try (BufferedWriter writer = Files.newBufferedWriter(profile.toPath(), StandardCharsets.UTF_8)) {
+			synchronized (recorded) {
+				for (Map.Entry<String, Set<String>> bundleClasses : recorded.entrySet()) {
+					String location = bundleClasses.getKey();
+					if (location.indexOf('\n') >= 0 || location.indexOf('\r') >= 0) {
+						continue;
+					}
+					writer.write(LOCATION_PREFIX);
+					writer.write(location);
+					writer.newLine();
+					for (String name : bundleClasses.getValue()) {
+						writer.write(name);
+						writer.newLine();
+					}
+				}
+			}
+		} catch (IOException e) {
+			container.getLogServices().log(EquinoxContainer.NAME, FrameworkLogEntry.WARNING,
+					"Could not write the startup profile: " + profile, e); //$NON-NLS-1$
+		}
+	}
+}
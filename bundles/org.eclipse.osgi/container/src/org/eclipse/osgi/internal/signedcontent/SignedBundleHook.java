@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2016 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,11 +40,13 @@ import org.eclipse.osgi.internal.hookregistry.HookConfigurator;
 import org.eclipse.osgi.internal.hookregistry.HookRegistry;
 import org.eclipse.osgi.internal.service.security.KeyStoreTrustEngine;
 import org.eclipse.osgi.internal.signedcontent.SignedContentFromBundleFile.BaseSignerInfo;
+import org.eclipse.osgi.internal.signedcontent.SignedStorageHook.SignedStorageHookImpl;
 import org.eclipse.osgi.service.security.TrustEngine;
 import org.eclipse.osgi.signedcontent.SignedContent;
 import org.eclipse.osgi.signedcontent.SignedContentFactory;
 import org.eclipse.osgi.signedcontent.SignerInfo;
 import org.eclipse.osgi.storage.BundleInfo.Generation;
+import org.eclipse.osgi.storage.bundlefile.BundleFile;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
@@ -167,6 +169,7 @@ public class SignedBundleHook implements ActivatorHookFactory, HookConfigurator,
 	public void addHooks(HookRegistry hookRegistry) {
 		container = hookRegistry.getContainer();
 		hookRegistry.addActivatorHookFactory(this);
+		hookRegistry.addStorageHookFactory(new SignedStorageHook());
 		supportSignedBundles = hookRegistry.getConfiguration().supportSignedBundles;
 		trustEngineNameProp = hookRegistry.getConfiguration().getConfiguration(SignedContentConstants.TRUST_ENGINE);
 	}
@@ -185,7 +188,17 @@ public class SignedBundleHook implements ActivatorHookFactory, HookConfigurator,
 			CertificateException, NoSuchAlgorithmException, NoSuchProviderException {
 		Generation generation = (Generation) ((EquinoxBundle) bundle).getModule().getCurrentRevision()
 				.getRevisionInfo();
-		SignedContentFromBundleFile signedContent = new SignedContentFromBundleFile(generation.getBundleFile());
+		BundleFile bundleFile = generation.getBundleFile();
+		File content = bundleFile.getBaseFile();
+		SignedStorageHookImpl hook = generation.getStorageHook(SignedStorageHook.class);
+		// the persisted verification result is used if the content is unchanged
+		SignedContentFromBundleFile signedContent = hook == null ? null : hook.getSignedContent(content);
+		if (signedContent == null) {
+			signedContent = new SignedContentFromBundleFile(bundleFile);
+			if (hook != null) {
+				hook.setSignedContent(content, signedContent);
+			}
+		}
 		determineTrust(signedContent, EquinoxConfiguration.SIGNED_CONTENT_VERIFY_TRUST);
 		return signedContent;
 	}
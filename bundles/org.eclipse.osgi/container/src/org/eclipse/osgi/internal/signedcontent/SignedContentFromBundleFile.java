@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 IBM Corporation and others.
+ * Copyright (c) 2021, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -104,6 +104,10 @@ public class SignedContentFromBundleFile implements SignedContent {
 		TimestampSignerInfo getTSASignerInfo() {
 			return timestamp;
 		}
+
+		CodeSigner getCodeSigner() {
+			return codeSigner;
+		}
 	}
 
 	static class CodeSignerEntry implements SignedContentEntry {
@@ -134,6 +138,10 @@ public class SignedContentFromBundleFile implements SignedContent {
 		public void verify() throws IOException, InvalidContentException {
 			// already verified
 		}
+
+		List<CodeSignerInfo> getCodeSignerInfos() {
+			return signerInfos;
+		}
 	}
 
 	static class CorruptEntry implements SignedContentEntry {
@@ -181,6 +189,26 @@ public class SignedContentFromBundleFile implements SignedContent {
 		}, () -> bundleFile, signerInfos);
 	}
 
+	/**
+	 * Creates signed content from the code signers of content that has already
+	 * been verified. The signers of each entry are given as indexes into the list
+	 * of code signers.
+	 */
+	SignedContentFromBundleFile(List<CodeSigner> codeSigners, Map<String, int[]> entrySigners) {
+		for (CodeSigner codeSigner : codeSigners) {
+			signerInfos.add(new CodeSignerInfo(codeSigner));
+		}
+		signedEntries = new LinkedHashMap<>();
+		for (Map.Entry<String, int[]> entry : entrySigners.entrySet()) {
+			int[] indexes = entry.getValue();
+			List<CodeSignerInfo> entryInfos = new ArrayList<>(indexes.length);
+			for (int index : indexes) {
+				entryInfos.add(signerInfos.get(index));
+			}
+			signedEntries.put(entry.getKey(), new CodeSignerEntry(entryInfos, entry.getKey()));
+		}
+	}
+
 	public SignedContentFromBundleFile(File bundleFile, Debug debug) throws IOException {
 		DirBundleFile tmpDirBundleFile = null;
 		if (bundleFile.isDirectory()) {
@@ -0,0 +1,317 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.osgi.internal.signedcontent;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.CodeSigner;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Timestamp;
+import java.security.cert.CertPath;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.osgi.internal.hookregistry.StorageHookFactory;
+import org.eclipse.osgi.internal.signedcontent.SignedContentFromBundleFile.CodeSignerEntry;
+import org.eclipse.osgi.internal.signedcontent.SignedContentFromBundleFile.CodeSignerInfo;
+import org.eclipse.osgi.signedcontent.SignedContentEntry;
+import org.eclipse.osgi.signedcontent.SignerInfo;
+import org.eclipse.osgi.storage.BundleInfo.Generation;
+
+/**
+ * Persists the result of verifying the signed content of a bundle generation.
+ * Only the code signers of the content and the signers of each entry are
+ * persisted; the content is recognized by its length, last modified time and
+ * digest. Trust anchors are not persisted, trust is always determined again
+ * with the currently available trust engines.
+ */
+public class SignedStorageHook extends
+		StorageHookFactory<Map<CertPath, Integer>, List<CertPath>, SignedStorageHook.SignedStorageHookImpl> {
+	private static final int STORAGE_VERSION = 1;
+	private static final String DIGEST_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+	private static final String CERT_PATH_ENCODING = "PkiPath"; //$NON-NLS-1$
+
+	@Override
+	public int getStorageVersion() {
+		return STORAGE_VERSION;
+	}
+
+	@Override
+	public Map<CertPath, Integer> createSaveContext() {
+		// cert paths are shared by many bundles; each one is only written once
+		return new HashMap<>();
+	}
+
+	@Override
+	public List<CertPath> createLoadContext(int version) {
+		return new ArrayList<>();
+	}
+
+	@Override
+	protected SignedStorageHookImpl createStorageHook(Generation generation) {
+		return new SignedStorageHookImpl(generation);
+	}
+
+	static class VerifiedContent {
+		final long length;
+		final long lastModified;
+		final byte[] digest;
+		final List<CodeSigner> codeSigners;
+		final Map<String, int[]> entrySigners;
+
+		VerifiedContent(long length, long lastModified, byte[] digest, List<CodeSigner> codeSigners,
+				Map<String, int[]> entrySigners) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.digest = digest;
+			this.codeSigners = codeSigners;
+			this.entrySigners = entrySigners;
+		}
+	}
+
+	public static class SignedStorageHookImpl extends StorageHook<Map<CertPath, Integer>, List<CertPath>> {
+		private VerifiedContent verifiedContent;
+
+		SignedStorageHookImpl(Generation generation) {
+			super(generation, SignedStorageHook.class);
+		}
+
+		/**
+		 * Returns the signed content from the previous verification of the content if
+		 * the content is unchanged since then.
+		 * @param content the content of the generation
+		 * @return the signed content or {@code null} if the content must be verified
+		 */
+		public SignedContentFromBundleFile getSignedContent(File content) {
+			VerifiedContent current;
+			synchronized (this) {
+				current = verifiedContent;
+			}
+			if (current == null || content == null || current.length != content.length()
+					|| current.lastModified != content.lastModified()) {
+				return null;
+			}
+			try {
+				if (!Arrays.equals(current.digest, digest(content))) {
+					return null;
+				}
+			} catch (IOException | NoSuchAlgorithmException e) {
+				return null;
+			}
+			return new SignedContentFromBundleFile(current.codeSigners, current.entrySigners);
+		}
+
+		/**
+		 * Records the result of verifying the content. Content with entries that
+		 * failed verification is not recorded so that it always gets verified again.
+		 * A recorded result is saved with the framework storage; the module database
+		 * does not change, so the save is requested explicitly.
+		 * @param content       the content of the generation
+		 * @param signedContent the verified signed content
+		 */
+		void setSignedContent(File content, SignedContentFromBundleFile signedContent) {
+			VerifiedContent verified = null;
+			if (content != null && content.isFile()) {
+				try {
+					verified = createVerifiedContent(content, signedContent);
+				} catch (IOException | NoSuchAlgorithmException e) {
+					// do not record
+				}
+			}
+			synchronized (this) {
+				verifiedContent = verified;
+			}
+			if (verified != null) {
+				getGeneration().getBundleInfo().getStorage().requestSave();
+			}
+		}
+
+		private static VerifiedContent createVerifiedContent(File content, SignedContentFromBundleFile signedContent)
+				throws IOException, NoSuchAlgorithmException {
+			long length = content.length();
+			long lastModified = content.lastModified();
+			List<CodeSigner> codeSigners = new ArrayList<>();
+			Map<CodeSignerInfo, Integer> indexes = new HashMap<>();
+			for (SignerInfo info : signedContent.getSignerInfos()) {
+				indexes.put((CodeSignerInfo) info, indexes.size());
+				codeSigners.add(((CodeSignerInfo) info).getCodeSigner());
+			}
+			Map<String, int[]> entrySigners = new LinkedHashMap<>();
+			for (SignedContentEntry entry : signedContent.getSignedEntries()) {
+				if (!(entry instanceof CodeSignerEntry)) {
+					return null;
+				}
+				List<CodeSignerInfo> infos = ((CodeSignerEntry) entry).getCodeSignerInfos();
+				int[] signers = new int[infos.size()];
+				for (int i = 0; i < signers.length; i++) {
+					signers[i] = indexes.get(infos.get(i));
+				}
+				entrySigners.put(entry.getName(), signers);
+			}
+			byte[] digest = digest(content);
+			if (length != content.length() || lastModified != content.lastModified()) {
+				// modified while verifying
+				return null;
+			}
+			return new VerifiedContent(length, lastModified, digest, Collections.unmodifiableList(codeSigners),
+					Collections.unmodifiableMap(entrySigners));
+		}
+
+		@Override
+		public void load(List<CertPath> loadContext, DataInputStream is) throws IOException {
+			if (!is.readBoolean()) {
+				return;
+			}
+			long length = is.readLong();
+			long lastModified = is.readLong();
+			byte[] digest = new byte[is.readInt()];
+			is.readFully(digest);
+			int numSigners = is.readInt();
+			List<CodeSigner> codeSigners = new ArrayList<>(numSigners);
+			boolean valid = true;
+			for (int i = 0; i < numSigners; i++) {
+				CertPath signerCertPath = readCertPath(loadContext, is);
+				CertPath timestampCertPath = null;
+				Date date = null;
+				if (is.readBoolean()) {
+					date = new Date(is.readLong());
+					timestampCertPath = readCertPath(loadContext, is);
+					valid &= timestampCertPath != null;
+				}
+				valid &= signerCertPath != null;
+				if (valid) {
+					Timestamp timestamp = date == null ? null : new Timestamp(date, timestampCertPath);
+					codeSigners.add(new CodeSigner(signerCertPath, timestamp));
+				}
+			}
+			int numEntries = is.readInt();
+			Map<String, int[]> entrySigners = new LinkedHashMap<>();
+			for (int i = 0; i < numEntries; i++) {
+				String name = is.readUTF();
+				int[] signers = new int[is.readInt()];
+				for (int j = 0; j < signers.length; j++) {
+					signers[j] = is.readInt();
+				}
+				entrySigners.put(name, signers);
+			}
+			if (!valid) {
+				// the content gets verified again
+				return;
+			}
+			synchronized (this) {
+				verifiedContent = new VerifiedContent(length, lastModified, digest,
+						Collections.unmodifiableList(codeSigners), Collections.unmodifiableMap(entrySigners));
+			}
+		}
+
+		@Override
+		public void save(Map<CertPath, Integer> saveContext, DataOutputStream os) throws IOException {
+			VerifiedContent current;
+			synchronized (this) {
+				current = verifiedContent;
+			}
+			os.writeBoolean(current != null);
+			if (current == null) {
+				return;
+			}
+			os.writeLong(current.length);
+			os.writeLong(current.lastModified);
+			os.writeInt(current.digest.length);
+			os.write(current.digest);
+			os.writeInt(current.codeSigners.size());
+			for (CodeSigner codeSigner : current.codeSigners) {
+				writeCertPath(saveContext, codeSigner.getSignerCertPath(), os);
+				Timestamp timestamp = codeSigner.getTimestamp();
+				os.writeBoolean(timestamp != null);
+				if (timestamp != null) {
+					os.writeLong(timestamp.getTimestamp().getTime());
+					writeCertPath(saveContext, timestamp.getSignerCertPath(), os);
+				}
+			}
+			os.writeInt(current.entrySigners.size());
+			for (Map.Entry<String, int[]> entry : current.entrySigners.entrySet()) {
+				os.writeUTF(entry.getKey());
+				os.writeInt(entry.getValue().length);
+				for (int signer : entry.getValue()) {
+					os.writeInt(signer);
+				}
+			}
+		}
+
+		private static void writeCertPath(Map<CertPath, Integer> saveContext, CertPath certPath, DataOutputStream os)
+				throws IOException {
+			Integer index = saveContext.get(certPath);
+			if (index != null) {
+				os.writeInt(index);
+				return;
+			}
+			byte[] encoded;
+			try {
+				encoded = certPath.getEncoded(CERT_PATH_ENCODING);
+			} catch (CertificateException e) {
+				throw new IOException(e);
+			}
+			index = saveContext.size();
+			saveContext.put(certPath, index);
+			os.writeInt(index);
+			os.writeUTF(certPath.getType());
+			os.writeInt(encoded.length);
+			os.write(encoded);
+		}
+
+		private static CertPath readCertPath(List<CertPath> loadContext, DataInputStream is) throws IOException {
+			int index = is.readInt();
+			if (index < loadContext.size()) {
+				return loadContext.get(index);
+			}
+			String type = is.readUTF();
+			byte[] encoded = new byte[is.readInt()];
+			is.readFully(encoded);
+			CertPath certPath = null;
+			try {
+				certPath = CertificateFactory.getInstance(type).generateCertPath(new ByteArrayInputStream(encoded),
+						CERT_PATH_ENCODING);
+			} catch (CertificateException e) {
+				// keep the index of the following cert paths; content using it is verified
+				// again
+			}
+			loadContext.add(certPath);
+			return certPath;
+		}
+
+		private static byte[] digest(File content) throws IOException, NoSuchAlgorithmException {
+			MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+			try (InputStream in = new FileInputStream(content)) {
+				byte[] buffer = new byte[8192];
+				for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+					digest.update(buffer, 0, read);
+				}
+			}
+			return digest.digest();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.osgi.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.osgi.framework.InvalidSyntaxException;
+
+/**
+ * Matches file names against the file pattern of
+ * {@link org.osgi.framework.Bundle#findEntries(String, String, boolean)}. The
+ * pattern is compiled once and matches the same names as the filter
+ * {@code (filename=<pattern>)} using the substring matching rules of
+ * {@link org.osgi.framework.Filter#matchCase(java.util.Dictionary)}, without
+ * creating a filter or a dictionary for each name.
+ */
+final class FilePatternMatcher {
+	// null elements represent a wildcard
+	private final String[] substrings;
+
+	private FilePatternMatcher(String[] substrings) {
+		this.substrings = substrings;
+	}
+
+	/**
+	 * Compiles the specified file pattern.
+	 *
+	 * @param filePattern the file pattern, '*' matches any sequence of characters
+	 *                    and '\' escapes the next character
+	 * @return the compiled file pattern
+	 * @throws InvalidSyntaxException if the pattern ends with an escape character
+	 */
+	static FilePatternMatcher compile(String filePattern) throws InvalidSyntaxException {
+		if (filePattern.length() > 0 && filePattern.charAt(0) == '*' && filePattern.trim().equals("*")) { //$NON-NLS-1$
+			// same as a presence filter; matches anything
+			return new FilePatternMatcher(new String[] { null });
+		}
+		List<String> operands = new ArrayList<>();
+		StringBuilder sb = new StringBuilder(filePattern.length());
+		for (int i = 0; i < filePattern.length(); i++) {
+			char c = filePattern.charAt(i);
+			if (c == '*') {
+				if (sb.length() > 0) {
+					operands.add(sb.toString());
+				}
+				sb.setLength(0);
+				operands.add(null);
+				continue;
+			}
+			if (c == '\\') {
+				if (++i == filePattern.length()) {
+					throw new InvalidSyntaxException("Trailing escape characters must be escaped.", filePattern); //$NON-NLS-1$
+				}
+				c = filePattern.charAt(i);
+			}
+			sb.append(c);
+		}
+		if (sb.length() > 0 || operands.isEmpty()) {
+			operands.add(sb.toString());
+		}
+		return new FilePatternMatcher(operands.toArray(new String[0]));
+	}
+
+	/**
+	 * Returns true if the file name in the specified range of the string matches
+	 * this pattern.
+	 *
+	 * @param string the string containing the file name
+	 * @param start  the start index of the file name, inclusive
+	 * @param end    the end index of the file name, exclusive
+	 * @return true if the file name matches
+	 */
+	boolean matches(String string, int start, int end) {
+		String[] subs = substrings;
+		if (subs.length == 1 && subs[0] != null) {
+			String value = subs[0];
+			return end - start == value.length() && string.regionMatches(start, value, 0, value.length());
+		}
+		int pos = start;
+		for (int i = 0, size = subs.length; i < size; i++) {
+			String substr = subs[i];
+			if (i + 1 < size) /* if this is not that last substr */ {
+				if (substr == null) /* * */ {
+					String substr2 = subs[i + 1];
+					if (substr2 == null) /* ** */
+						continue; /* ignore first star */
+					/* xxx */
+					int index = string.indexOf(substr2, pos);
+					if (index == -1 || index + substr2.length() > end) {
+						return false;
+					}
+					pos = index + substr2.length();
+					if (i + 2 < size) // if there are more substrings, increment over the string we just
+						// matched; otherwise need to do the last substr check
+						i++;
+				} else /* xxx */ {
+					int len = substr.length();
+					if (pos + len <= end && string.regionMatches(pos, substr, 0, len)) {
+						pos += len;
+					} else {
+						return false;
+					}
+				}
+			} else /* last substr */ {
+				if (substr == null) /* * */ {
+					return true;
+				}
+				/* xxx */
+				int len = substr.length();
+				return end - start >= len && string.regionMatches(end - len, substr, 0, len);
+			}
+		}
+		return true;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2022 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,10 +17,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Enumeration;
-import java.util.Hashtable;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map.Entry;
@@ -44,19 +44,20 @@ public class ManifestLocalization {
 	private final Generation generation;
 	private final Dictionary<String, String> rawHeaders;
 	private volatile Dictionary<String, String> defaultLocaleHeaders = null;
-	private final Hashtable<String, BundleResourceBundle> cache = new Hashtable<>(5);
+	private final ManifestLocalizationCache cache;
+	// identifies the entries of this localization in the shared cache
+	private volatile Object cacheToken = new Object();
 
 	public ManifestLocalization(Generation generation, Dictionary<String, String> rawHeaders, String defaultRoot) {
 		this.generation = generation;
 		this.rawHeaders = rawHeaders;
 		this.defaultRoot = defaultRoot;
+		this.cache = generation.getBundleInfo().getStorage().getManifestLocalizationCache();
 	}
 
 	public void clearCache() {
-		synchronized (cache) {
-			cache.clear();
-			defaultLocaleHeaders = null;
-		}
+		cacheToken = new Object();
+		defaultLocaleHeaders = null;
 	}
 
 	Dictionary<String, String> getHeaders(String localeString) {
@@ -75,6 +76,15 @@ public class ManifestLocalization {
 				return currentDefault;
 			return rawHeaders;
 		}
+		Object token = cacheToken;
+		@SuppressWarnings("unchecked")
+		Dictionary<String, String> cached = (Dictionary<String, String>) cache.get(token, localeString, true);
+		if (cached != null) {
+			if (isDefaultLocale && token == cacheToken) {
+				defaultLocaleHeaders = cached;
+			}
+			return cached;
+		}
 		ResourceBundle localeProperties = getResourceBundle(localeString, isDefaultLocale);
 		CaseInsensitiveDictionaryMap<String, String> localeHeaders = new CaseInsensitiveDictionaryMap<>(
 				this.rawHeaders);
@@ -92,7 +102,8 @@ public class ManifestLocalization {
 			}
 		}
 		Dictionary<String, String> result = localeHeaders.asUnmodifiableDictionary();
-		if (isDefaultLocale) {
+		cache.put(token, localeString, true, result);
+		if (isDefaultLocale && token == cacheToken) {
 			defaultLocaleHeaders = result;
 		}
 		return result;
@@ -154,20 +165,34 @@ public class ManifestLocalization {
 		if (localizationHeader == null)
 			localizationHeader = Constants.BUNDLE_LOCALIZATION_DEFAULT_BASENAME;
 
-		BundleResourceBundle result = cache.get(localeString);
+		Object token = cacheToken;
+		BundleResourceBundle result = (BundleResourceBundle) cache.get(token, localeString, false);
 		if (result != null)
 			return result.isEmpty() ? null : result;
 
+		String[] nlVarients = buildNLVariants(localeString);
+		// the less specific variants that are already cached do not need to be
+		// searched for again, they become the parents of the more specific variants
+		BundleResourceBundle parent = null;
+		int numVarients = nlVarients.length;
+		for (int i = 1; i < nlVarients.length && parent == null; i++) {
+			// a cached variant is only used if it has the same parent variants
+			if (Arrays.equals(buildNLVariants(nlVarients[i]),
+					Arrays.copyOfRange(nlVarients, i, nlVarients.length))) {
+				parent = (BundleResourceBundle) cache.get(token, nlVarients[i], false);
+				if (parent != null) {
+					numVarients = i;
+				}
+			}
+		}
+
 		// Collect all the necessary inputstreams to create the resource bundle without
 		// holding any locks. Finding resources and inputstreams from the wirings
-		// requires a
-		// read lock on the module database. We must not hold the cache lock while doing
-		// this;
-		// otherwise out of order locks will be possible when the resolver needs to
-		// clear the cache
-		String[] nlVarients = buildNLVariants(localeString);
-		InputStream[] nlStreams = new InputStream[nlVarients.length];
-		for (int i = nlVarients.length - 1; i >= 0; i--) {
+		// requires a read lock on the module database. We must not hold the cache
+		// lock while doing this; otherwise out of order locks will be possible when
+		// the resolver needs to clear the cache
+		InputStream[] nlStreams = new InputStream[numVarients];
+		for (int i = numVarients - 1; i >= 0; i--) {
 
 			URL url = findResource(localizationHeader + (nlVarients[i].equals("") ? nlVarients[i] : '_' + nlVarients[i]) //$NON-NLS-1$
 					+ ".properties"); //$NON-NLS-1$
@@ -180,40 +205,33 @@ public class ManifestLocalization {
 			}
 		}
 
-		synchronized (cache) {
-			BundleResourceBundle parent = null;
-			for (int i = nlVarients.length - 1; i >= 0; i--) {
-				BundleResourceBundle varientBundle = null;
-				InputStream varientStream = nlStreams[i];
-				if (varientStream == null) {
-					varientBundle = cache.get(nlVarients[i]);
-				} else {
+		for (int i = numVarients - 1; i >= 0; i--) {
+			BundleResourceBundle varientBundle = null;
+			InputStream varientStream = nlStreams[i];
+			if (varientStream != null) {
+				try {
+					varientBundle = new LocalizationResourceBundle(varientStream);
+				} catch (IOException e) {
+					// ignore and continue
+				} finally {
 					try {
-						varientBundle = new LocalizationResourceBundle(varientStream);
-					} catch (IOException e) {
-						// ignore and continue
-					} finally {
-						if (varientStream != null) {
-							try {
-								varientStream.close();
-							} catch (IOException e3) {
-								// Ignore exception
-							}
-						}
+						varientStream.close();
+					} catch (IOException e3) {
+						// Ignore exception
 					}
 				}
+			}
 
-				if (varientBundle == null) {
-					varientBundle = new EmptyResouceBundle(nlVarients[i]);
-				}
-				if (parent != null)
-					varientBundle.setParent((ResourceBundle) parent);
-				cache.put(nlVarients[i], varientBundle);
-				parent = varientBundle;
+			if (varientBundle == null) {
+				// also cached to avoid searching for the missing variant again
+				varientBundle = new EmptyResouceBundle(nlVarients[i]);
 			}
-			result = cache.get(localeString);
-			return result.isEmpty() ? null : result;
+			if (parent != null)
+				varientBundle.setParent((ResourceBundle) parent);
+			cache.put(token, nlVarients[i], false, varientBundle);
+			parent = varientBundle;
 		}
+		return parent.isEmpty() ? null : parent;
 	}
 
 	private URL findResource(String resource) {
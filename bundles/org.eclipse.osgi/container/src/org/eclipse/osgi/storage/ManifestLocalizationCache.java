@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.osgi.storage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A cache of the localization resource bundles and localized headers of all
+ * the generations of a framework. The number of entries is limited; the least
+ * recently used entries are discarded first. Resource bundles for locale
+ * variants that are missing from a bundle are cached as empty resource bundles
+ * so that the bundle is not searched for them again.
+ * <p>
+ * Entries are keyed by a token of the {@link ManifestLocalization} which
+ * created them. A manifest localization invalidates all of its entries by
+ * replacing its token; the unreachable entries get discarded as the cache is
+ * used.
+ */
+final class ManifestLocalizationCache {
+	private final int maxEntries;
+	private final Map<Key, Object> entries;
+
+	ManifestLocalizationCache(final int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<Key, Object>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	synchronized Object get(Object token, String localeString, boolean headers) {
+		return entries.get(new Key(token, localeString, headers));
+	}
+
+	synchronized void put(Object token, String localeString, boolean headers, Object value) {
+		if (maxEntries > 0) {
+			entries.put(new Key(token, localeString, headers), value);
+		}
+	}
+
+	private static final class Key {
+		private final Object token;
+		private final String localeString;
+		private final boolean headers;
+		private final int hashCode;
+
+		Key(Object token, String localeString, boolean headers) {
+			this.token = token;
+			this.localeString = localeString;
+			this.headers = headers;
+			this.hashCode = (System.identityHashCode(token) * 31 + localeString.hashCode()) * 31 + (headers ? 1 : 0);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return token == other.token && headers == other.headers && localeString.equals(other.localeString);
+		}
+	}
+}
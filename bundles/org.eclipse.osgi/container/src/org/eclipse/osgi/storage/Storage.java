@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2021 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
@@ -45,7 +46,7 @@ import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Enumeration;
 import java.util.HashMap;
-import java.util.Hashtable;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -54,8 +55,13 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
 import org.eclipse.core.runtime.adaptor.EclipseStarter;
 import org.eclipse.osgi.container.Module;
 import org.eclipse.osgi.container.ModuleCapability;
@@ -77,12 +83,12 @@ import org.eclipse.osgi.internal.container.InternalUtils;
 import org.eclipse.osgi.internal.framework.EquinoxConfiguration;
 import org.eclipse.osgi.internal.framework.EquinoxContainer;
 import org.eclipse.osgi.internal.framework.EquinoxContainerAdaptor;
-import org.eclipse.osgi.internal.framework.FilterImpl;
 import org.eclipse.osgi.internal.hookregistry.BundleFileWrapperFactoryHook;
 import org.eclipse.osgi.internal.hookregistry.StorageHookFactory;
 import org.eclipse.osgi.internal.hookregistry.StorageHookFactory.StorageHook;
 import org.eclipse.osgi.internal.location.EquinoxLocations;
 import org.eclipse.osgi.internal.location.LocationHelper;
+import org.eclipse.osgi.internal.location.Locker;
 import org.eclipse.osgi.internal.log.EquinoxLogServices;
 import org.eclipse.osgi.internal.messages.Msg;
 import org.eclipse.osgi.internal.permadmin.SecurityAdmin;
@@ -107,7 +113,6 @@ import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.BundleException;
 import org.osgi.framework.Constants;
-import org.osgi.framework.Filter;
 import org.osgi.framework.InvalidSyntaxException;
 import org.osgi.framework.Version;
 import org.osgi.framework.connect.ConnectModule;
@@ -150,6 +155,9 @@ public class Storage {
 	public static final String BUNDLE_DATA_DIR = "data"; //$NON-NLS-1$
 	public static final String BUNDLE_FILE_NAME = "bundleFile"; //$NON-NLS-1$
 	public static final String FRAMEWORK_INFO = "framework.info"; //$NON-NLS-1$
+	// not prefixed with framework.info, the storage manager deletes all other files
+	// with that prefix when cleaning up the old copies of framework.info
+	public static final String FRAMEWORK_INFO_JOURNAL = "framework.journal"; //$NON-NLS-1$
 	public static final String ECLIPSE_SYSTEMBUNDLE = "Eclipse-SystemBundle"; //$NON-NLS-1$
 	public static final String DELETE_FLAG = ".delete"; //$NON-NLS-1$
 	public static final String LIB_TEMP = "libtemp"; //$NON-NLS-1$
@@ -158,6 +166,11 @@ public class Storage {
 	private static final String PROFILE_EXT = ".profile"; //$NON-NLS-1$
 	private static final String NUL = new String(new byte[] { 0 });
 	private static final String INITIAL_LOCATION = "initial@"; //$NON-NLS-1$
+	// the number of journal records after which the complete framework.info is
+	// saved again
+	private static final int MAX_JOURNAL_RECORDS = 1000;
+	// the lock file of the child storage manager, also taken to append the journal
+	private static final String CHILD_STORAGE_LOCK = ".fileTableLock"; //$NON-NLS-1$
 
 	static final SecureAction secureAction = AccessController.doPrivileged(SecureAction.createSecureAction());
 
@@ -173,7 +186,15 @@ public class Storage {
 	private final ModuleContainer moduleContainer;
 	private final Object saveMonitor = new Object();
 	private long lastSavedTimestamp = -1;
+	private long lastSavedRevisionsTimestamp = -1;
+	// set when storage hook data of a generation changed without a change of the
+	// module database; see requestSave()
+	private volatile boolean generationsModified;
+	// the number of records appended to the journal since framework.info was
+	// saved, -1 if the journal cannot be appended
+	private int journalRecords = -1;
 	private final MRUBundleFileList mruList;
+	private final ManifestLocalizationCache manifestLocalizationCache;
 	private final FrameworkExtensionInstaller extensionInstaller;
 	private final List<String> cachedHeaderKeys = Arrays.asList(Constants.BUNDLE_SYMBOLICNAME,
 			Constants.BUNDLE_ACTIVATIONPOLICY, "Service-Component"); //$NON-NLS-1$
@@ -224,6 +245,8 @@ public class Storage {
 		javaSpecVersion = javaSpecVersionProp;
 		mruList = new MRUBundleFileList(getBundleFileLimit(container.getConfiguration()),
 				container.getConfiguration().getDebug());
+		manifestLocalizationCache = new ManifestLocalizationCache(
+				getLocalizationCacheSize(container.getConfiguration()));
 		equinoxContainer = container;
 		extensionInstaller = new FrameworkExtensionInstaller(container.getConfiguration());
 		allowRestrictedProvides = Boolean.parseBoolean(
@@ -289,6 +312,8 @@ public class Storage {
 				try {
 					moduleDatabase.load(data);
 					lastSavedTimestamp = moduleDatabase.getTimestamp();
+					lastSavedRevisionsTimestamp = moduleDatabase.getRevisionsTimestamp();
+					loadJournal();
 				} catch (IllegalArgumentException e) {
 					equinoxContainer.getLogServices().log(EquinoxContainer.NAME, FrameworkLogEntry.WARNING,
 							"Incompatible version.  Starting with empty framework.", e); //$NON-NLS-1$
@@ -318,6 +343,22 @@ public class Storage {
 		return mruList;
 	}
 
+	ManifestLocalizationCache getManifestLocalizationCache() {
+		return manifestLocalizationCache;
+	}
+
+	private int getLocalizationCacheSize(EquinoxConfiguration configuration) {
+		int propValue = 10000; // enough for the default locale of a few thousand bundles
+		try {
+			String prop = configuration.getConfiguration(EquinoxConfiguration.PROP_LOCALIZATION_CACHE_SIZE);
+			if (prop != null)
+				propValue = Integer.parseInt(prop);
+		} catch (NumberFormatException e) {
+			// use default of 10000
+		}
+		return propValue;
+	}
+
 	private int getBundleFileLimit(EquinoxConfiguration configuration) {
 		int propValue = 100; // enable to 100 open files by default
 		try {
@@ -526,7 +567,7 @@ public class Storage {
 
 	public void close() {
 		try {
-			save();
+			save(true);
 		} catch (IOException e) {
 			getLogServices().log(EquinoxContainer.NAME, FrameworkLogEntry.ERROR, "Error saving on shutdown", e); //$NON-NLS-1$
 		}
@@ -691,6 +732,226 @@ public class Storage {
 	}
 
 	public Generation install(Module origin, String bundleLocation, InputStream toInstall) throws BundleException {
+		PreparedInstall prepared = prepareInstall(origin, bundleLocation, toInstall, null);
+		try {
+			return completeInstall(origin, bundleLocation, prepared);
+		} finally {
+			if (prepared.generation != null) {
+				prepared.generation.getBundleInfo().unlockGeneration(prepared.generation);
+			}
+		}
+	}
+
+	/**
+	 * Installs the bundles at the specified locations. The content of the bundles
+	 * is staged and opened and the manifests of the bundles are parsed in parallel.
+	 * The bundles are then installed into the module container one at a time in
+	 * the order of the specified locations.
+	 * <p>
+	 * Bundle ids are reserved up front in the order of the locations, one for each
+	 * location that is not installed yet. A location that occurs more than once
+	 * only reserves an id for its first occurrence. The ids match the ids of
+	 * installing each bundle with {@link #install(Module, String, InputStream)} as
+	 * long as all bundles install. A bundle which fails to install still uses up
+	 * its reserved id, even if it failed before an id would have been assigned by
+	 * a single install.
+	 * <p>
+	 * The number of threads used to prepare the bundles is configured with
+	 * {@link EquinoxConfiguration#PROP_EQUINOX_INSTALL_THREAD_COUNT}.
+	 *
+	 * @param origin          the module installing the bundles
+	 * @param bundleLocations the locations of the bundles
+	 * @param contents        the URLs of the content of the bundles, an element may
+	 *                        be {@code null} to get the content from the location.
+	 *                        The content of a bundle is only opened by the thread
+	 *                        that prepares it and is closed once it is staged.
+	 * @param failures        receives the exception for each bundle which failed to
+	 *                        install
+	 * @return the generations of the installed bundles, the element for a bundle
+	 *         which failed to install is {@code null}
+	 */
+	public Generation[] installAll(Module origin, String[] bundleLocations, URL[] contents,
+			BundleException[] failures) {
+		Generation[] result = new Generation[bundleLocations.length];
+		int threadCount = getInstallThreadCount(bundleLocations.length);
+		if (threadCount <= 1) {
+			for (int i = 0; i < bundleLocations.length; i++) {
+				try {
+					result[i] = install(origin, bundleLocations[i], contents[i]);
+				} catch (BundleException e) {
+					failures[i] = e;
+				} catch (SecurityException e) {
+					failures[i] = new BundleException(e.getMessage(), BundleException.SECURITY_ERROR, e);
+				}
+			}
+			return result;
+		}
+
+		// assign the ids up front to get the same ids as installing one at a time
+		Long[] ids = new Long[bundleLocations.length];
+		boolean[] repeated = new boolean[bundleLocations.length];
+		Set<String> locations = new HashSet<>();
+		for (int i = 0; i < bundleLocations.length; i++) {
+			if (!locations.add(bundleLocations[i])) {
+				// installed after the first occurrence of the location
+				repeated[i] = true;
+			} else if (moduleContainer.getModule(bundleLocations[i]) == null) {
+				ids[i] = Long.valueOf(moduleDatabase.getAndIncrementNextId());
+			}
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount, r -> {
+			Thread t = new Thread(r, "Equinox install thread - " + equinoxContainer); //$NON-NLS-1$
+			t.setDaemon(true);
+			return t;
+		});
+		try {
+			List<Future<PreparedInstall>> prepared = new ArrayList<>(bundleLocations.length);
+			for (int i = 0; i < bundleLocations.length; i++) {
+				if (repeated[i]) {
+					prepared.add(null);
+					continue;
+				}
+				final String bundleLocation = bundleLocations[i];
+				final URL content = contents[i];
+				final Long id = ids[i];
+				prepared.add(executor.submit(() -> {
+					PreparedInstall install = prepareInstall(origin, bundleLocation, content, id);
+					if (install.generation != null) {
+						// The generation lock is owned by this thread. The generation is not visible
+						// to other threads until it is installed into the container.
+						install.generation.getBundleInfo().unlockGeneration(install.generation);
+					}
+					return install;
+				}));
+			}
+			for (int i = 0; i < bundleLocations.length; i++) {
+				try {
+					if (repeated[i]) {
+						result[i] = install(origin, bundleLocations[i], contents[i]);
+					} else {
+						result[i] = completeInstall(origin, bundleLocations[i], getUninterruptibly(prepared.get(i)));
+					}
+				} catch (BundleException e) {
+					failures[i] = e;
+				} catch (SecurityException e) {
+					failures[i] = new BundleException(e.getMessage(), BundleException.SECURITY_ERROR, e);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+		return result;
+	}
+
+	private Generation install(Module origin, String bundleLocation, URL content) throws BundleException {
+		InputStream in = openContent(content);
+		try {
+			return install(origin, bundleLocation, in);
+		} finally {
+			closeContent(in);
+		}
+	}
+
+	private PreparedInstall prepareInstall(Module origin, String bundleLocation, URL content, Long id)
+			throws BundleException {
+		InputStream in = openContent(content);
+		try {
+			return prepareInstall(origin, bundleLocation, in, id);
+		} finally {
+			// the content has been staged or the install failed
+			closeContent(in);
+		}
+	}
+
+	private static InputStream openContent(URL content) throws BundleException {
+		if (content == null) {
+			return null;
+		}
+		try {
+			return LocationHelper.getStream(content);
+		} catch (IOException e) {
+			throw new BundleException("Error reading bundle content.", e); //$NON-NLS-1$
+		}
+	}
+
+	private static void closeContent(InputStream in) {
+		if (in != null) {
+			try {
+				in.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	private int getInstallThreadCount(int numBundles) {
+		String threadCountProp = getConfiguration()
+				.getConfiguration(EquinoxConfiguration.PROP_EQUINOX_INSTALL_THREAD_COUNT);
+		int threadCount;
+		try {
+			// the install thread count defaults to -1 (compute based on processor number)
+			threadCount = threadCountProp == null ? -1 : Integer.parseInt(threadCountProp);
+		} catch (NumberFormatException e) {
+			threadCount = -1;
+		}
+		if (threadCount <= 0) {
+			threadCount = Runtime.getRuntime().availableProcessors();
+		}
+		return Math.min(threadCount, numBundles);
+	}
+
+	private static PreparedInstall getUninterruptibly(Future<PreparedInstall> future) throws BundleException {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					return future.get();
+				} catch (InterruptedException e) {
+					// all prepared bundles must be installed or cleaned up
+					interrupted = true;
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof BundleException) {
+						throw (BundleException) cause;
+					}
+					throw new BundleException("Error occurred installing a bundle.", cause); //$NON-NLS-1$
+				}
+			}
+		} finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * The result of preparing the install of a bundle. Either the generation of an
+	 * existing bundle at the location or a new locked generation with the builder
+	 * for its revision.
+	 */
+	private static final class PreparedInstall {
+		final Generation existing;
+		final Type contentType;
+		final File staged;
+		final Generation generation;
+		final ModuleRevisionBuilder builder;
+
+		PreparedInstall(Generation existing) {
+			this(existing, null, null, null, null);
+		}
+
+		PreparedInstall(Generation existing, Type contentType, File staged, Generation generation,
+				ModuleRevisionBuilder builder) {
+			this.existing = existing;
+			this.contentType = contentType;
+			this.staged = staged;
+			this.generation = generation;
+			this.builder = builder;
+		}
+	}
+
+	private PreparedInstall prepareInstall(Module origin, String bundleLocation, InputStream toInstall, Long id)
+			throws BundleException {
 		URLConnection content = getContentConnection(null, bundleLocation, toInstall);
 		if (osgiLocation.isReadOnly()) {
 			throw new BundleException("The framework storage area is read only.", BundleException.INVALID_OPERATION); //$NON-NLS-1$
@@ -728,7 +989,7 @@ public class Storage {
 							b.getSymbolicName(), b.getVersion(), bundleLocation), BundleException.REJECTED_BY_HOOK);
 				}
 			}
-			return (Generation) existingLocation.getCurrentRevision().getRevisionInfo();
+			return new PreparedInstall((Generation) existingLocation.getCurrentRevision().getRevisionInfo());
 		}
 
 		ContentProvider contentProvider = getContentProvider(in, sourceURL);
@@ -737,7 +998,7 @@ public class Storage {
 
 		Generation generation = null;
 		try {
-			Long nextID = moduleDatabase.getAndIncrementNextId();
+			Long nextID = id != null ? id : moduleDatabase.getAndIncrementNextId();
 			BundleInfo info = new BundleInfo(this, nextID, bundleLocation, 0);
 			generation = info.createGeneration();
 
@@ -749,43 +1010,58 @@ public class Storage {
 
 			ModuleRevisionBuilder builder = getBuilder(generation);
 			builder.setId(nextID);
+			return new PreparedInstall(null, contentType, staged, generation, builder);
+		} catch (Throwable t) {
+			if (generation != null) {
+				generation.getBundleInfo().unlockGeneration(generation);
+			}
+			throw installFailed(t, contentType, staged, generation);
+		}
+	}
 
-			Module m = moduleContainer.install(origin, bundleLocation, builder, generation);
-			if (!nextID.equals(m.getId())) {
+	private Generation completeInstall(Module origin, String bundleLocation, PreparedInstall prepared)
+			throws BundleException {
+		if (prepared.existing != null) {
+			return prepared.existing;
+		}
+		Generation generation = prepared.generation;
+		try {
+			Module m = moduleContainer.install(origin, bundleLocation, prepared.builder, generation);
+			if (m.getId().longValue() != generation.getBundleInfo().getBundleId()) {
 				// this revision is already installed. delete the generation
 				generation.delete();
 				return (Generation) m.getCurrentRevision().getRevisionInfo();
 			}
 			return generation;
 		} catch (Throwable t) {
-			if (contentType == Type.DEFAULT) {
-				try {
-					delete(staged);
-				} catch (IOException e) {
-					// tried our best
-				}
-			}
-			if (generation != null) {
-				generation.delete();
-				generation.getBundleInfo().delete();
-			}
-			if (t instanceof SecurityException) {
-				// TODO hack from ModuleContainer
-				// if the cause is a bundle exception then throw that
-				if (t.getCause() instanceof BundleException) {
-					throw (BundleException) t.getCause();
-				}
-				throw (SecurityException) t;
-			}
-			if (t instanceof BundleException) {
-				throw (BundleException) t;
+			throw installFailed(t, prepared.contentType, prepared.staged, generation);
+		}
+	}
+
+	private BundleException installFailed(Throwable t, Type contentType, File staged, Generation generation) {
+		if (contentType == Type.DEFAULT) {
+			try {
+				delete(staged);
+			} catch (IOException e) {
+				// tried our best
 			}
-			throw new BundleException("Error occurred installing a bundle.", t); //$NON-NLS-1$
-		} finally {
-			if (generation != null) {
-				generation.getBundleInfo().unlockGeneration(generation);
+		}
+		if (generation != null) {
+			generation.delete();
+			generation.getBundleInfo().delete();
+		}
+		if (t instanceof SecurityException) {
+			// TODO hack from ModuleContainer
+			// if the cause is a bundle exception then throw that
+			if (t.getCause() instanceof BundleException) {
+				return (BundleException) t.getCause();
 			}
+			throw (SecurityException) t;
+		}
+		if (t instanceof BundleException) {
+			return (BundleException) t;
 		}
+		return new BundleException("Error occurred installing a bundle.", t); //$NON-NLS-1$
 	}
 
 	ContentProvider getContentProvider(final InputStream in, final URL sourceURL) {
@@ -1323,15 +1599,37 @@ public class Storage {
 	}
 
 	public void save() throws IOException {
+		save(false);
+	}
+
+	/**
+	 * Requests that the framework data is saved although the module database has
+	 * not changed, for instance because a storage hook recorded new data for a
+	 * generation. The data is saved by the storage saver, or on shutdown.
+	 */
+	public void requestSave() {
+		generationsModified = true;
+		adaptor.updatedDatabase();
+	}
+
+	/**
+	 * Saves the framework data. The modifications of the module settings and start
+	 * levels are appended to the journal unless a checkpoint is requested or other
+	 * modifications require the complete framework.info to be saved.
+	 *
+	 * @param checkpoint true if the complete framework.info must be saved
+	 * @throws IOException if an error occurs saving the framework data
+	 */
+	private void save(boolean checkpoint) throws IOException {
 		if (isReadOnly()) {
 			return;
 		}
 		if (System.getSecurityManager() == null) {
-			save0();
+			save0(checkpoint);
 		} else {
 			try {
 				AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-					save0();
+					save0(checkpoint);
 					return null;
 				});
 			} catch (PrivilegedActionException e) {
@@ -1342,30 +1640,47 @@ public class Storage {
 		}
 	}
 
-	void save0() throws IOException {
+	void save0(boolean checkpoint) throws IOException {
 		StorageManager childStorageManager = null;
 		ManagedOutputStream mos = null;
 		DataOutputStream out = null;
 		boolean success = false;
+		boolean clearedModified = false;
 		moduleDatabase.readLock();
 		synchronized (this.saveMonitor) {
 			try {
-				if (lastSavedTimestamp == moduleDatabase.getTimestamp())
+				if (lastSavedTimestamp == moduleDatabase.getTimestamp() && !generationsModified
+						&& (!checkpoint || journalRecords == 0))
+					return;
+				if (!checkpoint && !generationsModified && appendJournal()) {
+					lastSavedTimestamp = moduleDatabase.getTimestamp();
 					return;
+				}
+				// cleared before the generations are written so that a later request is not lost
+				clearedModified = generationsModified;
+				generationsModified = false;
 				childStorageManager = getChildStorageManager();
 				mos = childStorageManager.getOutputStream(FRAMEWORK_INFO);
 				out = new DataOutputStream(new BufferedOutputStream(mos));
 				saveGenerations(out);
 				savePermissionData(out);
 				moduleDatabase.store(out, true);
+				// closing commits the new framework.info before the journal is removed
+				out.close();
+				out = null;
 				lastSavedTimestamp = moduleDatabase.getTimestamp();
+				lastSavedRevisionsTimestamp = moduleDatabase.getRevisionsTimestamp();
 				success = true;
+				deleteJournal();
 			} finally {
 				moduleDatabase.readUnlock();
 				if (!success) {
 					if (mos != null) {
 						mos.abort();
 					}
+					if (clearedModified) {
+						generationsModified = true;
+					}
 				}
 				if (out != null) {
 					try {
@@ -1381,6 +1696,117 @@ public class Storage {
 		}
 	}
 
+	/**
+	 * Appends the modifications of the module settings and start levels since the
+	 * last save to the journal. Each record is written with its length and checksum
+	 * so that a partially written record is detected when the journal is loaded.
+	 * Like framework.info, the journal is written while holding the lock of the
+	 * child storage manager, and it is synced to the disk before the save is
+	 * reported as done.
+	 *
+	 * @return true if the modifications were appended, false if the complete
+	 *         framework.info must be saved
+	 */
+	private boolean appendJournal() {
+		if (journalRecords < 0 || journalRecords >= MAX_JOURNAL_RECORDS
+				|| lastSavedRevisionsTimestamp != moduleDatabase.getRevisionsTimestamp()
+				|| permissionData.isDirty()) {
+			return false;
+		}
+		String locking = getConfiguration().getConfiguration(LocationHelper.PROP_OSGI_LOCKING,
+				LocationHelper.LOCKING_NIO);
+		Locker locker = LocationHelper.createLocker(new File(childRoot, CHILD_STORAGE_LOCK), locking, false);
+		try {
+			ByteArrayOutputStream tempBytes = new ByteArrayOutputStream();
+			try (DataOutputStream temp = new DataOutputStream(tempBytes)) {
+				moduleDatabase.storeModifications(temp, lastSavedTimestamp);
+			}
+			byte[] record = tempBytes.toByteArray();
+			CRC32 checksum = new CRC32();
+			checksum.update(record, 0, record.length);
+			if (!locker.lock()) {
+				// someone else is writing the storage; save the complete framework.info,
+				// which waits for the lock
+				return false;
+			}
+			try (FileOutputStream fos = new FileOutputStream(new File(childRoot, FRAMEWORK_INFO_JOURNAL), true);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+				out.writeInt(record.length);
+				out.write(record);
+				out.writeLong(checksum.getValue());
+				out.flush();
+				fos.getFD().sync();
+			} finally {
+				locker.release();
+			}
+		} catch (IOException e) {
+			if (getConfiguration().getDebug().DEBUG_STORAGE) {
+				getConfiguration().getDebug().trace(OPTION_DEBUG_STORAGE,
+						"Error writing framework.info journal: " + e.getMessage()); //$NON-NLS-1$
+				getConfiguration().getDebug().traceThrowable(OPTION_DEBUG_STORAGE, e);
+			}
+			// the journal may be corrupt now; save the complete framework.info
+			journalRecords = -1;
+			return false;
+		}
+		journalRecords++;
+		return true;
+	}
+
+	private void deleteJournal() {
+		File journal = new File(childRoot, FRAMEWORK_INFO_JOURNAL);
+		journalRecords = journal.delete() || !journal.exists() ? 0 : -1;
+	}
+
+	/**
+	 * Loads the records of the journal which were appended after the loaded
+	 * framework.info was saved. Loading stops at the first record which is
+	 * incomplete or was appended to a different framework.info. In that case the
+	 * journal is not appended to until the complete framework.info is saved again.
+	 */
+	private void loadJournal() {
+		File journal = new File(childRoot, FRAMEWORK_INFO_JOURNAL);
+		long length = journal.length();
+		if (length == 0) {
+			journalRecords = 0;
+			return;
+		}
+		int records = 0;
+		long position = 0;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journal)))) {
+			while (position < length) {
+				if (length - position < 12) {
+					break;
+				}
+				int recordLength = in.readInt();
+				if (recordLength < 0 || recordLength > length - position - 12) {
+					break;
+				}
+				byte[] record = new byte[recordLength];
+				in.readFully(record);
+				CRC32 checksum = new CRC32();
+				checksum.update(record, 0, record.length);
+				if (checksum.getValue() != in.readLong()) {
+					break;
+				}
+				if (!moduleDatabase.loadModifications(new DataInputStream(new ByteArrayInputStream(record)))) {
+					break;
+				}
+				records++;
+				position += recordLength + 12;
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			if (getConfiguration().getDebug().DEBUG_STORAGE) {
+				getConfiguration().getDebug().trace(OPTION_DEBUG_STORAGE,
+						"Error reading framework.info journal: " + e.getMessage()); //$NON-NLS-1$
+				getConfiguration().getDebug().traceThrowable(OPTION_DEBUG_STORAGE, e);
+			}
+		}
+		// the loaded modifications are already persistent
+		lastSavedTimestamp = moduleDatabase.getTimestamp();
+		journalRecords = position == length ? records : -1;
+	}
+
 	private void savePermissionData(DataOutputStream out) throws IOException {
 		permissionData.savePermissionData(out);
 	}
@@ -2093,8 +2519,7 @@ public class Storage {
 		// Use LinkedHashSet for optimized performance of contains() plus
 		// ordering guarantees.
 		LinkedHashSet<String> pathList = new LinkedHashSet<>();
-		Filter patternFilter = null;
-		Hashtable<String, String> patternProps = null;
+		FilePatternMatcher patternMatcher = null;
 		if (filePattern != null) {
 			// Optimization: If the file pattern does not include a wildcard or escape char
 			// then it must represent a single file.
@@ -2107,17 +2532,16 @@ public class Storage {
 				else
 					path += path.charAt(path.length() - 1) == '/' ? filePattern : '/' + filePattern;
 				for (BundleFile bundleFile : bundleFiles) {
-					if (bundleFile.getEntry(path) != null && !pathList.contains(path))
+					if (bundleFile.getEntry(path) != null) {
 						pathList.add(path);
+						break;
+					}
 				}
 				return new ArrayList<>(pathList);
 			}
 			// For when the file pattern includes a wildcard.
 			try {
-				// create a file pattern filter with 'filename' as the key
-				patternFilter = FilterImpl.newInstance("(filename=" + sanitizeFilterInput(filePattern) + ")"); //$NON-NLS-1$ //$NON-NLS-2$
-				// create a single hashtable to be shared during the recursive search
-				patternProps = new Hashtable<>(2);
+				patternMatcher = FilePatternMatcher.compile(filePattern);
 			} catch (InvalidSyntaxException e) {
 				// TODO something unexpected happened; log error and return nothing
 				// Bundle b = context == null ? null : context.getBundle();
@@ -2127,7 +2551,7 @@ public class Storage {
 		}
 		// find the entry paths for the datas
 		for (BundleFile bundleFile : bundleFiles) {
-			listEntryPaths(bundleFile, path, patternFilter, patternProps, options, pathList);
+			listEntryPaths(bundleFile, path, patternMatcher, options, pathList);
 		}
 		return new ArrayList<>(pathList);
 	}
@@ -2174,8 +2598,8 @@ public class Storage {
 
 	// Use LinkedHashSet for optimized performance of contains() plus ordering
 	// guarantees.
-	private static LinkedHashSet<String> listEntryPaths(BundleFile bundleFile, String path, Filter patternFilter,
-			Hashtable<String, String> patternProps, int options, LinkedHashSet<String> pathList) {
+	private static LinkedHashSet<String> listEntryPaths(BundleFile bundleFile, String path,
+			FilePatternMatcher patternMatcher, int options, LinkedHashSet<String> pathList) {
 		if (pathList == null)
 			pathList = new LinkedHashSet<>();
 		boolean recurse = (options & BundleWiring.FINDENTRIES_RECURSE) != 0;
@@ -2184,9 +2608,8 @@ public class Storage {
 			return pathList;
 		while (entryPaths.hasMoreElements()) {
 			String entry = entryPaths.nextElement();
-			int lastSlash = entry.lastIndexOf('/');
-			if (patternProps != null) {
-				int secondToLastSlash = entry.lastIndexOf('/', lastSlash - 1);
+			if (patternMatcher != null) {
+				int lastSlash = entry.lastIndexOf('/');
 				int fileStart;
 				int fileEnd = entry.length();
 				if (lastSlash < 0)
@@ -2195,18 +2618,14 @@ public class Storage {
 					fileStart = lastSlash + 1;
 				else {
 					fileEnd = lastSlash; // leave the lastSlash out
-					if (secondToLastSlash < 0)
-						fileStart = 0;
-					else
-						fileStart = secondToLastSlash + 1;
+					fileStart = entry.lastIndexOf('/', lastSlash - 1) + 1;
 				}
-				String fileName = entry.substring(fileStart, fileEnd);
-				// set the filename to the current entry
-				patternProps.put("filename", fileName); //$NON-NLS-1$
+				// match the file name of the current entry
+				if (!patternMatcher.matches(entry, fileStart, fileEnd))
+					continue;
 			}
-			// prevent duplicates and match on the patternFilter
-			if (!pathList.contains(entry) && (patternFilter == null || patternFilter.matchCase(patternProps)))
-				pathList.add(entry);
+			// the set prevents duplicates
+			pathList.add(entry);
 		}
 		return pathList;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2018 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,8 @@ import java.io.File;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
@@ -67,6 +69,11 @@ public abstract class CloseableBundleFile<E> extends BundleFile {
 
 	private int referenceCount = 0;
 
+	/**
+	 * The sorted paths of the open bundle file, guarded by the open lock
+	 */
+	private String[] sortedPaths;
+
 	public CloseableBundleFile(File basefile, BundleInfo.Generation generation, MRUBundleFileList mruList,
 			Debug debug) {
 		super(basefile);
@@ -190,6 +197,36 @@ public abstract class CloseableBundleFile<E> extends BundleFile {
 
 	protected abstract Iterable<String> getPaths();
 
+	/**
+	 * Returns the paths of this bundle file in sorted order. The sorted paths are
+	 * kept until the bundle file is closed. Must be called while holding the open
+	 * lock.
+	 * 
+	 * @return the sorted paths
+	 */
+	private String[] getSortedPaths() {
+		String[] result = sortedPaths;
+		if (result == null) {
+			ArrayList<String> paths = new ArrayList<>();
+			for (String path : getPaths()) {
+				paths.add(path);
+			}
+			result = paths.toArray(new String[paths.size()]);
+			Arrays.sort(result);
+			sortedPaths = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the index of the first of the sorted paths that is greater than or
+	 * equal to the specified key.
+	 */
+	private static int lowerBound(String[] paths, int fromIndex, String key) {
+		int index = Arrays.binarySearch(paths, fromIndex, paths.length, key);
+		return index < 0 ? -(index + 1) : index;
+	}
+
 	private File getExtractFile(String entryName) {
 		if (generation == null)
 			return null;
@@ -274,10 +311,10 @@ public abstract class CloseableBundleFile<E> extends BundleFile {
 			if (dir.length() > 0 && dir.charAt(dir.length() - 1) != '/')
 				dir = dir + '/';
 
-			for (String entry : getPaths()) {
-				if (entry.startsWith(dir)) {
-					return true;
-				}
+			String[] paths = getSortedPaths();
+			int index = lowerBound(paths, 0, dir);
+			if (index < paths.length && paths[index].startsWith(dir)) {
+				return true;
 			}
 		} finally {
 			releaseOpen();
@@ -322,16 +359,22 @@ public abstract class CloseableBundleFile<E> extends BundleFile {
 				path = new StringBuilder(path).append("/").toString(); //$NON-NLS-1$
 
 			LinkedHashSet<String> result = new LinkedHashSet<>();
-			// Get all entries and add the ones of interest.
-			for (String entryPath : getPaths()) {
-				// Is the entry of possible interest? Note that
-				// string.startsWith("") == true.
-				if (entryPath.startsWith(path)) {
-					// If we get here, we know that the entry is either (1) equal to
-					// path, (2) a file under path, or (3) a subdirectory of path.
-					if (path.length() < entryPath.length()) {
-						// If we get here, we know that entry is not equal to path.
-						getEntryPaths(path, entryPath.substring(path.length()), recurse, result);
+			// Only the sorted paths starting with path are of interest. Note that
+			// string.startsWith("") == true.
+			String[] paths = getSortedPaths();
+			int index = lowerBound(paths, 0, path);
+			while (index < paths.length && paths[index].startsWith(path)) {
+				String entryPath = paths[index++];
+				// If we get here, we know that the entry is either (1) equal to
+				// path, (2) a file under path, or (3) a subdirectory of path.
+				if (path.length() < entryPath.length()) {
+					// If we get here, we know that entry is not equal to path.
+					getEntryPaths(path, entryPath.substring(path.length()), recurse, result);
+					int slash = recurse ? -1 : entryPath.indexOf('/', path.length());
+					if (slash != -1) {
+						// skip the remaining paths of the subdirectory; they all sort before the
+						// subdirectory name followed by the character after '/'
+						index = lowerBound(paths, index, entryPath.substring(0, slash) + (char) ('/' + 1));
 					}
 				}
 			}
@@ -380,6 +423,7 @@ public abstract class CloseableBundleFile<E> extends BundleFile {
 
 				}
 				closed = true;
+				sortedPaths = null;
 				doClose();
 				mruListRemove();
 				postClose();